@@ -0,0 +1,54 @@
+package com.denizcan.moviedatabase.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.support.CompositeCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+
+// findById sonuçları için varlık başına Caffeine cache'leri (boyut + süre sınırlı, istatistikli).
+// cache.<ad>.enabled=false olan cache'ler NoOp'a düşer; anotasyonlar değişmeden çalışır.
+// Hit / miss / eviction metrikleri Actuator tarafından cache.* olarak yayınlanır.
+// movieCounts: sayfalı listelerin COUNT sonuçları; kısa ömürlüdür, filmler değiştikçe tamamen temizlenir.
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    public static final String MOVIES = "movies";
+    public static final String ACTORS = "actors";
+    public static final String DIRECTORS = "directors";
+    public static final String AWARDS = "awards";
+    public static final String MOVIE_COUNTS = "movieCounts";
+
+    private static final List<String> ENTITY_CACHES = List.of(MOVIES, ACTORS, DIRECTORS, AWARDS);
+
+    @Bean
+    public CacheManager cacheManager(Environment environment) {
+        String defaultSpec = environment.getProperty("cache.entities.spec", "maximumSize=10000,expireAfterWrite=10m");
+
+        CaffeineCacheManager caffeine = new CaffeineCacheManager();
+        // Statik mod: yalnızca aşağıda kaydedilen cache'ler vardır, bilinmeyen isimler NoOp'a düşer
+        caffeine.setCacheNames(List.of());
+        // Bulunamayan id'ler cache'lenmez; sonradan eklenen kayıt hemen görünür
+        caffeine.setAllowNullValues(false);
+        for (String name : ENTITY_CACHES) {
+            if (environment.getProperty("cache." + name + ".enabled", Boolean.class, true)) {
+                String spec = environment.getProperty("cache." + name + ".spec", defaultSpec);
+                caffeine.registerCustomCache(name, Caffeine.from(spec).recordStats().build());
+            }
+        }
+
+        if (environment.getProperty("cache." + MOVIE_COUNTS + ".enabled", Boolean.class, true)) {
+            String spec = environment.getProperty("cache." + MOVIE_COUNTS + ".spec", "maximumSize=1000,expireAfterWrite=10s");
+            caffeine.registerCustomCache(MOVIE_COUNTS, Caffeine.from(spec).recordStats().build());
+        }
+
+        CompositeCacheManager cacheManager = new CompositeCacheManager(caffeine);
+        cacheManager.setFallbackToNoOpCache(true);
+        return cacheManager;
+    }
+}
@@ -0,0 +1,28 @@
+package com.denizcan.moviedatabase.config;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.util.UUID;
+
+// Hibernate 2. seviye cache bölgeleri için JCache (Caffeine) CacheManager'ı; hibernate.javax.cache.cache_manager ile verilir.
+// Her SessionFactory kendi CacheManager'ını kullanır: aynı JVM'deki başka bir context (ör. testler) bölgeleri paylaşmaz.
+// Bölge sınırları (boyut, yazma süresi) application.conf içindedir; CacheManager SessionFactory ile birlikte kapanır.
+@Configuration
+public class HibernateCacheConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer() {
+        return properties -> {
+            CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+            URI uri = URI.create("urn:movie-database:hibernate:" + UUID.randomUUID());
+            properties.put(ConfigSettings.CACHE_MANAGER, provider.getCacheManager(uri, provider.getDefaultClassLoader()));
+        };
+    }
+}
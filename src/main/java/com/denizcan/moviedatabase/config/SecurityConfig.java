@@ -2,6 +2,7 @@ package com.denizcan.moviedatabase.config;
 
 import com.denizcan.moviedatabase.security.CustomUserDetailsService;
 import com.denizcan.moviedatabase.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -36,14 +37,21 @@ public class SecurityConfig {
         http
             .csrf(AbstractHttpConfigurer::disable)
             .authorizeHttpRequests(auth -> auth
+                // Akış (StreamingResponseBody) cevaplarının ASYNC dispatch'i; yetki ilk istekte kontrol edildi
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 // Public endpoints
                 .requestMatchers("/auth/**", "/h2-console/**", "/swagger-ui/**", "/api-docs/**").permitAll()
                 .requestMatchers("/movies", "/movies/search", "/movies/year/**", "/movies/rating/**", 
-                               "/movies/series", "/movies/genre/**", "/movies/top-rated", "/movies/latest").permitAll()
-                .requestMatchers("/movies/filter").permitAll()
+                               "/movies/series", "/movies/genre/**", "/movies/genres", "/movies/top-rated", "/movies/latest").permitAll()
+                .requestMatchers("/movies/filter", "/movies/facets").permitAll()
+                .requestMatchers("/movies/fulltext", "/movies/suggest").permitAll()
                 // Protected endpoints
+                .requestMatchers("/movies/bulk").hasRole("ADMIN")
                 .requestMatchers("/movies/**").hasAnyRole("USER", "ADMIN")
                 .requestMatchers("/actors/**", "/directors/**", "/awards/**").hasRole("ADMIN")
+                .requestMatchers("/admin/**").hasRole("ADMIN")
+                .requestMatchers("/actuator/health").permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
                 .anyRequest().authenticated()
             )
             .sessionManagement(session -> session
@@ -4,8 +4,10 @@ import com.denizcan.moviedatabase.model.Actor;
 import com.denizcan.moviedatabase.service.ActorService;
 import com.denizcan.moviedatabase.dto.ActorDTO;
 import com.denizcan.moviedatabase.mapper.ActorMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Optional;
@@ -15,9 +17,11 @@ import java.util.stream.Collectors;
 @RequestMapping("/actors")
 public class ActorController {
     private final ActorService actorService;
+    private final ObjectMapper objectMapper;
 
-    public ActorController(ActorService actorService) {
+    public ActorController(ActorService actorService, ObjectMapper objectMapper) {
         this.actorService = actorService;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping
@@ -28,6 +32,17 @@ public class ActorController {
                 .collect(Collectors.toList());
     }
 
+    // Akış modu: liste bellekte kurulmadan parça parça yazılır
+    @GetMapping(produces = JsonStreams.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllActors() {
+        return JsonStreams.ndjson(objectMapper, actorService::streamAll, ActorMapper::toDTO);
+    }
+
+    @GetMapping(params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamAllActorsAsArray() {
+        return JsonStreams.jsonArray(objectMapper, actorService::streamAll, ActorMapper::toDTO);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ActorDTO> getActorById(@PathVariable Long id) {
         Optional<Actor> actor = actorService.findById(id);
@@ -2,117 +2,134 @@ package com.denizcan.moviedatabase.controller;
 
 import com.denizcan.moviedatabase.dto.AuthRequest;
 import com.denizcan.moviedatabase.dto.AuthResponse;
+import com.denizcan.moviedatabase.dto.AvailabilityResponse;
 import com.denizcan.moviedatabase.model.User;
-import com.denizcan.moviedatabase.repository.UserRepository;
 import com.denizcan.moviedatabase.security.JwtUtil;
+import com.denizcan.moviedatabase.security.PasswordHashingExecutor;
+import com.denizcan.moviedatabase.service.UserAccountService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 @RestController
 @RequestMapping("/auth")
 @Tag(name = "Kimlik Doğrulama", description = "Kullanıcı kayıt ve giriş işlemleri")
 public class AuthController {
     
     private final AuthenticationManager authenticationManager;
-    private final UserRepository userRepository;
+    private final UserAccountService userAccountService;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final PasswordHashingExecutor passwordHashing;
+    // Hash sonrası adımlar (veritabanı kaydı, token) uygulamanın genel görev havuzunda devam eder;
+    // CPU sayısı kadar olan hash thread'leri JDBC beklerken boşta tutulmaz
+    private final Executor applicationExecutor;
     
     public AuthController(AuthenticationManager authenticationManager, 
-                         UserRepository userRepository, 
+                         UserAccountService userAccountService, 
                          PasswordEncoder passwordEncoder, 
-                         JwtUtil jwtUtil) {
+                         JwtUtil jwtUtil,
+                         PasswordHashingExecutor passwordHashing,
+                         @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor applicationExecutor) {
         this.authenticationManager = authenticationManager;
-        this.userRepository = userRepository;
+        this.userAccountService = userAccountService;
         this.passwordEncoder = passwordEncoder;
         this.jwtUtil = jwtUtil;
+        this.passwordHashing = passwordHashing;
+        this.applicationExecutor = applicationExecutor;
     }
     
     @PostMapping("/register")
     @Operation(summary = "Kullanıcı kaydı", description = "Yeni kullanıcı kaydı oluşturur")
-    public ResponseEntity<AuthResponse> register(@Valid @RequestBody AuthRequest request) {
-        // Kullanıcı adı kontrolü
-        if (userRepository.existsByUsername(request.getUsername())) {
-            return ResponseEntity.badRequest()
-                .body(new AuthResponse(null, "Bu kullanıcı adı zaten kullanılıyor", null, null));
-        }
-        
-        // Email kontrolü
-        if (userRepository.existsByEmail(request.getEmail())) {
-            return ResponseEntity.badRequest()
-                .body(new AuthResponse(null, "Bu email adresi zaten kullanılıyor", null, null));
-        }
-        
-        // Yeni kullanıcı oluştur
-        User user = new User();
-        user.setUsername(request.getUsername());
-        user.setPassword(passwordEncoder.encode(request.getPassword()));
-        user.setEmail(request.getEmail());
-        user.setRole(User.Role.USER); // Varsayılan rol
-        
-        userRepository.save(user);
-        
-        // JWT token oluştur
-        String token = jwtUtil.generateToken(user);
-        
-        return ResponseEntity.ok(new AuthResponse(token, "Kullanıcı başarıyla kaydedildi", 
-                                                 user.getUsername(), user.getRole().name()));
+    public CompletableFuture<ResponseEntity<AuthResponse>> register(@Valid @RequestBody AuthRequest request) {
+        return registerUser(request, User.Role.USER, "Kullanıcı başarıyla kaydedildi"); // Varsayılan rol
     }
     
     @PostMapping("/login")
     @Operation(summary = "Kullanıcı girişi", description = "Kullanıcı girişi yapar ve JWT token döner")
-    public ResponseEntity<AuthResponse> login(@Valid @RequestBody AuthRequest request) {
-        try {
-            Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(request.getUsername(), request.getPassword())
-            );
-            
-            User user = (User) authentication.getPrincipal();
-            String token = jwtUtil.generateToken(user);
-            
-            return ResponseEntity.ok(new AuthResponse(token, "Giriş başarılı", 
-                                                     user.getUsername(), user.getRole().name()));
-        } catch (Exception e) {
-            return ResponseEntity.badRequest()
-                .body(new AuthResponse(null, "Geçersiz kullanıcı adı veya şifre", null, null));
-        }
+    public CompletableFuture<ResponseEntity<AuthResponse>> login(@Valid @RequestBody AuthRequest request) {
+        // BCrypt doğrulaması (authenticate) ayrı havuzda çalışır. Kullanıcı sorgusu authenticate'in içinde kalır:
+        // kullanıcı yoksa da sahte hash doğrulaması yapılarak (DaoAuthenticationProvider) süre farkı gizlenir.
+        return passwordHashing.submit("verify", () -> authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(request.getUsername(), request.getPassword())
+                ))
+                .thenApplyAsync(authentication -> {
+                    User user = (User) authentication.getPrincipal();
+                    String token = jwtUtil.generateToken(user);
+                    
+                    return ResponseEntity.ok(new AuthResponse(token, "Giriş başarılı", 
+                                                             user.getUsername(), user.getRole().name()));
+                }, applicationExecutor)
+                .exceptionally(e -> ResponseEntity.badRequest()
+                    .body(new AuthResponse(null, "Geçersiz kullanıcı adı veya şifre", null, null)));
     }
     
     @PostMapping("/register/admin")
     @Operation(summary = "Admin kaydı", description = "Yeni admin kullanıcısı kaydı oluşturur")
-    public ResponseEntity<AuthResponse> registerAdmin(@Valid @RequestBody AuthRequest request) {
-        // Kullanıcı adı kontrolü
-        if (userRepository.existsByUsername(request.getUsername())) {
-            return ResponseEntity.badRequest()
-                .body(new AuthResponse(null, "Bu kullanıcı adı zaten kullanılıyor", null, null));
+    public CompletableFuture<ResponseEntity<AuthResponse>> registerAdmin(@Valid @RequestBody AuthRequest request) {
+        return registerUser(request, User.Role.ADMIN, "Admin kullanıcısı başarıyla kaydedildi");
+    }
+    
+    @GetMapping("/available")
+    @Operation(summary = "Kullanıcı adı / email uygunluğu", description = "Kayıtlı olmadığı kesin olan değerler veritabanına gitmeden cevaplanır")
+    public ResponseEntity<AvailabilityResponse> available(@RequestParam(required = false) String username,
+                                                          @RequestParam(required = false) String email) {
+        if (username == null && email == null) {
+            throw new IllegalArgumentException("username veya email parametresi gerekli");
         }
-        
-        // Email kontrolü
-        if (userRepository.existsByEmail(request.getEmail())) {
-            return ResponseEntity.badRequest()
-                .body(new AuthResponse(null, "Bu email adresi zaten kullanılıyor", null, null));
+        return ResponseEntity.ok(new AvailabilityResponse(
+                username, username == null ? null : userAccountService.isUsernameAvailable(username),
+                email, email == null ? null : userAccountService.isEmailAvailable(email)));
+    }
+    
+    private CompletableFuture<ResponseEntity<AuthResponse>> registerUser(AuthRequest request, User.Role role,
+                                                                         String successMessage) {
+        // Kullanıcı adı ve email kontrolü tek sorguda (çoğu zaman hiç sorgu olmadan)
+        switch (userAccountService.findConflict(request.getUsername(), request.getEmail())) {
+            case USERNAME:
+                return CompletableFuture.completedFuture(badRequest("Bu kullanıcı adı zaten kullanılıyor"));
+            case EMAIL:
+                return CompletableFuture.completedFuture(badRequest("Bu email adresi zaten kullanılıyor"));
+            default:
+                break;
         }
         
-        // Yeni admin kullanıcısı oluştur
-        User user = new User();
-        user.setUsername(request.getUsername());
-        user.setPassword(passwordEncoder.encode(request.getPassword()));
-        user.setEmail(request.getEmail());
-        user.setRole(User.Role.ADMIN);
-        
-        userRepository.save(user);
-        
-        // JWT token oluştur
-        String token = jwtUtil.generateToken(user);
-        
-        return ResponseEntity.ok(new AuthResponse(token, "Admin kullanıcısı başarıyla kaydedildi", 
-                                                 user.getUsername(), user.getRole().name()));
+        // Yeni kullanıcı oluştur; şifre hash'i ayrı havuzda hesaplanır, kayıt hash havuzunun dışında yapılır
+        return passwordHashing.submit("encode", () -> passwordEncoder.encode(request.getPassword()))
+                .thenApplyAsync(encodedPassword -> {
+                    User user = new User();
+                    user.setUsername(request.getUsername());
+                    user.setPassword(encodedPassword);
+                    user.setEmail(request.getEmail());
+                    user.setRole(role);
+                    
+                    try {
+                        userAccountService.register(user);
+                    } catch (DataIntegrityViolationException e) {
+                        // Aynı anda gelen başka bir kayıt kontrolden sonra aynı değeri aldı
+                        return badRequest("Bu kullanıcı adı veya email adresi zaten kullanılıyor");
+                    }
+                    
+                    // JWT token oluştur
+                    String token = jwtUtil.generateToken(user);
+                    
+                    return ResponseEntity.ok(new AuthResponse(token, successMessage, 
+                                                             user.getUsername(), user.getRole().name()));
+                }, applicationExecutor);
+    }
+    
+    private static ResponseEntity<AuthResponse> badRequest(String message) {
+        return ResponseEntity.badRequest().body(new AuthResponse(null, message, null, null));
     }
-} 
\ No newline at end of file
+}
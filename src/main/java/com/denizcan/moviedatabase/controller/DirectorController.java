@@ -4,8 +4,10 @@ import com.denizcan.moviedatabase.model.Director;
 import com.denizcan.moviedatabase.service.DirectorService;
 import com.denizcan.moviedatabase.dto.DirectorDTO;
 import com.denizcan.moviedatabase.mapper.DirectorMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Optional;
@@ -15,9 +17,11 @@ import java.util.stream.Collectors;
 @RequestMapping("/directors")
 public class DirectorController {
     private final DirectorService directorService;
+    private final ObjectMapper objectMapper;
 
-    public DirectorController(DirectorService directorService) {
+    public DirectorController(DirectorService directorService, ObjectMapper objectMapper) {
         this.directorService = directorService;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping
@@ -28,6 +32,17 @@ public class DirectorController {
                 .collect(Collectors.toList());
     }
 
+    // Akış modu: liste bellekte kurulmadan parça parça yazılır
+    @GetMapping(produces = JsonStreams.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllDirectors() {
+        return JsonStreams.ndjson(objectMapper, directorService::streamAll, DirectorMapper::toDTO);
+    }
+
+    @GetMapping(params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamAllDirectorsAsArray() {
+        return JsonStreams.jsonArray(objectMapper, directorService::streamAll, DirectorMapper::toDTO);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<DirectorDTO> getDirectorById(@PathVariable Long id) {
         Optional<Director> director = directorService.findById(id);
@@ -0,0 +1,76 @@
+package com.denizcan.moviedatabase.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+// Büyük listeleri bellekte List<DTO> kurmadan yazar. Kaynak entity'leri parça parça verir,
+// her parça DTO'ya çevrilip yazıldıktan sonra istemciye flush edilir.
+final class JsonStreams {
+    static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    private JsonStreams() {}
+
+    // Servislerin streamAll(Consumer<List<T>>) metotları bu arayüze uyar
+    @FunctionalInterface
+    interface ChunkSource<T> {
+        void forEachChunk(Consumer<List<T>> consumer);
+    }
+
+    // Satır başına bir JSON nesnesi (NDJSON)
+    static <T, D> ResponseEntity<StreamingResponseBody> ndjson(ObjectMapper objectMapper, ChunkSource<T> source,
+                                                              Function<T, D> mapper) {
+        return stream(objectMapper, source, mapper, MediaType.parseMediaType(APPLICATION_NDJSON_VALUE), false);
+    }
+
+    // Tek bir JSON dizisi; normal liste cevabıyla aynı gövde
+    static <T, D> ResponseEntity<StreamingResponseBody> jsonArray(ObjectMapper objectMapper, ChunkSource<T> source,
+                                                                 Function<T, D> mapper) {
+        return stream(objectMapper, source, mapper, MediaType.APPLICATION_JSON, true);
+    }
+
+    private static <T, D> ResponseEntity<StreamingResponseBody> stream(ObjectMapper objectMapper, ChunkSource<T> source,
+                                                                       Function<T, D> mapper, MediaType mediaType,
+                                                                       boolean array) {
+        // Her değerden sonra değil, parça sonunda flush edilir
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .setRootValueSeparator(null)) {
+                if (array) {
+                    generator.writeStartArray();
+                }
+                source.forEachChunk(chunk -> {
+                    try {
+                        for (T entity : chunk) {
+                            writer.writeValue(generator, mapper.apply(entity));
+                            if (!array) {
+                                generator.writeRaw('\n');
+                            }
+                        }
+                        generator.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                if (array) {
+                    generator.writeEndArray();
+                }
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+        return ResponseEntity.ok().contentType(mediaType).body(body);
+    }
+}
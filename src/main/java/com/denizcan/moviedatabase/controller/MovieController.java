@@ -2,8 +2,17 @@ package com.denizcan.moviedatabase.controller;
 
 import com.denizcan.moviedatabase.model.Movie;
 import com.denizcan.moviedatabase.model.MovieGenre;
+import com.denizcan.moviedatabase.service.CountMode;
+import com.denizcan.moviedatabase.service.MovieImportService;
 import com.denizcan.moviedatabase.service.MovieService;
+import com.denizcan.moviedatabase.dto.BulkImportResult;
+import com.denizcan.moviedatabase.dto.CursorPage;
 import com.denizcan.moviedatabase.dto.MovieDTO;
+import com.denizcan.moviedatabase.dto.MovieFacetsDTO;
+import com.denizcan.moviedatabase.dto.MovieFilter;
+import com.denizcan.moviedatabase.dto.MoviePatchDTO;
+import com.denizcan.moviedatabase.dto.MovieSuggestionDTO;
+import com.denizcan.moviedatabase.dto.MovieSummaryDTO;
 import com.denizcan.moviedatabase.mapper.MovieMapper;
 import com.denizcan.moviedatabase.exception.ResourceNotFoundException;
 import io.swagger.v3.oas.annotations.Operation;
@@ -13,15 +22,22 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @RestController
@@ -29,9 +45,14 @@ import java.util.stream.Collectors;
 @Tag(name = "Film Yönetimi", description = "Film CRUD işlemleri için API endpoint'leri")
 public class MovieController {
     private final MovieService movieService;
+    private final MovieImportService movieImportService;
+    private final ObjectMapper objectMapper;
 
-    public MovieController(MovieService movieService) {
+    public MovieController(MovieService movieService, MovieImportService movieImportService,
+                           ObjectMapper objectMapper) {
         this.movieService = movieService;
+        this.movieImportService = movieImportService;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping
@@ -48,6 +69,26 @@ public class MovieController {
                 .collect(Collectors.toList());
     }
 
+    @GetMapping(produces = JsonStreams.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Tüm filmleri akış olarak getir (NDJSON)", description = "Filmleri bellekte liste kurmadan satır başına bir JSON olarak parça parça yazar")
+    public ResponseEntity<StreamingResponseBody> streamAllMovies() {
+        return JsonStreams.ndjson(objectMapper, movieService::streamAll, MovieMapper::toDTO);
+    }
+
+    @GetMapping(params = "stream=true")
+    @Operation(summary = "Tüm filmleri akış olarak getir (JSON dizi)", description = "Normal liste ile aynı JSON dizisini bellekte liste kurmadan parça parça yazar")
+    public ResponseEntity<StreamingResponseBody> streamAllMoviesAsArray() {
+        return JsonStreams.jsonArray(objectMapper, movieService::streamAll, MovieMapper::toDTO);
+    }
+
+    @GetMapping(params = "limit")
+    @Operation(summary = "Tüm filmleri getir (cursor)", description = "Filmleri id sırasına göre keyset sayfalama ile listeler")
+    public CursorPage<MovieDTO> getAllMoviesByCursor(
+            @Parameter(description = "Önceki sayfanın nextCursor değeri (opsiyonel)") @RequestParam(required = false) String after,
+            @Parameter(description = "Sayfa boyutu (1-100)") @RequestParam int limit) {
+        return movieService.findAll(after, limit).map(MovieMapper::toDTO);
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "ID ile film getir", description = "Belirtilen ID'ye sahip filmi getirir")
     @ApiResponses(value = {
@@ -87,21 +128,37 @@ public class MovieController {
                     content = @Content(mediaType = "application/json", 
                     schema = @Schema(implementation = MovieDTO.class))),
         @ApiResponse(responseCode = "400", description = "Geçersiz veri"),
-        @ApiResponse(responseCode = "404", description = "Film bulunamadı")
+        @ApiResponse(responseCode = "404", description = "Film bulunamadı"),
+        @ApiResponse(responseCode = "409", description = "Film bu arada başka bir istekle güncellendi")
     })
     public ResponseEntity<MovieDTO> updateMovie(
             @Parameter(description = "Film ID'si", required = true) @PathVariable Long id,
             @Parameter(description = "Güncellenecek film bilgileri", required = true) 
             @Valid @RequestBody MovieDTO movieDTO) {
-        if (!movieService.findById(id).isPresent()) {
-            throw new ResourceNotFoundException("Film", "id", id);
-        }
-        Movie movie = MovieMapper.toEntity(movieDTO);
-        movie.setId(id);
-        Movie savedMovie = movieService.save(movie);
+        Movie existing = movieService.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Film", "id", id));
+        Movie savedMovie = movieService.save(MovieMapper.toEntity(movieDTO, existing));
         return ResponseEntity.ok(MovieMapper.toDTO(savedMovie));
     }
 
+    @PatchMapping("/{id}")
+    @Operation(summary = "Film kısmi güncelle",
+              description = "Yalnızca gönderilen alanları tek UPDATE ile yazar; version okunan sürüm olmalıdır. " +
+                            "Yeni sürüm ETag başlığında döner.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Film başarıyla güncellendi"),
+        @ApiResponse(responseCode = "400", description = "Geçersiz veri"),
+        @ApiResponse(responseCode = "404", description = "Film bulunamadı"),
+        @ApiResponse(responseCode = "409", description = "Film bu arada başka bir istekle güncellendi")
+    })
+    public ResponseEntity<Void> patchMovie(
+            @Parameter(description = "Film ID'si", required = true) @PathVariable Long id,
+            @Parameter(description = "Değişen alanlar ve okunan sürüm", required = true)
+            @Valid @RequestBody MoviePatchDTO patch) {
+        long version = movieService.patch(id, patch);
+        return ResponseEntity.noContent().eTag(Long.toString(version)).build();
+    }
+
     @DeleteMapping("/{id}")
     @Operation(summary = "Film sil", description = "Belirtilen ID'ye sahip filmi siler")
     @ApiResponses(value = {
@@ -110,27 +167,52 @@ public class MovieController {
     })
     public ResponseEntity<Void> deleteMovie(
             @Parameter(description = "Film ID'si", required = true) @PathVariable Long id) {
-        if (!movieService.findById(id).isPresent()) {
-            throw new ResourceNotFoundException("Film", "id", id);
-        }
+        // Önce okuma yapılmaz: silinen satır yoksa servis 404 fırlatır
         movieService.deleteById(id);
         return ResponseEntity.noContent().build();
     }
 
     // Arama ve filtreleme endpoint'leri
     @GetMapping("/search")
-    @Operation(summary = "Film arama", description = "Başlığa göre film arama")
+    @Operation(summary = "Film arama", description = "Başlığa göre film arama; fuzzy=true ile yazım hatalarına toleranslı arama yapar")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Arama sonuçları başarıyla getirildi")
     })
     public List<MovieDTO> searchMovies(
-            @Parameter(description = "Aranacak film başlığı") @RequestParam String title) {
-        return movieService.findByTitle(title)
+            @Parameter(description = "Aranacak film başlığı") @RequestParam String title,
+            @Parameter(description = "Benzerlik (trigram) araması") @RequestParam(defaultValue = "false") boolean fuzzy,
+            @Parameter(description = "Maksimum sonuç sayısı (fuzzy modunda, 1-100)") @RequestParam(defaultValue = "20") int limit) {
+        List<Movie> movies = fuzzy
+                ? movieService.findByTitleFuzzy(title, limit)
+                : movieService.findByTitle(title);
+        return movies
                 .stream()
                 .map(MovieMapper::toDTO)
                 .collect(Collectors.toList());
     }
 
+    @GetMapping("/fulltext")
+    @Operation(summary = "Tam metin arama", description = "Başlık ve özet üzerinde ilgi sırasına göre (BM25) film arama")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Arama sonuçları başarıyla getirildi")
+    })
+    public List<MovieDTO> searchMoviesFullText(
+            @Parameter(description = "Arama ifadesi") @RequestParam String q,
+            @Parameter(description = "Maksimum sonuç sayısı (1-100)") @RequestParam(defaultValue = "20") int limit) {
+        return movieService.searchFullText(q, limit)
+                .stream()
+                .map(MovieMapper::toDTO)
+                .collect(Collectors.toList());
+    }
+
+    @GetMapping("/suggest")
+    @Operation(summary = "Başlık önerileri", description = "Öneke göre IMDB puanı en yüksek film başlıklarını önerir (otomatik tamamlama)")
+    public List<MovieSuggestionDTO> suggestTitles(
+            @Parameter(description = "Başlık öneki") @RequestParam String prefix,
+            @Parameter(description = "Maksimum öneri sayısı (en fazla 10)") @RequestParam(defaultValue = "10") int limit) {
+        return movieService.suggestTitles(prefix, limit);
+    }
+
     @GetMapping("/year/{year}")
     @Operation(summary = "Yıla göre filmler", description = "Belirli bir yılda yayınlanan filmleri getirir")
     public List<MovieDTO> getMoviesByYear(
@@ -191,42 +273,138 @@ public class MovieController {
                 .collect(Collectors.toList());
     }
 
+    @GetMapping("/genres")
+    @Operation(summary = "Çoklu tür araması", description = "Tür kümeleriyle filtreler: all'daki türlerin hepsi, any'dekilerden en az biri, none'dakilerin hiçbiri")
+    public Page<MovieDTO> getMoviesByGenres(
+            @Parameter(description = "Filmin sahip olması gereken türler (virgülle ayrılmış, opsiyonel)") @RequestParam(required = false) Set<MovieGenre> all,
+            @Parameter(description = "En az biri bulunması gereken türler (virgülle ayrılmış, opsiyonel)") @RequestParam(required = false) Set<MovieGenre> any,
+            @Parameter(description = "Bulunmaması gereken türler (virgülle ayrılmış, opsiyonel)") @RequestParam(required = false) Set<MovieGenre> none,
+            @Parameter(description = "Sayfa numarası") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Sayfa boyutu") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Sıralama alanı") @RequestParam(defaultValue = "imdbRating") String sortBy,
+            @Parameter(description = "Sıralama yönü") @RequestParam(defaultValue = "desc") String sortDir) {
+        
+        Pageable pageable = PageRequest.of(page, size, MovieFilter.sort(sortBy, sortDir));
+        
+        return movieService.findByGenres(all, any, none, pageable).map(MovieMapper::toDTO);
+    }
+
     @GetMapping("/filter")
-    @Operation(summary = "Gelişmiş filtreleme", description = "Çoklu kriterlere göre film filtreleme")
-    public Page<MovieDTO> filterMovies(
-            @Parameter(description = "Film başlığı (opsiyonel)") @RequestParam(required = false) String title,
-            @Parameter(description = "Yayın yılı (opsiyonel)") @RequestParam(required = false) Integer year,
-            @Parameter(description = "Minimum IMDB puanı (opsiyonel)") @RequestParam(required = false) Double minRating,
+    @Operation(summary = "Gelişmiş filtreleme", description = "Başlık, yıl, puan, tür, yönetmen, oyuncu, ödül, süre ve bütçe kriterlerine göre film filtreleme; yalnızca verilen kriterler sorguya eklenir")
+    public Slice<MovieDTO> filterMovies(
+            @ParameterObject MovieFilter filter,
             @Parameter(description = "Sayfa numarası") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Sayfa boyutu") @RequestParam(defaultValue = "10") int size,
-            @Parameter(description = "Sıralama alanı") @RequestParam(defaultValue = "title") String sortBy,
-            @Parameter(description = "Sıralama yönü") @RequestParam(defaultValue = "asc") String sortDir) {
+            @Parameter(description = "Sıralama alanı (id, title, year, imdbRating)") @RequestParam(defaultValue = "title") String sortBy,
+            @Parameter(description = "Sıralama yönü") @RequestParam(defaultValue = "asc") String sortDir,
+            @Parameter(description = "Toplam sayı modu: EXACT (COUNT sorgusu), CACHED (kısa süreli cache), APPROXIMATE (tablo istatistiği), NONE (toplamsız Slice)") @RequestParam(defaultValue = "EXACT") CountMode count) {
         
-        Sort sort = sortDir.equalsIgnoreCase("desc") ? 
-            Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
-        Pageable pageable = PageRequest.of(page, size, sort);
+        Pageable pageable = PageRequest.of(page, size, MovieFilter.sort(sortBy, sortDir));
         
-        Page<Movie> movies = movieService.findMoviesWithFilters(title, year, minRating, pageable);
+        Slice<Movie> movies = movieService.findMoviesWithFilters(filter, pageable, count);
         return movies.map(MovieMapper::toDTO);
     }
 
+    @GetMapping("/facets")
+    @Operation(summary = "Facet'li arama", description = "Filtreleme sonuç sayfasıyla birlikte filtreye uyan filmlerin tür, on yıl ve puan aralığı sayılarını döner")
+    public MovieFacetsDTO facetMovies(
+            @ParameterObject MovieFilter filter,
+            @Parameter(description = "Sayfa numarası") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Sayfa boyutu") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Sıralama alanı (id, title, year, imdbRating)") @RequestParam(defaultValue = "title") String sortBy,
+            @Parameter(description = "Sıralama yönü") @RequestParam(defaultValue = "asc") String sortDir) {
+        
+        Pageable pageable = PageRequest.of(page, size, MovieFilter.sort(sortBy, sortDir));
+        
+        // Sayfa filtre sorgusundan, sayılar bellek içi facet indeksinden tek geçişte gelir
+        Page<MovieDTO> results = movieService.findMoviesWithFilters(filter, pageable)
+                .map(MovieMapper::toDTO);
+        return MovieMapper.toFacetsDTO(results, movieService.countFacets(filter));
+    }
+
+    @GetMapping(value = "/filter", params = "limit")
+    @Operation(summary = "Gelişmiş filtreleme (cursor)", description = "Çoklu kriterlere göre filtreler, id sırasına göre keyset sayfalama yapar")
+    public CursorPage<MovieDTO> filterMoviesByCursor(
+            @ParameterObject MovieFilter filter,
+            @Parameter(description = "Önceki sayfanın nextCursor değeri (opsiyonel)") @RequestParam(required = false) String after,
+            @Parameter(description = "Sayfa boyutu (1-100)") @RequestParam int limit) {
+        return movieService.findMoviesWithFilters(filter, after, limit).map(MovieMapper::toDTO);
+    }
+
     @GetMapping("/top-rated")
     @Operation(summary = "En yüksek puanlı filmler", description = "IMDB puanına göre en yüksek puanlı filmleri getirir")
-    public Page<MovieDTO> getTopRatedMovies(
+    public Slice<MovieDTO> getTopRatedMovies(
             @Parameter(description = "Sayfa numarası") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "Sayfa boyutu") @RequestParam(defaultValue = "10") int size) {
+            @Parameter(description = "Sayfa boyutu") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Film türü (opsiyonel)") @RequestParam(required = false) MovieGenre genre,
+            @Parameter(description = "Toplam sayı modu: EXACT (COUNT sorgusu), CACHED (kısa süreli cache), APPROXIMATE (tablo istatistiği), NONE (toplamsız Slice)") @RequestParam(defaultValue = "EXACT") CountMode count) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("imdbRating").descending());
-        Page<Movie> movies = movieService.findTopRatedMovies(pageable);
+        Slice<Movie> movies = movieService.findTopRatedMovies(genre, pageable, count);
         return movies.map(MovieMapper::toDTO);
     }
 
     @GetMapping("/latest")
     @Operation(summary = "En yeni filmler", description = "Yayın yılına göre en yeni filmleri getirir")
-    public Page<MovieDTO> getLatestMovies(
+    public Slice<MovieDTO> getLatestMovies(
             @Parameter(description = "Sayfa numarası") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "Sayfa boyutu") @RequestParam(defaultValue = "10") int size) {
+            @Parameter(description = "Sayfa boyutu") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Film türü (opsiyonel)") @RequestParam(required = false) MovieGenre genre,
+            @Parameter(description = "Toplam sayı modu: EXACT (COUNT sorgusu), CACHED (kısa süreli cache), APPROXIMATE (tablo istatistiği), NONE (toplamsız Slice)") @RequestParam(defaultValue = "EXACT") CountMode count) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("year").descending());
-        Page<Movie> movies = movieService.findLatestMovies(pageable);
+        Slice<Movie> movies = movieService.findLatestMovies(genre, pageable, count);
         return movies.map(MovieMapper::toDTO);
     }
+
+    @GetMapping(value = "/top-rated", params = "limit")
+    @Operation(summary = "En yüksek puanlı filmler (cursor)", description = "IMDB puanına göre keyset sayfalama ile listeler")
+    public CursorPage<MovieDTO> getTopRatedMoviesByCursor(
+            @Parameter(description = "Önceki sayfanın nextCursor değeri (opsiyonel)") @RequestParam(required = false) String after,
+            @Parameter(description = "Sayfa boyutu (1-100)") @RequestParam int limit) {
+        return movieService.findTopRatedMovies(after, limit).map(MovieMapper::toDTO);
+    }
+
+    @GetMapping(value = "/latest", params = "limit")
+    @Operation(summary = "En yeni filmler (cursor)", description = "Yayın yılına göre keyset sayfalama ile listeler")
+    public CursorPage<MovieDTO> getLatestMoviesByCursor(
+            @Parameter(description = "Önceki sayfanın nextCursor değeri (opsiyonel)") @RequestParam(required = false) String after,
+            @Parameter(description = "Sayfa boyutu (1-100)") @RequestParam int limit) {
+        return movieService.findLatestMovies(after, limit).map(MovieMapper::toDTO);
+    }
+
+    // Liste görünümü (view=summary): özet, bütçe, türler ve ilişkiler olmadan sayfalı hafif liste
+    @GetMapping(params = {"view=summary", "!limit"})
+    @Operation(summary = "Film özet listesi", description = "Filmleri yalnızca liste görünümü alanlarıyla sayfalı getirir")
+    public Page<MovieSummaryDTO> getAllMovieSummaries(
+            @Parameter(description = "Sayfa numarası") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Sayfa boyutu") @RequestParam(defaultValue = "20") int size) {
+        return movieService.findAllSummaries(PageRequest.of(page, size));
+    }
+
+    @GetMapping(value = "/top-rated", params = {"view=summary", "!limit"})
+    @Operation(summary = "En yüksek puanlı filmler (özet)", description = "IMDB puanına göre sıralı hafif film listesi")
+    public Page<MovieSummaryDTO> getTopRatedMovieSummaries(
+            @Parameter(description = "Sayfa numarası") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Sayfa boyutu") @RequestParam(defaultValue = "10") int size) {
+        return movieService.findTopRatedSummaries(PageRequest.of(page, size));
+    }
+
+    @GetMapping(value = "/latest", params = {"view=summary", "!limit"})
+    @Operation(summary = "En yeni filmler (özet)", description = "Yayın yılına göre sıralı hafif film listesi")
+    public Page<MovieSummaryDTO> getLatestMovieSummaries(
+            @Parameter(description = "Sayfa numarası") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Sayfa boyutu") @RequestParam(defaultValue = "10") int size) {
+        return movieService.findLatestSummaries(PageRequest.of(page, size));
+    }
+
+    @PostMapping(value = "/bulk", consumes = "application/x-ndjson")
+    @Operation(summary = "Toplu film içe aktarma", description = "Her satırı bir film olan NDJSON akışını doğrulayıp JDBC batch ile ekler, satır bazlı hataları raporlar")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "İçe aktarma tamamlandı (hatalı satırlar sonuçta listelenir)",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = BulkImportResult.class))),
+        @ApiResponse(responseCode = "403", description = "Yetkisiz erişim")
+    })
+    public BulkImportResult bulkImportMovies(InputStream body) throws IOException {
+        return movieImportService.importNdjson(body);
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.denizcan.moviedatabase.controller;
+
+import com.denizcan.moviedatabase.dto.SnapshotInfo;
+import com.denizcan.moviedatabase.snapshot.MovieSnapshotWriter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+@RestController
+@RequestMapping("/admin/snapshot")
+@Tag(name = "Snapshot", description = "Salt okunur düğümler için film kataloğu snapshot'ı")
+public class SnapshotController {
+    private final MovieSnapshotWriter snapshotWriter;
+    private final Path outputPath;
+
+    public SnapshotController(MovieSnapshotWriter snapshotWriter,
+                              @Value("${movie.snapshot.output:data/movies.snapshot}") Path outputPath) {
+        this.snapshotWriter = snapshotWriter;
+        this.outputPath = outputPath;
+    }
+
+    @PostMapping
+    @Operation(summary = "Snapshot oluştur", description = "Film kataloğunu sütun tabanlı snapshot dosyasına yazar; mevcut dosya atomik olarak değiştirilir")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Snapshot başarıyla yazıldı")
+    })
+    public SnapshotInfo createSnapshot() throws IOException {
+        return snapshotWriter.write(outputPath);
+    }
+}
@@ -0,0 +1,35 @@
+package com.denizcan.moviedatabase.controller;
+
+import com.denizcan.moviedatabase.dto.AuthResponse;
+import com.denizcan.moviedatabase.model.User;
+import com.denizcan.moviedatabase.service.UserAccountService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/admin/users")
+@Tag(name = "Kullanıcı Yönetimi", description = "Rol değişikliği ve token iptali")
+public class UserAdminController {
+    private final UserAccountService userAccountService;
+
+    public UserAdminController(UserAccountService userAccountService) {
+        this.userAccountService = userAccountService;
+    }
+
+    @PutMapping("/{username}/role")
+    @Operation(summary = "Kullanıcı rolünü değiştir", description = "Rolü günceller; kullanıcının mevcut token'ları geçersiz olur ve yeniden giriş yapması gerekir")
+    public ResponseEntity<AuthResponse> changeRole(@PathVariable String username, @RequestParam User.Role role) {
+        User user = userAccountService.changeRole(username, role);
+        return ResponseEntity.ok(new AuthResponse(null, "Rol güncellendi, mevcut token'lar iptal edildi",
+                                                 user.getUsername(), user.getRole().name()));
+    }
+
+    @PostMapping("/{username}/revoke")
+    @Operation(summary = "Token'ları iptal et", description = "Kullanıcının şu ana kadar aldığı tüm token'ları geçersiz kılar")
+    public ResponseEntity<Void> revokeTokens(@PathVariable String username) {
+        userAccountService.revokeTokens(username);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,114 @@
+package com.denizcan.moviedatabase.diagnostics;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+// Bir HTTP isteği boyunca çalışan SQL ifadelerinin sayacı (istek thread'ine bağlı).
+// Aynı biçimdeki sorgu eşikten fazla tekrarlanırsa ya da toplam sorgu bütçeyi aşarsa
+// o anki çağrı noktası (uygulama kodundaki ilk frame) kaydedilir.
+public final class SqlStats {
+    private static final ThreadLocal<SqlStats> CURRENT = new ThreadLocal<>();
+
+    private static final String APP_PACKAGE = "com.denizcan.moviedatabase.";
+    private static final String OWN_PACKAGE = SqlStats.class.getPackageName() + ".";
+
+    // Literal'ler ve IN listeleri sorgu biçimine indirgenir
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final int statementBudget;
+    private final int repeatThreshold;
+
+    private int statements;
+    private long rows;
+    private long jdbcNanos;
+    private String budgetCallSite;
+    private final Map<String, Shape> shapes = new LinkedHashMap<>();
+
+    SqlStats(int statementBudget, int repeatThreshold) {
+        this.statementBudget = statementBudget;
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    static SqlStats start(int statementBudget, int repeatThreshold) {
+        SqlStats stats = new SqlStats(statementBudget, repeatThreshold);
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    // İstek dışında (açılış, arka plan işleri) null
+    static SqlStats current() {
+        return CURRENT.get();
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    void recordStatement(String sql, long nanos) {
+        statements++;
+        jdbcNanos += nanos;
+        Shape shape = shapes.computeIfAbsent(shapeOf(sql), s -> new Shape());
+        shape.count++;
+        if (shape.count == repeatThreshold + 1) {
+            shape.callSite = callSite();
+        }
+        if (statements == statementBudget + 1) {
+            budgetCallSite = callSite();
+        }
+    }
+
+    void addRows(long count) {
+        rows += count;
+    }
+
+    public int getStatements() { return statements; }
+    public long getRows() { return rows; }
+    public long getJdbcMillis() { return jdbcNanos / 1_000_000; }
+
+    // Bütçe aşımı ve tekrarlanan sorgu biçimleri için uyarı metinleri
+    List<String> warnings() {
+        List<String> warnings = new ArrayList<>();
+        if (budgetCallSite != null) {
+            warnings.add(String.format("%d sorgu çalıştı, bütçe %d; bütçeyi aşan çağrı: %s",
+                    statements, statementBudget, budgetCallSite));
+        }
+        shapes.forEach((shape, stats) -> {
+            if (stats.callSite != null) {
+                warnings.add(String.format("Aynı sorgu %d kez çalıştı (olası N+1), çağrı: %s -> %s",
+                        stats.count, stats.callSite, shape));
+            }
+        });
+        return warnings;
+    }
+
+    static String shapeOf(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = WHITESPACE.matcher(shape).replaceAll(" ").trim();
+        return IN_LIST.matcher(shape).replaceAll("in (?)");
+    }
+
+    // Proxy / Hibernate frame'leri atlanır; ilk uygulama sınıfı raporlanır
+    private static String callSite() {
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(f -> f.getClassName().startsWith(APP_PACKAGE)
+                        && !f.getClassName().startsWith(OWN_PACKAGE)
+                        && !f.getClassName().contains("$$")
+                        && !f.getClassName().contains("$HibernateProxy"))
+                .findFirst()
+                .map(f -> f.getClassName().substring(f.getClassName().lastIndexOf('.') + 1)
+                        + "." + f.getMethodName() + "(" + f.getFileName() + ":" + f.getLineNumber() + ")")
+                .orElse("bilinmiyor"));
+    }
+
+    private static final class Shape {
+        int count;
+        String callSite;
+    }
+}
@@ -0,0 +1,133 @@
+package com.denizcan.moviedatabase.diagnostics;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+// Bağlantı, ifade ve ResultSet'leri saran DataSource; her execute çağrısının süresini,
+// etkilenen / okunan satırları aktif isteğin SqlStats'ına yazar. Hibernate ve JdbcTemplate yolları birlikte sayılır.
+class SqlStatsDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    SqlStatsDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Connection connection = super.getConnection();
+        return wrap(Connection.class, connection, new ConnectionHandler(connection));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Connection connection = super.getConnection(username, password);
+        return wrap(Connection.class, connection, new ConnectionHandler(connection));
+    }
+
+    // Havuzun (Hikari) kapanış metodu; Spring destroy metodunu bu sınıfta arar
+    @Override
+    public void close() throws Exception {
+        if (getTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private static <T> T wrap(Class<T> type, Object target, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(SqlStatsDataSource.class.getClassLoader(), new Class<?>[] {type}, handler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static final class ConnectionHandler implements InvocationHandler {
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = SqlStatsDataSource.invoke(target, method, args);
+            if (result instanceof Statement statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                return wrap(method.getReturnType(), statement, new StatementHandler(statement, sql));
+            }
+            return result;
+        }
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+        private final Statement target;
+        private final String preparedSql;
+
+        StatementHandler(Statement target, String preparedSql) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            SqlStats stats = SqlStats.current();
+            String name = method.getName();
+            if (stats == null) {
+                return SqlStatsDataSource.invoke(target, method, args);
+            }
+            if (name.equals("getResultSet")) {
+                return wrapResultSet(SqlStatsDataSource.invoke(target, method, args), stats);
+            }
+            if (!name.startsWith("execute")) {
+                return SqlStatsDataSource.invoke(target, method, args);
+            }
+
+            String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : preparedSql;
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = SqlStatsDataSource.invoke(target, method, args);
+            } finally {
+                stats.recordStatement(sql == null ? name : sql, System.nanoTime() - start);
+            }
+            if (result instanceof Integer count && count > 0) {
+                stats.addRows(count);
+            } else if (result instanceof Long count && count > 0) {
+                stats.addRows(count);
+            } else if (result instanceof int[] counts) {
+                for (int count : counts) {
+                    stats.addRows(Math.max(count, 0));
+                }
+            } else if (result instanceof long[] counts) {
+                for (long count : counts) {
+                    stats.addRows(Math.max(count, 0));
+                }
+            }
+            return wrapResultSet(result, stats);
+        }
+
+        private static Object wrapResultSet(Object result, SqlStats stats) {
+            if (!(result instanceof ResultSet resultSet)) {
+                return result;
+            }
+            return wrap(ResultSet.class, resultSet, (proxy, method, args) -> {
+                Object value = SqlStatsDataSource.invoke(resultSet, method, args);
+                if (method.getName().equals("next") && Boolean.TRUE.equals(value)) {
+                    stats.addRows(1);
+                }
+                return value;
+            });
+        }
+    }
+}
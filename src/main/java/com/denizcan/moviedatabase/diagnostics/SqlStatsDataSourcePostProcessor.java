@@ -0,0 +1,21 @@
+package com.denizcan.moviedatabase.diagnostics;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+// sql.stats.enabled=true ise (varsayılan kapalı) uygulamanın DataSource'unu SqlStatsDataSource ile sarar
+@Component
+@ConditionalOnProperty(name = "sql.stats.enabled", havingValue = "true")
+public class SqlStatsDataSourcePostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof SqlStatsDataSource)) {
+            return new SqlStatsDataSource(dataSource);
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,119 @@
+package com.denizcan.moviedatabase.diagnostics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+// İstek başına SQL sayısı, okunan/etkilenen satır ve JDBC süresini yanıt başlıklarına yazar.
+// Sorgu bütçesi aşıldığında veya aynı sorgu biçimi eşikten fazla tekrarlandığında (N+1) çağrı noktasıyla uyarı loglar.
+// Yalnızca istek thread'inde çalışan SQL sayılır; async thread'lerdeki (hash havuzu, stream) sorgular dahil değildir.
+// sql.stats.enabled=true ile açılır (varsayılan kapalı).
+@Component
+@ConditionalOnProperty(name = "sql.stats.enabled", havingValue = "true")
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class SqlStatsFilter extends OncePerRequestFilter {
+    private static final Logger log = LoggerFactory.getLogger(SqlStatsFilter.class);
+
+    public static final String STATEMENTS_HEADER = "X-SQL-Statements";
+    public static final String ROWS_HEADER = "X-SQL-Rows";
+    public static final String TIME_HEADER = "X-SQL-Time-Ms";
+
+    private final int statementBudget;
+    private final int repeatThreshold;
+
+    public SqlStatsFilter(@Value("${sql.stats.statement-budget:20}") int statementBudget,
+                          @Value("${sql.stats.repeat-threshold:5}") int repeatThreshold) {
+        this.statementBudget = statementBudget;
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        SqlStats stats = SqlStats.start(statementBudget, repeatThreshold);
+        StatsHeaderResponse wrapped = new StatsHeaderResponse(response, stats);
+        try {
+            filterChain.doFilter(request, wrapped);
+        } finally {
+            SqlStats.clear();
+            if (!request.isAsyncStarted()) {
+                wrapped.writeHeaders();
+            }
+            for (String warning : stats.warnings()) {
+                log.warn("{} {}: {}", request.getMethod(), request.getRequestURI(), warning);
+            }
+        }
+    }
+
+    // Başlıklar gövde yazılmadan (yanıt commit edilmeden) önce eklenmeli; ilk yazma anında eklenir
+    private static final class StatsHeaderResponse extends HttpServletResponseWrapper {
+        private final SqlStats stats;
+        private boolean headersWritten;
+
+        StatsHeaderResponse(HttpServletResponse response, SqlStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        void writeHeaders() {
+            if (headersWritten || isCommitted()) {
+                return;
+            }
+            headersWritten = true;
+            setHeader(STATEMENTS_HEADER, String.valueOf(stats.getStatements()));
+            setHeader(ROWS_HEADER, String.valueOf(stats.getRows()));
+            setHeader(TIME_HEADER, String.valueOf(stats.getJdbcMillis()));
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeaders();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeaders();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeaders();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeaders();
+            super.sendRedirect(location);
+        }
+    }
+}
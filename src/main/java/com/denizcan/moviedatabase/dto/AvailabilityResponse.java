@@ -0,0 +1,39 @@
+package com.denizcan.moviedatabase.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Kullanıcı adı / email uygunluk cevabı; sorulmayan alanlar null döner")
+public class AvailabilityResponse {
+    @Schema(description = "Sorgulanan kullanıcı adı", example = "denizcan")
+    private String username;
+
+    @Schema(description = "Kullanıcı adı alınabilir mi")
+    private Boolean usernameAvailable;
+
+    @Schema(description = "Sorgulanan email", example = "deniz@example.com")
+    private String email;
+
+    @Schema(description = "Email alınabilir mi")
+    private Boolean emailAvailable;
+
+    public AvailabilityResponse() {}
+
+    public AvailabilityResponse(String username, Boolean usernameAvailable, String email, Boolean emailAvailable) {
+        this.username = username;
+        this.usernameAvailable = usernameAvailable;
+        this.email = email;
+        this.emailAvailable = emailAvailable;
+    }
+
+    public String getUsername() { return username; }
+    public void setUsername(String username) { this.username = username; }
+
+    public Boolean getUsernameAvailable() { return usernameAvailable; }
+    public void setUsernameAvailable(Boolean usernameAvailable) { this.usernameAvailable = usernameAvailable; }
+
+    public String getEmail() { return email; }
+    public void setEmail(String email) { this.email = email; }
+
+    public Boolean getEmailAvailable() { return emailAvailable; }
+    public void setEmailAvailable(Boolean emailAvailable) { this.emailAvailable = emailAvailable; }
+}
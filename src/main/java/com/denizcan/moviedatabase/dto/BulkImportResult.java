@@ -0,0 +1,68 @@
+package com.denizcan.moviedatabase.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Schema(description = "Toplu film içe aktarma sonucu")
+public class BulkImportResult {
+    // Hatalı satırların tamamı değil, ilk MAX_REPORTED_ERRORS tanesi döndürülür
+    public static final int MAX_REPORTED_ERRORS = 100;
+
+    @Schema(description = "İşlenen (boş olmayan) satır sayısı", example = "1000")
+    private long processed;
+
+    @Schema(description = "Eklenen film sayısı", example = "998")
+    private long imported;
+
+    @Schema(description = "Hatalı satır sayısı", example = "2")
+    private long failed;
+
+    @Schema(description = "Satır bazlı hatalar (en fazla 100)")
+    private final List<LineError> errors = new ArrayList<>();
+
+    public void addImported(int count) {
+        processed += count;
+        imported += count;
+    }
+
+    public void addError(long line, String message) {
+        processed++;
+        failed++;
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(new LineError(line, message));
+        }
+    }
+
+    // Veritabanı hatasıyla geri alınan parça; satırlar hatalı sayılır
+    public void addFailedChunk(long firstLine, int count, String message) {
+        processed += count;
+        failed += count;
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(new LineError(firstLine, message));
+        }
+    }
+
+    public long getProcessed() { return processed; }
+    public long getImported() { return imported; }
+    public long getFailed() { return failed; }
+    public List<LineError> getErrors() { return errors; }
+
+    @Schema(description = "Satır hatası")
+    public static class LineError {
+        @Schema(description = "Satır numarası (1'den başlar)", example = "42")
+        private final long line;
+
+        @Schema(description = "Hata mesajı", example = "title: Film başlığı boş olamaz")
+        private final String message;
+
+        public LineError(long line, String message) {
+            this.line = line;
+            this.message = message;
+        }
+
+        public long getLine() { return line; }
+        public String getMessage() { return message; }
+    }
+}
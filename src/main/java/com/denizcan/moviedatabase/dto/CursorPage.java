@@ -0,0 +1,39 @@
+package com.denizcan.moviedatabase.dto;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Cursor (keyset) sayfalama sonucu: içerik ve bir sonraki sayfanın opak imleci
+public class CursorPage<T> {
+    private final List<T> content;
+    private final String nextCursor;
+    private final int limit;
+
+    public CursorPage(List<T> content, String nextCursor, int limit) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.limit = limit;
+    }
+
+    // rows en fazla limit + 1 satırdır; fazladan satır varsa bir sonraki sayfa vardır
+    public static <T> CursorPage<T> fromRows(List<T> rows, int limit, Function<T, String> cursorOf) {
+        if (rows.size() <= limit) {
+            return new CursorPage<>(rows, null, limit);
+        }
+        List<T> content = rows.subList(0, limit);
+        return new CursorPage<>(content, cursorOf.apply(content.get(limit - 1)), limit);
+    }
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> converter) {
+        List<R> mapped = content.stream()
+                .map(converter)
+                .collect(Collectors.toList());
+        return new CursorPage<>(mapped, nextCursor, limit);
+    }
+
+    public List<T> getContent() { return content; }
+    public String getNextCursor() { return nextCursor; }
+    public int getLimit() { return limit; }
+    public boolean isLast() { return nextCursor == null; }
+}
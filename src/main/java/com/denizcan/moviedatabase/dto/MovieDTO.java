@@ -45,6 +45,9 @@ public class MovieDTO {
     @Schema(description = "Film özeti", example = "Rüya içinde rüya konseptini işleyen bilim kurgu filmi")
     private String synopsis;
 
+    @Schema(description = "Kaydın sürümü (optimistic locking); güncellemede okunan değer geri gönderilir", example = "0")
+    private Long version;
+
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
     public String getTitle() { return title; }
@@ -66,4 +69,7 @@ public class MovieDTO {
     
     public String getSynopsis() { return synopsis; }
     public void setSynopsis(String synopsis) { this.synopsis = synopsis; }
+    
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 } 
\ No newline at end of file
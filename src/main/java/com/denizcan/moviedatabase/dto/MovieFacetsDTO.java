@@ -0,0 +1,47 @@
+package com.denizcan.moviedatabase.dto;
+
+import com.denizcan.moviedatabase.model.MovieGenre;
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.data.domain.Page;
+
+import java.util.Map;
+
+@Schema(description = "Filtrelenmiş film sayfası ve filtreye uyan tüm filmler üzerinden hesaplanan facet sayıları")
+public class MovieFacetsDTO {
+    @Schema(description = "İstenen sonuç sayfası")
+    private Page<MovieDTO> results;
+
+    @Schema(description = "Filtreye uyan toplam film sayısı", example = "42")
+    private long total;
+
+    @Schema(description = "Türe göre film sayıları")
+    private Map<MovieGenre, Long> genres;
+
+    @Schema(description = "On yıla göre film sayıları; anahtar on yılın ilk yılı", example = "{\"2010\": 12, \"2000\": 7}")
+    private Map<Integer, Long> decades;
+
+    @Schema(description = "IMDB puan aralığına göre film sayıları; anahtar aralığın alt sınırı (8 -> 8.0-8.9)", example = "{\"8\": 5, \"7\": 14}")
+    private Map<Integer, Long> ratingBands;
+
+    public MovieFacetsDTO() {}
+
+    public MovieFacetsDTO(Page<MovieDTO> results, long total, Map<MovieGenre, Long> genres,
+                          Map<Integer, Long> decades, Map<Integer, Long> ratingBands) {
+        this.results = results;
+        this.total = total;
+        this.genres = genres;
+        this.decades = decades;
+        this.ratingBands = ratingBands;
+    }
+
+    public Page<MovieDTO> getResults() { return results; }
+    public void setResults(Page<MovieDTO> results) { this.results = results; }
+    public long getTotal() { return total; }
+    public void setTotal(long total) { this.total = total; }
+    public Map<MovieGenre, Long> getGenres() { return genres; }
+    public void setGenres(Map<MovieGenre, Long> genres) { this.genres = genres; }
+    public Map<Integer, Long> getDecades() { return decades; }
+    public void setDecades(Map<Integer, Long> decades) { this.decades = decades; }
+    public Map<Integer, Long> getRatingBands() { return ratingBands; }
+    public void setRatingBands(Map<Integer, Long> ratingBands) { this.ratingBands = ratingBands; }
+}
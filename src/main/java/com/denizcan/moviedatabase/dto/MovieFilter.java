@@ -0,0 +1,119 @@
+package com.denizcan.moviedatabase.dto;
+
+import com.denizcan.moviedatabase.model.MovieGenre;
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+
+// Gelişmiş film filtresi. Tüm alanlar opsiyoneldir; yalnızca dolu alanlar sorguya koşul olarak eklenir.
+@Schema(description = "Gelişmiş film filtresi; boş bırakılan alanlar filtre uygulamaz")
+public class MovieFilter {
+
+    // Sıralanabilecek alanlar yalnızca indeksli kolonlardır (id birincil anahtar, diğerleri ikincil indeks);
+    // indekssiz bir kolona göre sıralama her sayfada tüm eşleşmelerin sıralanması demektir
+    public static final Set<String> SORTABLE_FIELDS = Set.of("id", "title", "year", "imdbRating");
+
+    @Schema(description = "Başlıkta geçen metin (büyük/küçük harf duyarsız)", example = "dark")
+    private String title;
+
+    @Schema(description = "Yayın yılı", example = "2008")
+    private Integer year;
+
+    @Schema(description = "Minimum IMDB puanı", example = "8.0")
+    private Double minRating;
+
+    @Schema(description = "Filmin sahip olması gereken türler (hepsi)", example = "[\"ACTION\", \"CRIME\"]")
+    private Set<MovieGenre> genres;
+
+    @Schema(description = "Yönetmen id'si", example = "1")
+    private Long directorId;
+
+    @Schema(description = "Oyuncu id'si", example = "1")
+    private Long actorId;
+
+    @Schema(description = "Ödül id'si", example = "1")
+    private Long awardId;
+
+    @Schema(description = "Minimum süre (dakika)", example = "90")
+    private Integer minDuration;
+
+    @Schema(description = "Maksimum süre (dakika)", example = "150")
+    private Integer maxDuration;
+
+    @Schema(description = "Minimum bütçe", example = "1000000")
+    private BigDecimal minBudget;
+
+    @Schema(description = "Maksimum bütçe", example = "200000000")
+    private BigDecimal maxBudget;
+
+    public MovieFilter() {}
+
+    public static MovieFilter of(String title, Integer year, Double minRating) {
+        MovieFilter filter = new MovieFilter();
+        filter.setTitle(title);
+        filter.setYear(year);
+        filter.setMinRating(minRating);
+        return filter;
+    }
+
+    // İzin verilen alana göre sıralama; eşitlikte id artan (sayfalar arası kararlı sıra)
+    public static Sort sort(String sortBy, String sortDir) {
+        if (!SORTABLE_FIELDS.contains(sortBy)) {
+            throw new IllegalArgumentException("Desteklenmeyen sıralama alanı: " + sortBy
+                    + " (izin verilenler: " + String.join(", ", new TreeSet<>(SORTABLE_FIELDS)) + ")");
+        }
+        Sort sort = sortDir.equalsIgnoreCase("desc") ? Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
+        return sortBy.equals("id") ? sort : sort.and(Sort.by("id"));
+    }
+
+    // Hiçbir alan dolu değil: sorgu koşulsuzdur
+    public boolean isEmpty() {
+        return title == null && year == null && minRating == null && (genres == null || genres.isEmpty())
+                && directorId == null && actorId == null && awardId == null
+                && minDuration == null && maxDuration == null && minBudget == null && maxBudget == null;
+    }
+
+    // Sayım cache'i anahtarı: aynı sonucu veren filtreler (başlığın harf büyüklüğü, tür sırası,
+    // bütçenin ölçeği) aynı anahtarı üretir
+    public String cacheKey() {
+        return String.join("|",
+                title == null ? "null" : "'" + title.toLowerCase(Locale.ROOT) + "'",
+                String.valueOf(year),
+                String.valueOf(minRating),
+                Long.toString(MovieGenre.toMask(genres)),
+                String.valueOf(directorId),
+                String.valueOf(actorId),
+                String.valueOf(awardId),
+                String.valueOf(minDuration),
+                String.valueOf(maxDuration),
+                minBudget == null ? "null" : minBudget.stripTrailingZeros().toPlainString(),
+                maxBudget == null ? "null" : maxBudget.stripTrailingZeros().toPlainString());
+    }
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+    public Integer getYear() { return year; }
+    public void setYear(Integer year) { this.year = year; }
+    public Double getMinRating() { return minRating; }
+    public void setMinRating(Double minRating) { this.minRating = minRating; }
+    public Set<MovieGenre> getGenres() { return genres; }
+    public void setGenres(Set<MovieGenre> genres) { this.genres = genres; }
+    public Long getDirectorId() { return directorId; }
+    public void setDirectorId(Long directorId) { this.directorId = directorId; }
+    public Long getActorId() { return actorId; }
+    public void setActorId(Long actorId) { this.actorId = actorId; }
+    public Long getAwardId() { return awardId; }
+    public void setAwardId(Long awardId) { this.awardId = awardId; }
+    public Integer getMinDuration() { return minDuration; }
+    public void setMinDuration(Integer minDuration) { this.minDuration = minDuration; }
+    public Integer getMaxDuration() { return maxDuration; }
+    public void setMaxDuration(Integer maxDuration) { this.maxDuration = maxDuration; }
+    public BigDecimal getMinBudget() { return minBudget; }
+    public void setMinBudget(BigDecimal minBudget) { this.minBudget = minBudget; }
+    public BigDecimal getMaxBudget() { return maxBudget; }
+    public void setMaxBudget(BigDecimal maxBudget) { this.maxBudget = maxBudget; }
+}
@@ -0,0 +1,87 @@
+package com.denizcan.moviedatabase.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.*;
+
+import java.math.BigDecimal;
+
+// Kısmi film güncellemesi: yalnızca dolu (null olmayan) alanlar tek UPDATE ile yazılır.
+// Türler ve ilişkiler ayrı tablolarda tutulduğu için burada yoktur; onlar PUT ile güncellenir.
+@Schema(description = "Kısmi film güncellemesi; gönderilmeyen alanlar değişmez")
+public class MoviePatchDTO {
+    @NotNull(message = "Sürüm boş olamaz")
+    @Schema(description = "Okunan kaydın sürümü; kayıt bu arada değiştiyse güncelleme 409 ile reddedilir",
+            example = "0", required = true)
+    private Long version;
+
+    @Size(min = 1, max = 255, message = "Film başlığı 1-255 karakter arasında olmalıdır")
+    @Schema(description = "Film başlığı", example = "Inception")
+    private String title;
+
+    @Min(value = 1888, message = "Yayın yılı 1888'den küçük olamaz")
+    @Max(value = 2030, message = "Yayın yılı 2030'dan büyük olamaz")
+    @Schema(description = "Yayın yılı", example = "2010")
+    private Integer year;
+
+    @DecimalMin(value = "0.0", message = "IMDB puanı 0'dan küçük olamaz")
+    @DecimalMax(value = "10.0", message = "IMDB puanı 10'dan büyük olamaz")
+    @Schema(description = "IMDB puanı", example = "8.8", minimum = "0.0", maximum = "10.0")
+    private Double imdbRating;
+
+    @Pattern(regexp = "^(https?://.*|)$", message = "Geçerli bir URL giriniz")
+    @Schema(description = "Film poster URL'si", example = "https://example.com/inception.jpg")
+    private String imageUrl;
+
+    @Min(value = 1, message = "Film süresi en az 1 dakika olmalıdır")
+    @Max(value = 600, message = "Film süresi en fazla 600 dakika olabilir")
+    @Schema(description = "Film süresi (dakika)", example = "148")
+    private Integer duration;
+
+    @Schema(description = "Seri film mi?", example = "false")
+    private Boolean partOfSeries;
+
+    @Size(max = 255, message = "Seri adı en fazla 255 karakter olabilir")
+    @Schema(description = "Seri adı", example = "Batman")
+    private String seriesName;
+
+    @Size(max = 1000, message = "Film özeti en fazla 1000 karakter olabilir")
+    @Schema(description = "Film özeti", example = "Rüya içinde rüya konseptini işleyen bilim kurgu filmi")
+    private String synopsis;
+
+    @DecimalMin(value = "0.0", message = "Bütçe negatif olamaz")
+    @Schema(description = "Bütçe", example = "160000000")
+    private BigDecimal budget;
+
+    @DecimalMin(value = "0.0", message = "Hasılat negatif olamaz")
+    @Schema(description = "Hasılat", example = "836836967")
+    private BigDecimal boxOffice;
+
+    // Bellek içi arama indekslerinin okuduğu alanlardan biri değişiyor mu
+    public boolean changesIndexedFields() {
+        return title != null || year != null || imdbRating != null || synopsis != null
+                || duration != null || budget != null;
+    }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+    public Integer getYear() { return year; }
+    public void setYear(Integer year) { this.year = year; }
+    public Double getImdbRating() { return imdbRating; }
+    public void setImdbRating(Double imdbRating) { this.imdbRating = imdbRating; }
+    public String getImageUrl() { return imageUrl; }
+    public void setImageUrl(String imageUrl) { this.imageUrl = imageUrl; }
+    public Integer getDuration() { return duration; }
+    public void setDuration(Integer duration) { this.duration = duration; }
+    public Boolean getPartOfSeries() { return partOfSeries; }
+    public void setPartOfSeries(Boolean partOfSeries) { this.partOfSeries = partOfSeries; }
+    public String getSeriesName() { return seriesName; }
+    public void setSeriesName(String seriesName) { this.seriesName = seriesName; }
+    public String getSynopsis() { return synopsis; }
+    public void setSynopsis(String synopsis) { this.synopsis = synopsis; }
+    public BigDecimal getBudget() { return budget; }
+    public void setBudget(BigDecimal budget) { this.budget = budget; }
+    public BigDecimal getBoxOffice() { return boxOffice; }
+    public void setBoxOffice(BigDecimal boxOffice) { this.boxOffice = boxOffice; }
+}
@@ -0,0 +1,36 @@
+package com.denizcan.moviedatabase.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Otomatik tamamlama için hafif film önerisi")
+public class MovieSuggestionDTO {
+    @Schema(description = "Film ID'si", example = "1")
+    private Long id;
+
+    @Schema(description = "Film başlığı", example = "Inception")
+    private String title;
+
+    @Schema(description = "Yayın yılı", example = "2010")
+    private Integer year;
+
+    @Schema(description = "IMDB puanı", example = "8.8")
+    private double imdbRating;
+
+    public MovieSuggestionDTO() {}
+
+    public MovieSuggestionDTO(Long id, String title, Integer year, double imdbRating) {
+        this.id = id;
+        this.title = title;
+        this.year = year;
+        this.imdbRating = imdbRating;
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+    public Integer getYear() { return year; }
+    public void setYear(Integer year) { this.year = year; }
+    public double getImdbRating() { return imdbRating; }
+    public void setImdbRating(double imdbRating) { this.imdbRating = imdbRating; }
+}
@@ -0,0 +1,57 @@
+package com.denizcan.moviedatabase.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+// Liste ekranları için hafif film görünümü; MovieRepository projeksiyon sorgularıyla doğrudan doldurulur
+// (entity oluşturulmaz, özet/bütçe gibi büyük kolonlar ve ilişkiler okunmaz)
+@Schema(description = "Liste görünümü için film özeti")
+public class MovieSummaryDTO {
+    @Schema(description = "Film ID'si", example = "1")
+    private Long id;
+
+    @Schema(description = "Film başlığı", example = "Inception")
+    private String title;
+
+    @Schema(description = "Yayın yılı", example = "2010")
+    private Integer year;
+
+    @Schema(description = "IMDB puanı", example = "8.8")
+    private double imdbRating;
+
+    @Schema(description = "Film poster URL'si", example = "https://example.com/inception.jpg")
+    private String imageUrl;
+
+    @Schema(description = "Film süresi (dakika)", example = "148")
+    private Integer duration;
+
+    @Schema(description = "Seri film mi?", example = "false")
+    private Boolean partOfSeries;
+
+    public MovieSummaryDTO() {}
+
+    public MovieSummaryDTO(Long id, String title, Integer year, double imdbRating,
+                           String imageUrl, Integer duration, Boolean partOfSeries) {
+        this.id = id;
+        this.title = title;
+        this.year = year;
+        this.imdbRating = imdbRating;
+        this.imageUrl = imageUrl;
+        this.duration = duration;
+        this.partOfSeries = partOfSeries;
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+    public Integer getYear() { return year; }
+    public void setYear(Integer year) { this.year = year; }
+    public double getImdbRating() { return imdbRating; }
+    public void setImdbRating(double imdbRating) { this.imdbRating = imdbRating; }
+    public String getImageUrl() { return imageUrl; }
+    public void setImageUrl(String imageUrl) { this.imageUrl = imageUrl; }
+    public Integer getDuration() { return duration; }
+    public void setDuration(Integer duration) { this.duration = duration; }
+    public Boolean isPartOfSeries() { return partOfSeries; }
+    public void setPartOfSeries(Boolean partOfSeries) { this.partOfSeries = partOfSeries; }
+}
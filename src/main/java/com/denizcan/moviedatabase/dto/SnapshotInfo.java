@@ -0,0 +1,35 @@
+package com.denizcan.moviedatabase.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Film snapshot dosyası bilgisi")
+public class SnapshotInfo {
+    @Schema(description = "Dosya yolu", example = "data/movies.snapshot")
+    private final String path;
+
+    @Schema(description = "Dosya biçimi sürümü", example = "1")
+    private final int formatVersion;
+
+    @Schema(description = "Film sayısı", example = "5")
+    private final int movieCount;
+
+    @Schema(description = "Dosya boyutu (bayt)", example = "2048")
+    private final long sizeBytes;
+
+    @Schema(description = "Oluşturulma zamanı (epoch milisaniye)", example = "1760000000000")
+    private final long createdAt;
+
+    public SnapshotInfo(String path, int formatVersion, int movieCount, long sizeBytes, long createdAt) {
+        this.path = path;
+        this.formatVersion = formatVersion;
+        this.movieCount = movieCount;
+        this.sizeBytes = sizeBytes;
+        this.createdAt = createdAt;
+    }
+
+    public String getPath() { return path; }
+    public int getFormatVersion() { return formatVersion; }
+    public int getMovieCount() { return movieCount; }
+    public long getSizeBytes() { return sizeBytes; }
+    public long getCreatedAt() { return createdAt; }
+}
@@ -0,0 +1,9 @@
+package com.denizcan.moviedatabase.exception;
+
+// Salt okunur (snapshot) düğümlerde yazma denemesi
+public class ReadOnlyStoreException extends RuntimeException {
+    
+    public ReadOnlyStoreException(String message) {
+        super(message);
+    }
+}
@@ -1,8 +1,15 @@
 package com.denizcan.moviedatabase.mapper;
 
 import com.denizcan.moviedatabase.dto.MovieDTO;
+import com.denizcan.moviedatabase.dto.MovieFacetsDTO;
+import com.denizcan.moviedatabase.dto.MovieSuggestionDTO;
+import com.denizcan.moviedatabase.dto.MovieSummaryDTO;
 import com.denizcan.moviedatabase.model.Movie;
 import com.denizcan.moviedatabase.model.MovieGenre;
+import com.denizcan.moviedatabase.repository.MovieSummary;
+import com.denizcan.moviedatabase.search.MovieFacetIndex;
+import com.denizcan.moviedatabase.search.MovieTitleTrie;
+import org.springframework.data.domain.Page;
 
 import java.util.HashSet;
 import java.util.stream.Collectors;
@@ -18,6 +25,7 @@ public class MovieMapper {
         dto.setDuration(movie.getDuration());
         dto.setPartOfSeries(movie.isPartOfSeries());
         dto.setSynopsis(movie.getSynopsis());
+        dto.setVersion(movie.getVersion());
         if (movie.getGenre() != null) {
             dto.setGenres(
                 movie.getGenre().stream()
@@ -40,6 +48,9 @@ public class MovieMapper {
         movie.setDuration(dto.getDuration());
         movie.setPartOfSeries(dto.isPartOfSeries());
         movie.setSynopsis(dto.getSynopsis());
+        if (dto.getVersion() != null) {
+            movie.setVersion(dto.getVersion());
+        }
         if (dto.getGenres() != null && !dto.getGenres().isEmpty()) {
             movie.setGenre(
                 dto.getGenres().stream()
@@ -49,4 +60,49 @@ public class MovieMapper {
         }
         return movie;
     }
+
+    // PUT: DTO'da olmayan alanlar (bütçe, hasılat, seri adı, ilişkiler) mevcut kayıttan alınır; sürüm
+    // gönderilmediyse mevcut sürümle yazılır. Yüklenmemiş ilişki koleksiyonlarına merge dokunmaz.
+    public static Movie toEntity(MovieDTO dto, Movie existing) {
+        Movie movie = toEntity(dto);
+        movie.setId(existing.getId());
+        movie.setBudget(existing.getBudget());
+        movie.setBoxOffice(existing.getBoxOffice());
+        movie.setSeriesName(existing.getSeriesName());
+        movie.setDirector(existing.getDirector());
+        movie.setCast(existing.getCast());
+        movie.setAwards(existing.getAwards());
+        if (dto.getVersion() == null) {
+            movie.setVersion(existing.getVersion());
+        }
+        return movie;
+    }
+
+    public static MovieSummaryDTO toSummaryDTO(MovieSummary summary) {
+        return new MovieSummaryDTO(
+                summary.getId(),
+                summary.getTitle(),
+                summary.getYear(),
+                summary.getImdbRating(),
+                summary.getImageUrl(),
+                summary.getDuration(),
+                summary.getPartOfSeries());
+    }
+
+    public static MovieSuggestionDTO toSuggestionDTO(MovieTitleTrie.Suggestion suggestion) {
+        return new MovieSuggestionDTO(
+                suggestion.getId(),
+                suggestion.getTitle(),
+                suggestion.getYear(),
+                suggestion.getImdbRating());
+    }
+
+    public static MovieFacetsDTO toFacetsDTO(Page<MovieDTO> results, MovieFacetIndex.Facets facets) {
+        return new MovieFacetsDTO(
+                results,
+                facets.getTotal(),
+                facets.getGenres(),
+                facets.getDecades(),
+                facets.getRatingBands());
+    }
 }
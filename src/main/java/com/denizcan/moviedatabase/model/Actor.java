@@ -1,9 +1,14 @@
 package com.denizcan.moviedatabase.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.Set;
 
+// Oyuncular seyrek değişir; kayıt ve ödül koleksiyonu 2. seviye cache'ten okunur
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
 public class Actor {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -11,12 +16,16 @@ public class Actor {
 
     private String name;
 
+    // Listelerde ödüller kişi başına ayrı sorgu yerine IN (...) ile toplu yüklenir
     @ManyToMany
     @JoinTable(
         name = "actor_award",
         joinColumns = @JoinColumn(name = "actor_id"),
-        inverseJoinColumns = @JoinColumn(name = "award_id")
+        inverseJoinColumns = @JoinColumn(name = "award_id"),
+        indexes = @Index(name = "idx_actor_award_award_id", columnList = "award_id")
     )
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
     private Set<Award> awards;
 
     @ManyToMany(mappedBy = "cast")
@@ -1,9 +1,14 @@
 package com.denizcan.moviedatabase.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.Set;
 
+// Neredeyse değişmeyen referans verisi: 2. seviye cache'te tutulur. API üzerinden güncellenebildiği için
+// READ_ONLY değil; güncelleme / silmede kayıt commit sonrası cache'ten düşer.
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
 public class Award {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -1,9 +1,14 @@
 package com.denizcan.moviedatabase.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.Set;
 
+// Yönetmenler seyrek değişir; kayıt ve ödül koleksiyonu 2. seviye cache'ten okunur
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
 public class Director {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -13,12 +18,16 @@ public class Director {
 
     private String imageUrl; // Yönetmenin fotoğrafı veya görselinin yolu/URL'si
 
+    // Listelerde ödüller kişi başına ayrı sorgu yerine IN (...) ile toplu yüklenir
     @ManyToMany
     @JoinTable(
         name = "director_award",
         joinColumns = @JoinColumn(name = "director_id"),
-        inverseJoinColumns = @JoinColumn(name = "award_id")
+        inverseJoinColumns = @JoinColumn(name = "award_id"),
+        indexes = @Index(name = "idx_director_award_award_id", columnList = "award_id")
     )
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
     private Set<Award> awards;
 
     @ManyToMany(mappedBy = "director")
@@ -1,43 +1,83 @@
 package com.denizcan.moviedatabase.model;
 
 import jakarta.persistence.*;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 
 import java.math.BigDecimal;
 import java.util.Set;
 
+// Repository sorgularının erişim yolları için ikincil indeksler (schema.sql ile aynı adlar);
+// sıralı listeler (puan / yıl azalan, eşitlikte id artan) indeks sırasıyla okunur
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_movie_release_year", columnList = "release_year DESC, id"),
+    @Index(name = "idx_movie_imdb_rating", columnList = "imdb_rating DESC, id"),
+    @Index(name = "idx_movie_series_name", columnList = "series_name"),
+    @Index(name = "idx_movie_title", columnList = "title"),
+    @Index(name = "idx_movie_genre_mask", columnList = "genre_mask, id")
+})
 public class Movie {
+    // IDENTITY, Hibernate'in JDBC batch insert'ünü devre dışı bırakır; havuzlu sequence ile
+    // id'ler 50'lik bloklar halinde ayrılır (toplu içe aktarma da aynı blokları kullanır)
+    public static final int ID_ALLOCATION_SIZE = 50;
+    // @OnDelete @ManyToMany join tablolarına uygulanmadığı için ilişki tablolarının FK'sı açıkça tanımlanır
+    static final String MOVIE_FK_CASCADE = "FOREIGN KEY (movie_id) REFERENCES movie(id) ON DELETE CASCADE";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "movie_seq")
+    @SequenceGenerator(name = "movie_seq", sequenceName = "movie_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
+    // Optimistic locking: her UPDATE sürümü bir artırır; eski sürümle gelen güncelleme reddedilir
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long version;
+
     private String title;
     @Column(name = "release_year")
     private Integer year;
+    // Sayfalı sorgularda türler film başına ayrı SELECT yerine IN (...) ile toplu yüklenir
     @ElementCollection(targetClass = MovieGenre.class)
     @Enumerated(EnumType.STRING)
-    @CollectionTable(name = "movie_genres", joinColumns = @JoinColumn(name = "movie_id"))
+    @CollectionTable(name = "movie_genres", joinColumns = @JoinColumn(name = "movie_id"),
+        indexes = @Index(name = "idx_movie_genres_genre", columnList = "genre, movie_id"))
     @Column(name = "genre")
+    @BatchSize(size = 100)
+    // Türler ve ilişki satırlarının movie_id FK'ları ON DELETE CASCADE: film silme tek DELETE'tir
+    @OnDelete(action = OnDeleteAction.CASCADE)
     private Set<MovieGenre> genre;
+    // Türlerin bit maskesi (bit = MovieGenre ordinal'i); çoklu tür sorguları movie_genres join'i
+    // yerine bitand ile tek tabloda çalışır. setGenre ve persist / update öncesinde yeniden hesaplanır.
+    @Column(name = "genre_mask", nullable = false)
+    @ColumnDefault("0")
+    private long genreMask;
     @ManyToMany
     @JoinTable(
         name = "movie_director",
-        joinColumns = @JoinColumn(name = "movie_id"),
-        inverseJoinColumns = @JoinColumn(name = "director_id")
+        joinColumns = @JoinColumn(name = "movie_id", foreignKey = @ForeignKey(foreignKeyDefinition = MOVIE_FK_CASCADE)),
+        inverseJoinColumns = @JoinColumn(name = "director_id"),
+        indexes = @Index(name = "idx_movie_director_director_id", columnList = "director_id")
     )
     private Set<Director> director;
     @ManyToMany
     @JoinTable(
         name = "movie_actor",
-        joinColumns = @JoinColumn(name = "movie_id"),
-        inverseJoinColumns = @JoinColumn(name = "actor_id")
+        joinColumns = @JoinColumn(name = "movie_id", foreignKey = @ForeignKey(foreignKeyDefinition = MOVIE_FK_CASCADE)),
+        inverseJoinColumns = @JoinColumn(name = "actor_id"),
+        indexes = @Index(name = "idx_movie_actor_actor_id", columnList = "actor_id")
     )
     private Set<Actor> cast;
     @ManyToMany
     @JoinTable(
         name = "movie_award",
-        joinColumns = @JoinColumn(name = "movie_id"),
-        inverseJoinColumns = @JoinColumn(name = "award_id")
+        joinColumns = @JoinColumn(name = "movie_id", foreignKey = @ForeignKey(foreignKeyDefinition = MOVIE_FK_CASCADE)),
+        inverseJoinColumns = @JoinColumn(name = "award_id"),
+        indexes = @Index(name = "idx_movie_award_award_id", columnList = "award_id")
     )
     private Set<Award> awards;
     @Column(length = 1000)
@@ -57,6 +97,9 @@ public class Movie {
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
 
+    public long getVersion() { return version; }
+    public void setVersion(long version) { this.version = version; }
+
     public String getTitle() { return title; }
     public void setTitle(String title) { this.title = title; }
 
@@ -64,7 +107,22 @@ public class Movie {
     public void setYear(Integer year) { this.year = year; }
 
     public Set<MovieGenre> getGenre() { return genre; }
-    public void setGenre(Set<MovieGenre> genre) { this.genre = genre; }
+    public void setGenre(Set<MovieGenre> genre) {
+        this.genre = genre;
+        this.genreMask = MovieGenre.toMask(genre);
+    }
+
+    public long getGenreMask() { return genreMask; }
+
+    // Satır yazılırken maske tür kümesinden yeniden hesaplanır. Yalnızca koleksiyon değiştiğinde film satırı
+    // güncellenmediği için türler getGenre().add(...) yerine setGenre ile değiştirilmeli.
+    @PrePersist
+    @PreUpdate
+    void syncGenreMask() {
+        if (genre != null && Hibernate.isInitialized(genre)) {
+            genreMask = MovieGenre.toMask(genre);
+        }
+    }
 
     public Set<Director> getDirector() { return director; }
     public void setDirector(Set<Director> director) { this.director = director; }
@@ -1,5 +1,9 @@
 package com.denizcan.moviedatabase.model;
 
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
 public enum MovieGenre {
     DRAMA,
     ACTION,
@@ -31,5 +35,36 @@ public enum MovieGenre {
     HISTORICAL,
     POLITICAL,
     ROAD,
-    SLICE_OF_LIFE
-} 
\ No newline at end of file
+    SLICE_OF_LIFE;
+
+    // Tür kümeleri 64 bitlik maske olarak saklanabilir (bit = ordinal)
+    public long bit() {
+        return 1L << ordinal();
+    }
+
+    public static long toMask(Collection<MovieGenre> genres) {
+        long mask = 0;
+        if (genres != null) {
+            for (MovieGenre genre : genres) {
+                mask |= genre.bit();
+            }
+        }
+        return mask;
+    }
+
+    // all'daki türlerin hepsi, any'dekilerden en az biri (any boşsa koşul yok), none'dakilerin hiçbiri;
+    // MovieRepository.GENRE_MASK_MATCH ile aynı koşul
+    public static boolean matches(long mask, long all, long any, long none) {
+        return (mask & all) == all && (mask & none) == 0 && (any == 0 || (mask & any) != 0);
+    }
+
+    public static Set<MovieGenre> fromMask(long mask) {
+        Set<MovieGenre> genres = EnumSet.noneOf(MovieGenre.class);
+        for (MovieGenre genre : values()) {
+            if ((mask & genre.bit()) != 0) {
+                genres.add(genre);
+            }
+        }
+        return genres;
+    }
+}
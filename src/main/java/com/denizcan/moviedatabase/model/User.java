@@ -30,6 +30,10 @@ public class User implements UserDetails {
     
     private boolean enabled = true;
     
+    // JWT'lere gömülen sürüm; rol / şifre değişince artırılır ve eski token'lar geçersiz olur
+    @Column(name = "token_version", nullable = false)
+    private int tokenVersion;
+    
     public enum Role {
         USER, ADMIN
     }
@@ -89,4 +93,7 @@ public class User implements UserDetails {
     public void setRole(Role role) { this.role = role; }
     
     public void setEnabled(boolean enabled) { this.enabled = enabled; }
+    
+    public int getTokenVersion() { return tokenVersion; }
+    public void setTokenVersion(int tokenVersion) { this.tokenVersion = tokenVersion; }
 } 
\ No newline at end of file
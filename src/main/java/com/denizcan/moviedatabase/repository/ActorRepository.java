@@ -1,7 +1,29 @@
 package com.denizcan.moviedatabase.repository;
 
 import com.denizcan.moviedatabase.model.Actor;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
+import java.util.stream.Stream;
 
 public interface ActorRepository extends JpaRepository<Actor, Long> {
-} 
\ No newline at end of file
+
+    // Liste ekranı ödülleri de gösterdiği için ödüller aynı SELECT içinde getirilir
+    @Override
+    @EntityGraph(attributePaths = "awards")
+    List<Actor> findAll();
+
+    // Akış (streaming) listeleri için: satırlar fetch size'lık parçalarla okunur, entity'ler
+    // read-only yüklenir (dirty-checking snapshot'ı tutulmaz). Kapatılması çağırana aittir.
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "100"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a FROM Actor a ORDER BY a.id")
+    Stream<Actor> streamAll();
+}
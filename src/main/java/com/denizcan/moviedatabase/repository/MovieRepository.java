@@ -2,56 +2,187 @@ package com.denizcan.moviedatabase.repository;
 
 import com.denizcan.moviedatabase.model.Movie;
 import com.denizcan.moviedatabase.model.MovieGenre;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface MovieRepository extends JpaRepository<Movie, Long> {
+public interface MovieRepository extends JpaRepository<Movie, Long>, JpaSpecificationExecutor<Movie> {
+    
+    // Sayfasız liste sorguları türleri aynı SELECT içinde (entity graph ile) getirir; MovieMapper.toDTO
+    // her film için ayrı sorgu çalıştırmaz. Sayfalı/limitli sorgularda koleksiyon join'i sayfalamayı
+    // belleğe taşıyacağından orada Movie.genre üzerindeki @BatchSize kullanılır.
+    @Override
+    @EntityGraph(attributePaths = "genre")
+    List<Movie> findAll();
+    
+    @Override
+    @EntityGraph(attributePaths = "genre")
+    List<Movie> findAllById(Iterable<Long> ids);
+    
+    // Tek film ve türleri tek SELECT ile (PATCH sonrası bellek içi indeksleri yenilemek için)
+    @EntityGraph(attributePaths = "genre")
+    Optional<Movie> findWithGenreById(Long id);
     
     // Başlığa göre arama (case-insensitive)
+    @EntityGraph(attributePaths = "genre")
     List<Movie> findByTitleContainingIgnoreCase(String title);
     
     // Yıla göre arama
+    @EntityGraph(attributePaths = "genre")
     List<Movie> findByYear(Integer year);
     
     // Yıl aralığına göre arama
+    @EntityGraph(attributePaths = "genre")
     List<Movie> findByYearBetween(Integer startYear, Integer endYear);
     
     // IMDB puanına göre arama
+    @EntityGraph(attributePaths = "genre")
     List<Movie> findByImdbRatingGreaterThanEqual(Double rating);
     
     // Seri filmlerini getir
+    @EntityGraph(attributePaths = "genre")
     List<Movie> findByPartOfSeriesTrue();
     
     // Belirli bir serinin filmlerini getir
+    @EntityGraph(attributePaths = "genre")
     List<Movie> findBySeriesName(String seriesName);
     
-    // Tür'e göre arama (JPQL ile)
-    @Query("SELECT DISTINCT m FROM Movie m JOIN m.genre g WHERE g = :genre")
+    // Tür'e göre arama (JPQL ile). Film id'leri alt sorguda idx_movie_genres_genre indeksinden okunur;
+    // DISTINCT'li join'de H2 movie tablosunu baştan sona tarayıp türü her satır için arıyordu
+    @EntityGraph(attributePaths = "genre")
+    @Query("SELECT m FROM Movie m WHERE m.id IN (SELECT gm.id FROM Movie gm JOIN gm.genre g WHERE g = :genre)")
     List<Movie> findByGenre(@Param("genre") MovieGenre genre);
     
-    // Gelişmiş arama (başlık, yıl, minimum puan)
-    @Query("SELECT m FROM Movie m WHERE " +
-           "(:title IS NULL OR LOWER(m.title) LIKE LOWER(CONCAT('%', :title, '%'))) AND " +
-           "(:year IS NULL OR m.year = :year) AND " +
-           "(:minRating IS NULL OR m.imdbRating >= :minRating)")
-    Page<Movie> findMoviesWithFilters(
-            @Param("title") String title,
-            @Param("year") Integer year,
-            @Param("minRating") Double minRating,
+    // Çoklu tür araması genre_mask üzerinde: all'daki türlerin hepsi, any'dekilerden en az biri (any = 0 ise
+    // koşul yok), none'dakilerin hiçbiri. Maske dar (genre_mask, id) indeksinden tek geçişte okunur,
+    // eşleşen filmler birincil anahtarla getirilir.
+    @Query(value = "SELECT m FROM Movie m WHERE m.id IN (SELECT gm.id FROM Movie gm WHERE " + GENRE_MASK_MATCH + ")",
+           countQuery = "SELECT COUNT(gm) FROM Movie gm WHERE " + GENRE_MASK_MATCH)
+    Page<Movie> findByGenreMask(
+            @Param("all") long all,
+            @Param("any") long any,
+            @Param("none") long none,
             Pageable pageable);
     
-    // En yüksek puanlı filmler
-    @Query("SELECT m FROM Movie m ORDER BY m.imdbRating DESC")
+    // Gelişmiş arama MovieSpecifications ile JpaSpecificationExecutor üzerinden yapılır
+    
+    // En yüksek puanlı filmler (eşitlikte id artan: MovieLeaderboard ile aynı sıra)
+    @Query("SELECT m FROM Movie m ORDER BY m.imdbRating DESC, m.id ASC")
     Page<Movie> findTopRatedMovies(Pageable pageable);
     
     // En yeni filmler
-    @Query("SELECT m FROM Movie m ORDER BY m.year DESC")
+    @Query("SELECT m FROM Movie m ORDER BY m.year DESC, m.id ASC")
     Page<Movie> findLatestMovies(Pageable pageable);
-} 
\ No newline at end of file
+    
+    // Slice karşılıkları: size + 1 satır okunur, COUNT sorgusu çalışmaz (toplam gerekmeyen istemciler için)
+    @Query("SELECT m FROM Movie m ORDER BY m.imdbRating DESC, m.id ASC")
+    Slice<Movie> findTopRatedMovieSlice(Pageable pageable);
+    
+    @Query("SELECT m FROM Movie m ORDER BY m.year DESC, m.id ASC")
+    Slice<Movie> findLatestMovieSlice(Pageable pageable);
+    
+    @Query("SELECT m FROM Movie m JOIN m.genre g WHERE g = :genre ORDER BY m.imdbRating DESC, m.id ASC")
+    Slice<Movie> findTopRatedMovieSliceByGenre(@Param("genre") MovieGenre genre, Pageable pageable);
+    
+    @Query("SELECT m FROM Movie m JOIN m.genre g WHERE g = :genre ORDER BY m.year DESC, m.id ASC")
+    Slice<Movie> findLatestMovieSliceByGenre(@Param("genre") MovieGenre genre, Pageable pageable);
+    
+    @Query("SELECT COUNT(m) FROM Movie m JOIN m.genre g WHERE g = :genre")
+    long countByGenre(@Param("genre") MovieGenre genre);
+    
+    // Tür içinde en yüksek puanlı / en yeni filmler
+    @Query(value = "SELECT m FROM Movie m JOIN m.genre g WHERE g = :genre ORDER BY m.imdbRating DESC, m.id ASC",
+           countQuery = "SELECT COUNT(m) FROM Movie m JOIN m.genre g WHERE g = :genre")
+    Page<Movie> findTopRatedMoviesByGenre(@Param("genre") MovieGenre genre, Pageable pageable);
+    
+    @Query(value = "SELECT m FROM Movie m JOIN m.genre g WHERE g = :genre ORDER BY m.year DESC, m.id ASC",
+           countQuery = "SELECT COUNT(m) FROM Movie m JOIN m.genre g WHERE g = :genre")
+    Page<Movie> findLatestMoviesByGenre(@Param("genre") MovieGenre genre, Pageable pageable);
+    
+    // Keyset (cursor) sayfalama sorguları: OFFSET yerine (sıralama anahtarı, id) üzerinden arama yapar,
+    // böylece derin sayfalar da ilk sayfa kadar hızlıdır
+    @Query("SELECT m FROM Movie m WHERE m.id > :afterId ORDER BY m.id ASC")
+    List<Movie> findAllAfter(@Param("afterId") Long afterId, Limit limit);
+    
+    @Query("SELECT m FROM Movie m WHERE m.imdbRating < :rating OR (m.imdbRating = :rating AND m.id > :afterId) " +
+           "ORDER BY m.imdbRating DESC, m.id ASC")
+    List<Movie> findTopRatedMoviesAfter(
+            @Param("rating") double rating,
+            @Param("afterId") Long afterId,
+            Limit limit);
+    
+    @Query("SELECT m FROM Movie m WHERE m.year < :year OR (m.year = :year AND m.id > :afterId) " +
+           "ORDER BY m.year DESC, m.id ASC")
+    List<Movie> findLatestMoviesAfter(
+            @Param("year") Integer year,
+            @Param("afterId") Long afterId,
+            Limit limit);
+    
+    // Liste görünümü projeksiyonları: yalnızca MovieSummary'nin kolonları okunur,
+    // entity hydration, dirty-checking snapshot'ı ve persistence context büyümesi olmaz
+    @Query(value = "SELECT " + SUMMARY_COLUMNS + " " +
+                   "FROM Movie m ORDER BY m.id ASC",
+           countQuery = "SELECT COUNT(m) FROM Movie m")
+    Page<MovieSummary> findAllSummaries(Pageable pageable);
+    
+    @Query(value = "SELECT " + SUMMARY_COLUMNS + " " +
+                   "FROM Movie m ORDER BY m.imdbRating DESC, m.id ASC",
+           countQuery = "SELECT COUNT(m) FROM Movie m")
+    Page<MovieSummary> findTopRatedSummaries(Pageable pageable);
+    
+    @Query(value = "SELECT " + SUMMARY_COLUMNS + " " +
+                   "FROM Movie m ORDER BY m.year DESC, m.id ASC",
+           countQuery = "SELECT COUNT(m) FROM Movie m")
+    Page<MovieSummary> findLatestSummaries(Pageable pageable);
+    
+    // Akış (streaming) listeleri için: satırlar fetch size'lık parçalarla okunur, entity'ler
+    // read-only yüklenir (dirty-checking snapshot'ı tutulmaz). Kapatılması çağırana aittir.
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "100"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT m FROM Movie m ORDER BY m.id")
+    Stream<Movie> streamAll();
+    
+    // Tek DELETE: entity yüklenmez, türler ve ilişki satırları ON DELETE CASCADE ile veritabanında silinir
+    // (JPQL toplu silme her koleksiyon tablosu için ayrıca DELETE çalıştırır). Sorgu alanları verildiği için
+    // 2. seviye cache'te yalnızca bu tablolara bağlı bölgeler (Actor.movies, Director.movies) temizlenir.
+    // Silinen satır sayısını döner (0 = film yok).
+    @Modifying
+    @Transactional
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "movie"),
+        @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "movie_genres"),
+        @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "movie_director"),
+        @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "movie_actor"),
+        @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "movie_award")
+    })
+    @Query(value = "DELETE FROM movie WHERE id = :id", nativeQuery = true)
+    int deleteMovieById(@Param("id") Long id);
+    
+    // H2, bitand içindeki parametrenin tipini çıkaramadığı için maskeler açıkça BIGINT'e çevrilir
+    String GENRE_MASK_MATCH = "bitand(gm.genreMask, cast(:all as Long)) = :all " +
+                              "AND bitand(gm.genreMask, cast(:none as Long)) = 0 " +
+                              "AND (cast(:any as Long) = 0 OR bitand(gm.genreMask, cast(:any as Long)) <> 0)";
+    
+    // MovieSummary getter'larıyla eşleşen takma adlar
+    String SUMMARY_COLUMNS = "m.id AS id, m.title AS title, m.year AS year, m.imdbRating AS imdbRating, " +
+                             "m.imageUrl AS imageUrl, m.duration AS duration, m.partOfSeries AS partOfSeries";
+}
@@ -0,0 +1,94 @@
+package com.denizcan.moviedatabase.repository;
+
+import com.denizcan.moviedatabase.dto.MovieFilter;
+import com.denizcan.moviedatabase.model.Movie;
+import com.denizcan.moviedatabase.model.MovieGenre;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.hibernate.query.criteria.JpaExpression;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// MovieFilter'dan dinamik sorgu üretir. "(:p IS NULL OR ...)" kalıbındaki tek sorgunun aksine yalnızca
+// dolu alanlar WHERE'e girer; böylece H2 her filtre kombinasyonu için ilgili indeksi seçebilir.
+public final class MovieSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private MovieSpecifications() {}
+
+    public static Specification<Movie> matching(MovieFilter filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (filter.getTitle() != null) {
+                predicates.add(cb.like(cb.lower(root.get("title")), containsPattern(filter.getTitle()), LIKE_ESCAPE));
+            }
+            if (filter.getYear() != null) {
+                predicates.add(cb.equal(root.get("year"), filter.getYear()));
+            }
+            if (filter.getMinRating() != null) {
+                predicates.add(cb.ge(root.get("imdbRating"), filter.getMinRating()));
+            }
+            if (filter.getGenres() != null && !filter.getGenres().isEmpty()) {
+                // Türlerin hepsi: genre_mask & mask = mask (findByGenreMask ile aynı koşul)
+                long mask = MovieGenre.toMask(filter.getGenres());
+                predicates.add(cb.equal(cb.function("bitand", Long.class, root.get("genreMask"), bigint(cb, mask)), mask));
+            }
+            // İlişki filtreleri join tablosundaki id indeksinden alt sorgu ile okunur; join'in satır çoğaltması olmaz
+            if (filter.getDirectorId() != null) {
+                predicates.add(root.get("id").in(relatedTo(query, cb, "director", filter.getDirectorId())));
+            }
+            if (filter.getActorId() != null) {
+                predicates.add(root.get("id").in(relatedTo(query, cb, "cast", filter.getActorId())));
+            }
+            if (filter.getAwardId() != null) {
+                predicates.add(root.get("id").in(relatedTo(query, cb, "awards", filter.getAwardId())));
+            }
+            if (filter.getMinDuration() != null) {
+                predicates.add(cb.ge(root.get("duration"), filter.getMinDuration()));
+            }
+            if (filter.getMaxDuration() != null) {
+                predicates.add(cb.le(root.get("duration"), filter.getMaxDuration()));
+            }
+            if (filter.getMinBudget() != null) {
+                predicates.add(cb.ge(root.get("budget"), filter.getMinBudget()));
+            }
+            if (filter.getMaxBudget() != null) {
+                predicates.add(cb.le(root.get("budget"), filter.getMaxBudget()));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    // Keyset sayfalama için id > afterId
+    public static Specification<Movie> idAfter(long afterId) {
+        return (root, query, cb) -> cb.gt(root.get("id"), afterId);
+    }
+
+    private static Subquery<Long> relatedTo(CriteriaQuery<?> query, CriteriaBuilder cb, String relation, Long id) {
+        Subquery<Long> subquery = query.subquery(Long.class);
+        Root<Movie> movie = subquery.from(Movie.class);
+        return subquery.select(movie.get("id"))
+                .where(cb.equal(movie.join(relation).get("id"), id));
+    }
+
+    private static String containsPattern(String text) {
+        String escaped = text.toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    // H2, bitand içindeki parametrenin tipini çıkaramadığı için maske açıkça BIGINT'e çevrilir
+    @SuppressWarnings("unchecked")
+    private static JpaExpression<Long> bigint(CriteriaBuilder cb, long value) {
+        return ((JpaExpression<Long>) cb.literal(value)).cast(Long.class);
+    }
+}
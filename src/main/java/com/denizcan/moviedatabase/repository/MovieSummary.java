@@ -0,0 +1,14 @@
+package com.denizcan.moviedatabase.repository;
+
+// Liste görünümü projeksiyonu: MovieRepository özet sorguları yalnızca bu kolonları okur
+// (entity oluşturulmaz, özet/bütçe gibi büyük kolonlar ve ilişkiler okunmaz).
+// Sorgudaki takma adlar (AS id, AS title, ...) getter adlarıyla eşleşmelidir.
+public interface MovieSummary {
+    Long getId();
+    String getTitle();
+    Integer getYear();
+    double getImdbRating();
+    String getImageUrl();
+    Integer getDuration();
+    Boolean getPartOfSeries();
+}
@@ -2,8 +2,11 @@ package com.denizcan.moviedatabase.repository;
 
 import com.denizcan.moviedatabase.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +15,18 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
+    
+    // Kayıt kontrolü tek sorguda: kullanıcı adı veya email'i eşleşen kullanıcıların adları
+    @Query("SELECT u.username FROM User u WHERE u.username = :username OR u.email = :email")
+    List<String> findUsernamesByUsernameOrEmail(@Param("username") String username, @Param("email") String email);
+    
+    // Kullanıcı adı / email filtresinin açılışta doldurulması için
+    @Query("SELECT u.username FROM User u")
+    List<String> findAllUsernames();
+    
+    @Query("SELECT u.email FROM User u")
+    List<String> findAllEmails();
+    
+    // Token sürümü artırılmış (en az bir kez iptal edilmiş) kullanıcılar
+    List<User> findByTokenVersionGreaterThan(int tokenVersion);
 } 
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.denizcan.moviedatabase.search;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+// Film id'lerini yoğun satır numaralarına (0..size-1) eşler; indekslerin doküman dizileri bu satırlarla
+// adreslenir, böylece bellek en büyük id'ye değil indeksteki film sayısına bağlıdır.
+// Silmede son satır boşalan satıra taşınır (MovieFacetIndex ile aynı yöntem).
+final class DocRows {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Map<Long, Integer> rows = new HashMap<>();
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private int size;
+
+    // Film indekste yoksa -1
+    int rowOf(long id) {
+        Integer row = rows.get(id);
+        return row == null ? -1 : row;
+    }
+
+    // Film için yeni satır açar (film indekste olmamalı)
+    int add(long id) {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size + (size >> 1));
+        }
+        ids[size] = id;
+        rows.put(id, size);
+        return size++;
+    }
+
+    // Filmin satırını boşaltır ve taşınan son satırın eski numarasını döner; çağıran kendi dizilerinde
+    // döndürülen satırı silinen satıra taşır (ikisi eşitse taşıma yoktur)
+    int remove(long id) {
+        int row = rows.remove(id);
+        int last = --size;
+        if (row != last) {
+            ids[row] = ids[last];
+            rows.put(ids[row], row);
+        }
+        return last;
+    }
+
+    long idAt(int row) { return ids[row]; }
+    int size() { return size; }
+}
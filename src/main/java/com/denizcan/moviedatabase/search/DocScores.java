@@ -0,0 +1,66 @@
+package com.denizcan.moviedatabase.search;
+
+import java.util.Arrays;
+
+// Sorgu sırasında doküman başına skor biriktiren açık adresli int -> double tablosu.
+// Posting ziyaretlerinde kutulama (Integer / Double) ve giriş nesnesi oluşturulmaz.
+final class DocScores {
+    private static final int EMPTY = -1;
+
+    private int[] docs;
+    private double[] scores;
+    private int size;
+
+    // expected: beklenen aday sayısı (ör. posting uzunluklarının toplamı); tablo bunun iki katından küçük olmaz
+    DocScores(int expected) {
+        int capacity = Integer.highestOneBit(Math.max(expected, 4) * 2 - 1) << 1;
+        docs = new int[capacity];
+        Arrays.fill(docs, EMPTY);
+        scores = new double[capacity];
+    }
+
+    void add(int doc, double score) {
+        int slot = slot(docs, doc);
+        if (docs[slot] == EMPTY) {
+            docs[slot] = doc;
+            size++;
+            if (size * 2 > docs.length) {
+                grow();
+                slot = slot(docs, doc);
+            }
+        }
+        scores[slot] += score;
+    }
+
+    int size() { return size; }
+    int capacity() { return docs.length; }
+
+    // Dolu olmayan slotlarda docAt EMPTY (-1) döner
+    int docAt(int slot) { return docs[slot]; }
+    double scoreAt(int slot) { return scores[slot]; }
+
+    private void grow() {
+        int[] oldDocs = docs;
+        double[] oldScores = scores;
+        docs = new int[oldDocs.length * 2];
+        Arrays.fill(docs, EMPTY);
+        scores = new double[docs.length];
+        for (int i = 0; i < oldDocs.length; i++) {
+            if (oldDocs[i] != EMPTY) {
+                int slot = slot(docs, oldDocs[i]);
+                docs[slot] = oldDocs[i];
+                scores[slot] = oldScores[i];
+            }
+        }
+    }
+
+    private static int slot(int[] docs, int doc) {
+        int mask = docs.length - 1;
+        int hash = doc * 0x9E3779B9;
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        while (docs[slot] != EMPTY && docs[slot] != doc) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+}
@@ -0,0 +1,237 @@
+package com.denizcan.moviedatabase.search;
+
+import com.denizcan.moviedatabase.dto.MovieFilter;
+import com.denizcan.moviedatabase.model.Movie;
+import com.denizcan.moviedatabase.model.MovieGenre;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Filtreli aramanın yanında gösterilen sayılar (tür, on yıl, puan aralığı) için sütun bazlı bellek içi indeks.
+// Her film bir satırdır; yıl, puan, tür maskesi, süre, bütçe ve küçük harfli başlık ayrı dizilerde tutulur.
+// Sayımlar filtreye uyan satırlar üzerinde tek geçişte yapılır, veritabanına GROUP BY gönderilmez.
+// İlişki filtreleri (yönetmen / oyuncu / ödül) indekste yoktur; covers() false ise çağıran eşleşen
+// film id'lerini kendisi bulur ve count(filter, ids) ile sayımı bu satırlarla sınırlar.
+@Component
+public class MovieFacetIndex implements MovieIndex {
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int NULL_YEAR = Integer.MIN_VALUE;
+    private static final int NULL_DURATION = Integer.MIN_VALUE;
+    private static final int RATING_BANDS = 10;
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private int[] years = new int[INITIAL_CAPACITY];
+    private double[] ratings = new double[INITIAL_CAPACITY];
+    private long[] genreMasks = new long[INITIAL_CAPACITY];
+    private int[] durations = new int[INITIAL_CAPACITY];
+    private BigDecimal[] budgets = new BigDecimal[INITIAL_CAPACITY];
+    private String[] titles = new String[INITIAL_CAPACITY];
+    private int size;
+
+    // Film id -> satır; silmede son satır boşalan yere taşınır
+    private final Map<Long, Integer> rows = new HashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Override
+    public void index(Movie movie) {
+        if (movie.getId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Integer row = rows.get(movie.getId());
+            if (row == null) {
+                ensureCapacity(size + 1);
+                row = size++;
+                rows.put(movie.getId(), row);
+            }
+            ids[row] = movie.getId();
+            years[row] = movie.getYear() == null ? NULL_YEAR : movie.getYear();
+            ratings[row] = movie.getImdbRating();
+            genreMasks[row] = MovieGenre.toMask(movie.getGenre());
+            durations[row] = movie.getDuration() == null ? NULL_DURATION : movie.getDuration();
+            budgets[row] = movie.getBudget();
+            titles[row] = movie.getTitle() == null ? "" : movie.getTitle().toLowerCase(Locale.ROOT);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long movieId) {
+        if (movieId == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Integer row = rows.remove(movieId);
+            if (row == null) {
+                return;
+            }
+            int last = --size;
+            if (row != last) {
+                ids[row] = ids[last];
+                years[row] = years[last];
+                ratings[row] = ratings[last];
+                genreMasks[row] = genreMasks[last];
+                durations[row] = durations[last];
+                budgets[row] = budgets[last];
+                titles[row] = titles[last];
+                rows.put(ids[row], row);
+            }
+            budgets[last] = null;
+            titles[last] = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Filtrenin tüm koşulları indeksteki kolonlarla değerlendirilebilir mi
+    public static boolean covers(MovieFilter filter) {
+        return filter.getDirectorId() == null && filter.getActorId() == null && filter.getAwardId() == null;
+    }
+
+    public Facets count(MovieFilter filter) {
+        if (!covers(filter)) {
+            throw new IllegalArgumentException("İlişki filtreleri facet indeksinde yok; eşleşen film id'leri verilmeli");
+        }
+        return count(filter, null);
+    }
+
+    // MovieSpecifications.matching ile aynı kolon koşulları; boş alan filtre uygulamaz, ilişki filtreleri yok sayılır.
+    // movieIds null değilse yalnızca bu filmler sayılır (ilişki filtresine uyanlar)
+    public Facets count(MovieFilter filter, Set<Long> movieIds) {
+        String needle = filter.getTitle() == null ? null : filter.getTitle().toLowerCase(Locale.ROOT);
+        Integer year = filter.getYear();
+        Double minRating = filter.getMinRating();
+        long genreMask = MovieGenre.toMask(filter.getGenres());
+        Integer minDuration = filter.getMinDuration();
+        Integer maxDuration = filter.getMaxDuration();
+        BigDecimal minBudget = filter.getMinBudget();
+        BigDecimal maxBudget = filter.getMaxBudget();
+        long[] genreCounts = new long[MovieGenre.values().length];
+        long[] ratingCounts = new long[RATING_BANDS];
+        Map<Integer, Long> decades = new TreeMap<>(Collections.reverseOrder());
+        long total = 0;
+
+        lock.readLock().lock();
+        try {
+            int[] selected = movieIds == null ? null : rowsOf(movieIds);
+            int candidates = selected == null ? size : selected.length;
+            for (int i = 0; i < candidates; i++) {
+                int row = selected == null ? i : selected[i];
+                if ((year != null && years[row] != year)
+                        || (minRating != null && ratings[row] < minRating)
+                        || (genreMasks[row] & genreMask) != genreMask
+                        || !inRange(durations[row], minDuration, maxDuration)
+                        || !inRange(budgets[row], minBudget, maxBudget)
+                        || (needle != null && !titles[row].contains(needle))) {
+                    continue;
+                }
+                total++;
+                for (long mask = genreMasks[row]; mask != 0; mask &= mask - 1) {
+                    genreCounts[Long.numberOfTrailingZeros(mask)]++;
+                }
+                ratingCounts[ratingBand(ratings[row])]++;
+                if (years[row] != NULL_YEAR) {
+                    decades.merge(Math.floorDiv(years[row], 10) * 10, 1L, Long::sum);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Map<MovieGenre, Long> genres = new EnumMap<>(MovieGenre.class);
+        for (MovieGenre genre : MovieGenre.values()) {
+            if (genreCounts[genre.ordinal()] > 0) {
+                genres.put(genre, genreCounts[genre.ordinal()]);
+            }
+        }
+        Map<Integer, Long> ratingBands = new TreeMap<>(Collections.reverseOrder());
+        for (int band = 0; band < RATING_BANDS; band++) {
+            if (ratingCounts[band] > 0) {
+                ratingBands.put(band, ratingCounts[band]);
+            }
+        }
+        return new Facets(total, genres, decades, ratingBands);
+    }
+
+    // İndekste olmayan id'ler atlanır
+    private int[] rowsOf(Set<Long> movieIds) {
+        int[] selected = new int[movieIds.size()];
+        int count = 0;
+        for (Long movieId : movieIds) {
+            Integer row = rows.get(movieId);
+            if (row != null) {
+                selected[count++] = row;
+            }
+        }
+        return Arrays.copyOf(selected, count);
+    }
+
+    // SQL'deki gibi NULL değer, sınır verilmişse aralığa girmez
+    private static boolean inRange(int duration, Integer min, Integer max) {
+        if (min == null && max == null) {
+            return true;
+        }
+        return duration != NULL_DURATION && (min == null || duration >= min) && (max == null || duration <= max);
+    }
+
+    private static boolean inRange(BigDecimal budget, BigDecimal min, BigDecimal max) {
+        if (min == null && max == null) {
+            return true;
+        }
+        return budget != null && (min == null || budget.compareTo(min) >= 0) && (max == null || budget.compareTo(max) <= 0);
+    }
+
+    // [k, k + 1) aralığı k'ya düşer; 10 puan son aralığa dahildir
+    private static int ratingBand(double rating) {
+        return Math.max(0, Math.min(RATING_BANDS - 1, (int) Math.floor(rating)));
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= ids.length) {
+            return;
+        }
+        int capacity = Math.max(required, ids.length * 2);
+        ids = Arrays.copyOf(ids, capacity);
+        years = Arrays.copyOf(years, capacity);
+        ratings = Arrays.copyOf(ratings, capacity);
+        genreMasks = Arrays.copyOf(genreMasks, capacity);
+        durations = Arrays.copyOf(durations, capacity);
+        budgets = Arrays.copyOf(budgets, capacity);
+        titles = Arrays.copyOf(titles, capacity);
+    }
+
+    public static class Facets {
+        private final long total;
+        private final Map<MovieGenre, Long> genres;
+        private final Map<Integer, Long> decades;
+        private final Map<Integer, Long> ratingBands;
+
+        public Facets(long total, Map<MovieGenre, Long> genres, Map<Integer, Long> decades, Map<Integer, Long> ratingBands) {
+            this.total = total;
+            this.genres = genres;
+            this.decades = decades;
+            this.ratingBands = ratingBands;
+        }
+
+        public long getTotal() { return total; }
+        public Map<MovieGenre, Long> getGenres() { return genres; }
+        // Anahtar on yılın ilk yılı (1990 -> 1990-1999), yeniden eskiye
+        public Map<Integer, Long> getDecades() { return decades; }
+        // Anahtar puan aralığının alt sınırı (8 -> [8, 9)), yüksekten düşüğe
+        public Map<Integer, Long> getRatingBands() { return ratingBands; }
+    }
+}
@@ -0,0 +1,232 @@
+package com.denizcan.moviedatabase.search;
+
+import com.denizcan.moviedatabase.model.Movie;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Film başlığı ve özeti üzerinde bellek içi ters indeks (inverted index), BM25 ile sıralama yapar.
+// LIKE '%..%' sorgularının yaptığı tam tablo taramasının yerine kullanılır.
+@Component
+public class MovieFullTextIndex implements MovieIndex {
+    // BM25 parametreleri
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    // Başlıkta geçen terimler özetteki terimlerden daha ağır sayılır
+    private static final int TITLE_WEIGHT = 3;
+
+    // Posting listelerindeki dokümanlar DocRows satır numaralarıdır
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final DocRows docRows = new DocRows();
+    // Satır başına benzersiz terimler ve ağırlıklı uzunluk; silme ve BM25 normalizasyonu için
+    private String[][] docTerms = new String[0][];
+    private int[] docLengths = new int[0];
+    private long totalLength;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Override
+    public void index(Movie movie) {
+        if (movie.getId() == null) {
+            return;
+        }
+        Map<String, Integer> termFreqs = new LinkedHashMap<>();
+        for (String token : TextNormalizer.tokenize(movie.getTitle())) {
+            termFreqs.merge(token, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String token : TextNormalizer.tokenize(movie.getSynopsis())) {
+            termFreqs.merge(token, 1, Integer::sum);
+        }
+        int length = 0;
+        for (int freq : termFreqs.values()) {
+            length += freq;
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(movie.getId());
+            int doc = docRows.add(movie.getId());
+            for (Map.Entry<String, Integer> entry : termFreqs.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), t -> new PostingList()).put(doc, entry.getValue());
+            }
+            ensureCapacity(doc);
+            docTerms[doc] = termFreqs.keySet().toArray(new String[0]);
+            docLengths[doc] = length;
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long movieId) {
+        if (movieId == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeInternal(movieId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void ensureCapacity(int doc) {
+        if (doc >= docTerms.length) {
+            int capacity = Math.max(doc + 1, docTerms.length + (docTerms.length >> 1));
+            docTerms = Arrays.copyOf(docTerms, capacity);
+            docLengths = Arrays.copyOf(docLengths, capacity);
+        }
+    }
+
+    private void removeInternal(long movieId) {
+        int doc = docRows.rowOf(movieId);
+        if (doc < 0) {
+            return;
+        }
+        for (String term : docTerms[doc]) {
+            PostingList list = postings.get(term);
+            list.remove(doc);
+            if (list.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+        totalLength -= docLengths[doc];
+
+        // Son satır boşalan satıra taşınır, posting listelerindeki numarası da güncellenir
+        int last = docRows.remove(movieId);
+        if (last != doc) {
+            for (String term : docTerms[last]) {
+                postings.get(term).move(last, doc);
+            }
+            docTerms[doc] = docTerms[last];
+            docLengths[doc] = docLengths[last];
+        }
+        docTerms[last] = null;
+        docLengths[last] = 0;
+    }
+
+    // Sorgu terimlerinden en az birini içeren filmlerin id'lerini BM25 skoruna göre azalan sırada döner
+    public List<Long> search(String query, int limit) {
+        List<String> terms = TextNormalizer.tokenize(query);
+        if (terms.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        lock.readLock().lock();
+        try {
+            int docCount = docRows.size();
+            if (docCount == 0) {
+                return Collections.emptyList();
+            }
+            double avgLength = (double) totalLength / docCount;
+            List<PostingList> lists = new ArrayList<>();
+            int candidates = 0;
+            for (String term : new LinkedHashSet<>(terms)) {
+                PostingList list = postings.get(term);
+                if (list != null) {
+                    lists.add(list);
+                    candidates += list.size();
+                }
+            }
+            DocScores scores = new DocScores(candidates);
+            for (PostingList list : lists) {
+                int df = list.size();
+                double idf = Math.log(1 + (docCount - df + 0.5) / (df + 0.5));
+                for (int i = 0; i < df; i++) {
+                    int doc = list.docAt(i);
+                    int tf = list.freqAt(i);
+                    double norm = K1 * (1 - B + B * docLengths[doc] / avgLength);
+                    scores.add(doc, idf * tf * (K1 + 1) / (tf + norm));
+                }
+            }
+            return topK(scores, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docRows.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Skor eşitliğinde küçük id önce gelir. En iyi limit adayı, kökünde en zayıf aday olan
+    // slot dizisi üzerindeki bir min-heap'te tutulur (PriorityQueue kutulaması olmadan).
+    private List<Long> topK(DocScores scores, int limit) {
+        int[] heap = new int[Math.min(limit, scores.size())];
+        int size = 0;
+        for (int slot = 0; slot < scores.capacity(); slot++) {
+            if (scores.docAt(slot) < 0) {
+                continue;
+            }
+            if (size < heap.length) {
+                heap[size] = slot;
+                siftUp(scores, heap, size++);
+            } else if (better(scores, slot, heap[0])) {
+                heap[0] = slot;
+                siftDown(scores, heap, size);
+            }
+        }
+        Long[] result = new Long[size];
+        while (size > 0) {
+            result[--size] = docRows.idAt(scores.docAt(heap[0]));
+            heap[0] = heap[size];
+            siftDown(scores, heap, size);
+        }
+        return Arrays.asList(result);
+    }
+
+    private boolean better(DocScores scores, int a, int b) {
+        double scoreA = scores.scoreAt(a);
+        double scoreB = scores.scoreAt(b);
+        return scoreA != scoreB ? scoreA > scoreB : docRows.idAt(scores.docAt(a)) < docRows.idAt(scores.docAt(b));
+    }
+
+    private void siftUp(DocScores scores, int[] heap, int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!better(scores, heap[parent], heap[i])) {
+                break;
+            }
+            swap(heap, parent, i);
+            i = parent;
+        }
+    }
+
+    private void siftDown(DocScores scores, int[] heap, int size) {
+        int i = 0;
+        while (true) {
+            int weakest = i;
+            for (int child = 2 * i + 1; child <= 2 * i + 2 && child < size; child++) {
+                if (better(scores, heap[weakest], heap[child])) {
+                    weakest = child;
+                }
+            }
+            if (weakest == i) {
+                return;
+            }
+            swap(heap, i, weakest);
+            i = weakest;
+        }
+    }
+
+    private static void swap(int[] heap, int i, int j) {
+        int tmp = heap[i];
+        heap[i] = heap[j];
+        heap[j] = tmp;
+    }
+}
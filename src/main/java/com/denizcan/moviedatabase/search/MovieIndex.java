@@ -0,0 +1,14 @@
+package com.denizcan.moviedatabase.search;
+
+import com.denizcan.moviedatabase.model.Movie;
+
+// Film yazma işlemlerinde (save/deleteById) güncel tutulan bellek içi indeksler
+public interface MovieIndex {
+    // Film yoksa eklenir, varsa eski kaydın yerine geçer
+    void index(Movie movie);
+
+    void remove(Long movieId);
+
+    // Açılıştaki toplu yükleme (MovieIndexLoader) bittiğinde çağrılır
+    default void loadCompleted() {}
+}
@@ -0,0 +1,44 @@
+package com.denizcan.moviedatabase.search;
+
+import com.denizcan.moviedatabase.model.Movie;
+import com.denizcan.moviedatabase.service.MovieService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Uygulama açılışında tüm bellek içi film indekslerini doldurur.
+// Kaynak aktif MovieService'tir: veritabanı ya da salt okunur düğümlerde snapshot dosyası.
+@Component
+public class MovieIndexLoader {
+    private static final Logger log = LoggerFactory.getLogger(MovieIndexLoader.class);
+
+    private final MovieService movieService;
+    private final List<MovieIndex> movieIndexes;
+
+    public MovieIndexLoader(MovieService movieService, List<MovieIndex> movieIndexes) {
+        this.movieService = movieService;
+        this.movieIndexes = movieIndexes;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIndexes() {
+        long start = System.currentTimeMillis();
+        AtomicInteger count = new AtomicInteger();
+        movieService.streamAll(chunk -> {
+            for (Movie movie : chunk) {
+                for (MovieIndex index : movieIndexes) {
+                    index.index(movie);
+                }
+            }
+            count.addAndGet(chunk.size());
+        });
+        movieIndexes.forEach(MovieIndex::loadCompleted);
+        log.info("{} film {} indekse {} ms içinde yüklendi",
+                count.get(), movieIndexes.size(), System.currentTimeMillis() - start);
+    }
+}
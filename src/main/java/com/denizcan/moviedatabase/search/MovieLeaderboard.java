@@ -0,0 +1,253 @@
+package com.denizcan.moviedatabase.search;
+
+import com.denizcan.moviedatabase.model.Movie;
+import com.denizcan.moviedatabase.model.MovieGenre;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// En yüksek puanlı ve en yeni filmlerin bellek içi sıralı listeleri (top-K), genel ve tür başına.
+// Her liste sıralamanın ilk capacity filmini tutar ve save / deleteById ile artımlı güncellenir;
+// ilk sayfalar sıralama yapılmadan buradan okunur, listenin kapsamadığı derin sayfalar veritabanına düşer.
+// Sıralama repository sorgularıyla aynıdır: anahtar azalan, eşitlikte id artan; yılı olmayanlar en sonda.
+// Sıralama anahtarları yalnızca en az bir listede bulunan filmler için tutulur. Toplamlar için her film
+// yoğun satır numarasıyla (DocRows) adreslenen bir tür maskesi ve satır eşlemesi bırakır; bellek en büyük
+// id'ye değil film sayısına bağlıdır. Listeden düşen film geri alınmaz, derin sayfalar veritabanından okunur.
+@Component
+public class MovieLeaderboard implements MovieIndex {
+
+    public enum Ranking {
+        RATING(Comparator.comparingDouble(Entry::rating).reversed().thenComparingLong(Entry::id)),
+        RECENCY(Comparator.comparingInt(Entry::year).reversed().thenComparingLong(Entry::id));
+
+        private final Comparator<Entry> order;
+
+        Ranking(Comparator<Entry> order) {
+            this.order = order;
+        }
+    }
+
+    private final int capacity;
+
+    // Güncelleme / silmede eski konumu bulmak için listelerdeki filmlerin sıralama anahtarları
+    private final Map<Long, Entry> entries = new HashMap<>();
+    // Satır başına tür maskeleri; toplam ve tür sayıları için
+    private final DocRows docRows = new DocRows();
+    private long[] genreMasks = new long[0];
+    private final Map<MovieGenre, Integer> genreCounts = new EnumMap<>(MovieGenre.class);
+    private final Map<Ranking, Board> global = new EnumMap<>(Ranking.class);
+    private final Map<Ranking, Map<MovieGenre, Board>> byGenre = new EnumMap<>(Ranking.class);
+
+    // Açılış yüklemesi bitmeden listeler eksiktir; o zamana kadar tüm sayfalar veritabanından okunur
+    private volatile boolean loaded;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public MovieLeaderboard(@Value("${movie.leaderboard.size:1000}") int capacity) {
+        this.capacity = capacity;
+        for (Ranking ranking : Ranking.values()) {
+            global.put(ranking, new Board(ranking.order));
+            byGenre.put(ranking, new EnumMap<>(MovieGenre.class));
+        }
+    }
+
+    @Override
+    public void index(Movie movie) {
+        if (movie.getId() == null) {
+            return;
+        }
+        Set<MovieGenre> genres = movie.getGenre() == null || movie.getGenre().isEmpty()
+                ? EnumSet.noneOf(MovieGenre.class) : EnumSet.copyOf(movie.getGenre());
+        Entry entry = new Entry(movie.getId(), movie.getImdbRating(),
+                movie.getYear() == null ? Integer.MIN_VALUE : movie.getYear(), genres);
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(entry.id());
+            int doc = docRows.add(entry.id());
+            if (doc >= genreMasks.length) {
+                genreMasks = Arrays.copyOf(genreMasks, Math.max(doc + 1, genreMasks.length + (genreMasks.length >> 1)));
+            }
+            genreMasks[doc] = MovieGenre.toMask(genres);
+            for (MovieGenre genre : genres) {
+                genreCounts.merge(genre, 1, Integer::sum);
+            }
+
+            entries.put(entry.id(), entry);
+            List<Entry> dropped = new ArrayList<>();
+            for (Ranking ranking : Ranking.values()) {
+                dropped.add(global.get(ranking).offer(entry, capacity));
+                for (MovieGenre genre : genres) {
+                    dropped.add(byGenre.get(ranking).computeIfAbsent(genre, g -> new Board(ranking.order)).offer(entry, capacity));
+                }
+            }
+            // Hiçbir listede kalmayan filmlerin anahtarları bırakılır
+            for (Entry candidate : dropped) {
+                if (candidate != null && !onAnyBoard(candidate)) {
+                    entries.remove(candidate.id(), candidate);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long movieId) {
+        if (movieId == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeInternal(movieId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void loadCompleted() {
+        loaded = true;
+    }
+
+    private void removeInternal(Long movieId) {
+        int doc = docRows.rowOf(movieId);
+        if (doc < 0) {
+            return;
+        }
+        long mask = genreMasks[doc];
+        // Son satır boşalan satıra taşınır
+        int last = docRows.remove(movieId);
+        genreMasks[doc] = genreMasks[last];
+        genreMasks[last] = 0;
+        for (long genres = mask; genres != 0; genres &= genres - 1) {
+            genreCounts.merge(MovieGenre.values()[Long.numberOfTrailingZeros(genres)], -1, Integer::sum);
+        }
+
+        Entry entry = entries.remove(movieId);
+        if (entry == null) {
+            return;
+        }
+        for (Ranking ranking : Ranking.values()) {
+            global.get(ranking).remove(entry);
+            for (MovieGenre genre : entry.genres()) {
+                byGenre.get(ranking).get(genre).remove(entry);
+            }
+        }
+    }
+
+    private boolean onAnyBoard(Entry entry) {
+        for (Ranking ranking : Ranking.values()) {
+            if (global.get(ranking).contains(entry)) {
+                return true;
+            }
+            for (MovieGenre genre : entry.genres()) {
+                if (byGenre.get(ranking).get(genre).contains(entry)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // Sıralama anahtarı tutulan film sayısı (testler için)
+    int entryCount() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // İstenen sayfanın film id'leri (sıralı) ve toplam film sayısı; genre null ise tüm filmler.
+    // Liste sayfayı kesin olarak kapsamıyorsa boş döner ve çağıran veritabanına gider.
+    public Optional<Page<Long>> page(Ranking ranking, MovieGenre genre, Pageable pageable) {
+        if (!loaded || pageable.isUnpaged()) {
+            return Optional.empty();
+        }
+        lock.readLock().lock();
+        try {
+            Board board = genre == null ? global.get(ranking) : byGenre.get(ranking).get(genre);
+            long total = genre == null ? docRows.size() : genreCounts.getOrDefault(genre, 0);
+            if (board == null) {
+                return total == 0 ? Optional.of(new PageImpl<>(List.of(), pageable, 0)) : Optional.empty();
+            }
+            long end = pageable.getOffset() + pageable.getPageSize();
+            if (!board.covers(end)) {
+                return Optional.empty();
+            }
+            return Optional.of(new PageImpl<>(board.ids(pageable.getOffset(), pageable.getPageSize()), pageable, total));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    record Entry(long id, double rating, int year, Set<MovieGenre> genres) {}
+
+    // Sıralamanın baş kısmı. truncated: kuyruktan film atıldı, yani liste yalnızca kendi boyu kadar
+    // sırayı kesin bilir. Bu durumda son elemandan sonra gelecek filmler eklenmez (aradaki atılmış
+    // filmlerin yeri bilinmez); silmeler listeyi kısaltır, açılışta yeniden tam boyla kurulur.
+    private static final class Board {
+        private final TreeSet<Entry> ranked;
+        private boolean truncated;
+
+        Board(Comparator<Entry> order) {
+            this.ranked = new TreeSet<>(order);
+        }
+
+        // Listeye girmeyen ya da kuyruktan atılan filmi döner (yoksa null)
+        Entry offer(Entry entry, int capacity) {
+            if (truncated && (ranked.isEmpty() || ranked.comparator().compare(entry, ranked.last()) > 0)) {
+                return entry;
+            }
+            ranked.add(entry);
+            if (ranked.size() > capacity) {
+                truncated = true;
+                return ranked.pollLast();
+            }
+            return null;
+        }
+
+        boolean contains(Entry entry) {
+            return ranked.contains(entry);
+        }
+
+        void remove(Entry entry) {
+            ranked.remove(entry);
+        }
+
+        boolean covers(long end) {
+            return !truncated || end <= ranked.size();
+        }
+
+        List<Long> ids(long offset, int size) {
+            List<Long> ids = new ArrayList<>(size);
+            Iterator<Entry> iterator = ranked.iterator();
+            for (long skipped = 0; skipped < offset && iterator.hasNext(); skipped++) {
+                iterator.next();
+            }
+            while (ids.size() < size && iterator.hasNext()) {
+                ids.add(iterator.next().id());
+            }
+            return ids;
+        }
+    }
+}
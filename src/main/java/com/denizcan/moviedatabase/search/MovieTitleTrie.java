@@ -0,0 +1,280 @@
+package com.denizcan.moviedatabase.search;
+
+import com.denizcan.moviedatabase.model.Movie;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Başlık otomatik tamamlama için önek ağacı (trie).
+// Her düğüm, alt ağacındaki en yüksek IMDB puanlı MAX_SUGGESTIONS filmi önceden hesaplanmış olarak tutar,
+// böylece bir önek sorgusu önek uzunluğu kadar adımda cevaplanır ve veritabanına gidilmez.
+@Component
+public class MovieTitleTrie implements MovieIndex {
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private static final Comparator<Suggestion> BY_RATING =
+            Comparator.comparingDouble(Suggestion::getImdbRating).reversed()
+                    .thenComparingLong(Suggestion::getId);
+
+    private final Node root = new Node();
+    // Silme ve güncelleme için film başına eklenen anahtarlar
+    private final Map<Long, String[]> movieKeys = new HashMap<>();
+    private final Map<Long, Suggestion> suggestions = new HashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Override
+    public void index(Movie movie) {
+        if (movie.getId() == null) {
+            return;
+        }
+        Suggestion suggestion = new Suggestion(movie.getId(), movie.getTitle(), movie.getYear(), movie.getImdbRating());
+        String[] keys = keys(movie.getTitle());
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(movie.getId());
+            for (String key : keys) {
+                Node node = root;
+                for (int i = 0; i < key.length(); i++) {
+                    node = node.childOrCreate(key.charAt(i));
+                    node.offer(suggestion);
+                }
+                node.terminals = append(node.terminals, suggestion);
+            }
+            movieKeys.put(movie.getId(), keys);
+            suggestions.put(movie.getId(), suggestion);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long movieId) {
+        if (movieId == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeInternal(movieId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeInternal(Long movieId) {
+        String[] keys = movieKeys.remove(movieId);
+        Suggestion suggestion = suggestions.remove(movieId);
+        if (keys == null) {
+            return;
+        }
+        for (String key : keys) {
+            Node[] path = new Node[key.length() + 1];
+            path[0] = root;
+            for (int i = 0; i < key.length(); i++) {
+                path[i + 1] = path[i].child(key.charAt(i));
+            }
+            Node last = path[key.length()];
+            last.terminals = Arrays.stream(last.terminals)
+                    .filter(s -> s != suggestion)
+                    .toArray(Suggestion[]::new);
+            // Aşağıdan yukarı: boşalan dallar budanır, dolu listesinden eleman düşen düğümün listesi
+            // çocuklarının (zaten güncel) listelerinden yeniden hesaplanır. Kök düğüm öneri tutmaz.
+            for (int i = key.length(); i > 0; i--) {
+                Node node = path[i];
+                if (node.isEmpty()) {
+                    path[i - 1].removeChild(key.charAt(i - 1));
+                    continue;
+                }
+                if (node.discard(suggestion)) {
+                    node.recomputeTop();
+                }
+            }
+        }
+    }
+
+    // Normalize edilmiş öneki taşıyan filmleri IMDB puanına göre azalan sırada döner
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String key = TextNormalizer.normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.child(key.charAt(i));
+            }
+            if (node == null) {
+                return Collections.emptyList();
+            }
+            int count = Math.min(limit, node.topSize);
+            List<Suggestion> result = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                result.add(node.top[i]);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Başlığın tamamı ve her kelimeden başlayan son ekleri ("the godfather" -> "godfather") anahtar olur
+    static String[] keys(String title) {
+        String normalized = TextNormalizer.normalize(title);
+        Set<String> keys = new LinkedHashSet<>();
+        if (normalized.isEmpty()) {
+            return new String[0];
+        }
+        keys.add(normalized);
+        for (int i = 0; i < normalized.length(); i++) {
+            if (normalized.charAt(i) == ' ') {
+                keys.add(normalized.substring(i + 1));
+            }
+        }
+        return keys.toArray(new String[0]);
+    }
+
+    private static final char[] NO_KEYS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final Suggestion[] NO_SUGGESTIONS = new Suggestion[0];
+
+    private static Suggestion[] append(Suggestion[] array, Suggestion value) {
+        Suggestion[] result = Arrays.copyOf(array, array.length + 1);
+        result[array.length] = value;
+        return result;
+    }
+
+    private static final class Node {
+        // Çocuklar karaktere göre sıralı dizilerde tutulur (HashMap yerine kompakt yapı)
+        // Boş diziler düğümler arasında paylaşılır; diziler yalnızca eleman eklenince ayrılır
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        // Bu düğümde biten anahtarların filmleri
+        private Suggestion[] terminals = NO_SUGGESTIONS;
+        // Derin düğümlerin çoğu tek film taşır; liste gerektikçe MAX_SUGGESTIONS'a kadar büyür
+        private Suggestion[] top = NO_SUGGESTIONS;
+        private int topSize;
+
+        Node child(char c) {
+            int pos = Arrays.binarySearch(keys, c);
+            return pos >= 0 ? children[pos] : null;
+        }
+
+        Node childOrCreate(char c) {
+            int pos = Arrays.binarySearch(keys, c);
+            if (pos >= 0) {
+                return children[pos];
+            }
+            int insertAt = -pos - 1;
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            newKeys[insertAt] = c;
+            newChildren[insertAt] = new Node();
+            System.arraycopy(keys, insertAt, newKeys, insertAt + 1, keys.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+            keys = newKeys;
+            children = newChildren;
+            return newChildren[insertAt];
+        }
+
+        void removeChild(char c) {
+            int pos = Arrays.binarySearch(keys, c);
+            if (pos < 0) {
+                return;
+            }
+            char[] newKeys = new char[keys.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, pos);
+            System.arraycopy(children, 0, newChildren, 0, pos);
+            System.arraycopy(keys, pos + 1, newKeys, pos, keys.length - pos - 1);
+            System.arraycopy(children, pos + 1, newChildren, pos, children.length - pos - 1);
+            keys = newKeys;
+            children = newChildren;
+        }
+
+        boolean isEmpty() {
+            return keys.length == 0 && terminals.length == 0;
+        }
+
+        // Sıralı top listesine ekleme; aynı film aynı düğümden birden fazla anahtarla geçebilir
+        void offer(Suggestion suggestion) {
+            for (int i = 0; i < topSize; i++) {
+                if (top[i] == suggestion) {
+                    return;
+                }
+            }
+            if (topSize == MAX_SUGGESTIONS && BY_RATING.compare(suggestion, top[topSize - 1]) >= 0) {
+                return;
+            }
+            if (topSize == top.length && topSize < MAX_SUGGESTIONS) {
+                top = Arrays.copyOf(top, Math.min(MAX_SUGGESTIONS, Math.max(1, topSize * 2)));
+            }
+            int pos = topSize == MAX_SUGGESTIONS ? topSize - 1 : topSize++;
+            while (pos > 0 && BY_RATING.compare(suggestion, top[pos - 1]) < 0) {
+                top[pos] = top[pos - 1];
+                pos--;
+            }
+            top[pos] = suggestion;
+        }
+
+        // Film listedeyse çıkarılır; liste doluyken eleman düştüyse yeniden hesaplama gerekir
+        boolean discard(Suggestion suggestion) {
+            for (int i = 0; i < topSize; i++) {
+                if (top[i] == suggestion) {
+                    boolean wasFull = topSize == MAX_SUGGESTIONS;
+                    System.arraycopy(top, i + 1, top, i, topSize - i - 1);
+                    top[--topSize] = null;
+                    return wasFull;
+                }
+            }
+            return false;
+        }
+
+        // Düğümün ilk K'sı, kendi terminalleri ile çocuklarının ilk K listelerinin birleşimidir
+        void recomputeTop() {
+            top = NO_SUGGESTIONS;
+            topSize = 0;
+            for (Suggestion suggestion : terminals) {
+                offer(suggestion);
+            }
+            for (Node child : children) {
+                for (int i = 0; i < child.topSize; i++) {
+                    offer(child.top[i]);
+                }
+            }
+        }
+    }
+
+    // Öneri için gereken alanların bellek içi kopyası
+    public static final class Suggestion {
+        private final Long id;
+        private final String title;
+        private final Integer year;
+        private final double imdbRating;
+
+        Suggestion(Long id, String title, Integer year, double imdbRating) {
+            this.id = id;
+            this.title = title;
+            this.year = year;
+            this.imdbRating = imdbRating;
+        }
+
+        public Long getId() { return id; }
+        public String getTitle() { return title; }
+        public Integer getYear() { return year; }
+        public double getImdbRating() { return imdbRating; }
+    }
+}
@@ -0,0 +1,167 @@
+package com.denizcan.moviedatabase.search;
+
+import com.denizcan.moviedatabase.model.Movie;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Yazım hatalarına toleranslı başlık araması için trigram (3-gram) indeksi.
+// Benzerlik pg_trgm ile aynı şekilde hesaplanır: ortak trigram / toplam benzersiz trigram (Jaccard).
+// Bellek sınırı: başlık başına en fazla MAX_TRIGRAMS_PER_TITLE trigram indekslenir; doküman başına
+// maliyet 2 x MAX_TRIGRAMS_PER_TITLE int ile sınırlıdır (posting + doküman trigram id'leri). Dokümanlar
+// yoğun satır numaralarıyla (DocRows) adreslenir, toplam bellek en büyük film id'sine değil film sayısına bağlıdır.
+@Component
+public class MovieTrigramIndex implements MovieIndex {
+    public static final double DEFAULT_THRESHOLD = 0.3;
+    // ~100 harfe kadar başlıklar tamamen indekslenir; daha uzunlarında ilk trigramlar benzerliği belirler
+    static final int MAX_TRIGRAMS_PER_TITLE = 128;
+
+    // Trigram sözlüğü: her trigram bir kez saklanır, posting listeleri ve dokümanlar int id ile başvurur
+    private final Map<String, Integer> trigramIds = new HashMap<>();
+    private final List<PostingList> postings = new ArrayList<>();
+    // Posting listelerindeki dokümanlar DocRows satır numaralarıdır
+    private final DocRows docRows = new DocRows();
+    // Satır başına trigram id'leri; silme ve benzerlik paydası için
+    private int[][] docTrigrams = new int[0][];
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Override
+    public void index(Movie movie) {
+        if (movie.getId() == null) {
+            return;
+        }
+        Set<String> trigrams = trigrams(movie.getTitle());
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(movie.getId());
+            int doc = docRows.add(movie.getId());
+            int[] ids = new int[trigrams.size()];
+            int i = 0;
+            for (String trigram : trigrams) {
+                int id = trigramIds.computeIfAbsent(trigram, t -> {
+                    postings.add(PostingList.docsOnly());
+                    return postings.size() - 1;
+                });
+                postings.get(id).add(doc);
+                ids[i++] = id;
+            }
+            if (doc >= docTrigrams.length) {
+                docTrigrams = Arrays.copyOf(docTrigrams, Math.max(doc + 1, docTrigrams.length + (docTrigrams.length >> 1)));
+            }
+            docTrigrams[doc] = ids;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long movieId) {
+        if (movieId == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeInternal(movieId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Boşalan posting listeleri sözlükte kalır; trigram alfabesi sınırlı olduğu için id'ler yeniden kullanılır
+    private void removeInternal(long movieId) {
+        int doc = docRows.rowOf(movieId);
+        if (doc < 0) {
+            return;
+        }
+        for (int id : docTrigrams[doc]) {
+            postings.get(id).remove(doc);
+        }
+        // Son satır boşalan satıra taşınır, posting listelerindeki numarası da güncellenir
+        int last = docRows.remove(movieId);
+        if (last != doc) {
+            for (int id : docTrigrams[last]) {
+                postings.get(id).move(last, doc);
+            }
+            docTrigrams[doc] = docTrigrams[last];
+        }
+        docTrigrams[last] = null;
+    }
+
+    // Benzerliği eşik değerinin üzerinde olan filmlerin id'lerini benzerliğe göre azalan sırada döner
+    public List<Long> search(String title, double threshold, int limit) {
+        Set<String> queryTrigrams = trigrams(title);
+        if (queryTrigrams.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<PostingList> lists = new ArrayList<>(queryTrigrams.size());
+            int candidates = 0;
+            for (String trigram : queryTrigrams) {
+                Integer id = trigramIds.get(trigram);
+                if (id != null) {
+                    lists.add(postings.get(id));
+                    candidates += postings.get(id).size();
+                }
+            }
+            // Aday dokümanlar için ortak trigram sayısı
+            DocScores shared = new DocScores(candidates);
+            for (PostingList list : lists) {
+                for (int i = 0; i < list.size(); i++) {
+                    shared.add(list.docAt(i), 1);
+                }
+            }
+
+            List<double[]> matches = new ArrayList<>();
+            for (int slot = 0; slot < shared.capacity(); slot++) {
+                int doc = shared.docAt(slot);
+                if (doc < 0) {
+                    continue;
+                }
+                int common = (int) shared.scoreAt(slot);
+                int docSize = docTrigrams[doc].length;
+                double similarity = (double) common / (queryTrigrams.size() + docSize - common);
+                if (similarity >= threshold) {
+                    matches.add(new double[] {similarity, docRows.idAt(doc)});
+                }
+            }
+            matches.sort((a, b) -> a[0] == b[0] ? Double.compare(a[1], b[1]) : Double.compare(b[0], a[0]));
+
+            List<Long> result = new ArrayList<>(Math.min(limit, matches.size()));
+            for (int i = 0; i < matches.size() && i < limit; i++) {
+                result.add((long) matches.get(i)[1]);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Her kelime "  kelime " şeklinde doldurulup trigramlara ayrılır (pg_trgm ile aynı kural).
+    // En fazla MAX_TRIGRAMS_PER_TITLE benzersiz trigram döner.
+    static Set<String> trigrams(String text) {
+        Set<String> result = new LinkedHashSet<>();
+        for (String word : TextNormalizer.tokenize(text)) {
+            String padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                result.add(padded.substring(i, i + 3));
+                if (result.size() == MAX_TRIGRAMS_PER_TITLE) {
+                    return result;
+                }
+            }
+        }
+        return result;
+    }
+}
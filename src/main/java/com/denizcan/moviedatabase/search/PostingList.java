@@ -0,0 +1,90 @@
+package com.denizcan.moviedatabase.search;
+
+import java.util.Arrays;
+
+// Sıralı doküman id'leri ve frekanslarını tutan kompakt posting listesi (kutulanmış Integer yok).
+// docsOnly() ile oluşturulan listeler frekans dizisi tutmaz (her doküman için frekans 1).
+final class PostingList {
+    private static final int INITIAL_CAPACITY = 4;
+
+    private int[] docs = new int[INITIAL_CAPACITY];
+    private int[] freqs;
+    private int size;
+
+    PostingList() {
+        this(true);
+    }
+
+    private PostingList(boolean withFreqs) {
+        freqs = withFreqs ? new int[INITIAL_CAPACITY] : null;
+    }
+
+    static PostingList docsOnly() {
+        return new PostingList(false);
+    }
+
+    void add(int doc) {
+        put(doc, 1);
+    }
+
+    // Doküman zaten varsa frekansı güncellenir
+    void put(int doc, int freq) {
+        int pos = Arrays.binarySearch(docs, 0, size, doc);
+        if (pos >= 0) {
+            if (freqs != null) {
+                freqs[pos] = freq;
+            }
+            return;
+        }
+        int insertAt = -pos - 1;
+        if (size == docs.length) {
+            resize(size + (size >> 1) + 1);
+        }
+        System.arraycopy(docs, insertAt, docs, insertAt + 1, size - insertAt);
+        docs[insertAt] = doc;
+        if (freqs != null) {
+            System.arraycopy(freqs, insertAt, freqs, insertAt + 1, size - insertAt);
+            freqs[insertAt] = freq;
+        }
+        size++;
+    }
+
+    void remove(int doc) {
+        int pos = Arrays.binarySearch(docs, 0, size, doc);
+        if (pos < 0) {
+            return;
+        }
+        System.arraycopy(docs, pos + 1, docs, pos, size - pos - 1);
+        if (freqs != null) {
+            System.arraycopy(freqs, pos + 1, freqs, pos, size - pos - 1);
+        }
+        size--;
+        // Çok boşalan diziler küçültülür, böylece silmelerden sonra bellek geri kazanılır
+        if (size > INITIAL_CAPACITY && size < docs.length / 4) {
+            resize(size * 2);
+        }
+    }
+
+    // Dokümanın numarası değişti (satır taşındı); frekansı korunur
+    void move(int from, int to) {
+        int pos = Arrays.binarySearch(docs, 0, size, from);
+        if (pos < 0) {
+            return;
+        }
+        int freq = freqAt(pos);
+        remove(from);
+        put(to, freq);
+    }
+
+    private void resize(int capacity) {
+        docs = Arrays.copyOf(docs, capacity);
+        if (freqs != null) {
+            freqs = Arrays.copyOf(freqs, capacity);
+        }
+    }
+
+    int size() { return size; }
+    boolean isEmpty() { return size == 0; }
+    int docAt(int i) { return docs[i]; }
+    int freqAt(int i) { return freqs == null ? 1 : freqs[i]; }
+}
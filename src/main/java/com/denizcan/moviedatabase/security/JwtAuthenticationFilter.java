@@ -1,13 +1,15 @@
 package com.denizcan.moviedatabase.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -18,11 +20,11 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
     private final JwtUtil jwtUtil;
-    private final UserDetailsService userDetailsService;
+    private final TokenVersionRegistry tokenVersions;
     
-    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, TokenVersionRegistry tokenVersions) {
         this.jwtUtil = jwtUtil;
-        this.userDetailsService = userDetailsService;
+        this.tokenVersions = tokenVersions;
     }
     
     @Override
@@ -32,6 +34,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         final String authHeader = request.getHeader("Authorization");
         final String jwt;
+        final Claims claims;
         final String username;
         
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
@@ -41,12 +44,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         jwt = authHeader.substring(7);
         try {
-            username = jwtUtil.extractUsername(jwt);
+            // Token bir kez doğrulanır; kullanıcı ve rol claim'lerden okunur, users tablosuna gidilmez
+            claims = jwtUtil.extractAllClaims(jwt);
+            username = claims.getSubject();
+            String role = jwtUtil.extractRole(claims);
+            Integer tokenVersion = jwtUtil.extractTokenVersion(claims);
             
-            if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
-                
-                if (jwtUtil.validateToken(jwt, userDetails)) {
+            if (username != null && role != null && tokenVersion != null
+                    && SecurityContextHolder.getContext().getAuthentication() == null) {
+                if (tokenVersions.isCurrent(username, tokenVersion)) {
+                    UserDetails userDetails = User.withUsername(username)
+                            .password("")
+                            .authorities(new SimpleGrantedAuthority("ROLE_" + role))
+                            .build();
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                             userDetails,
                             null,
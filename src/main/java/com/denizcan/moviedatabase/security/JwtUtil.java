@@ -1,5 +1,9 @@
 package com.denizcan.moviedatabase.security;
 
+import com.denizcan.moviedatabase.model.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -7,6 +11,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.time.Duration;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -15,14 +20,32 @@ import java.util.function.Function;
 @Component
 public class JwtUtil {
     
-    @Value("${jwt.secret:defaultSecretKey123456789012345678901234567890}")
-    private String secret;
+    // Filtrenin kullanıcı tablosuna gitmeden Authentication kurabilmesi için token'a gömülen claim'ler
+    public static final String ROLE_CLAIM = "role";
+    public static final String TOKEN_VERSION_CLAIM = "ver";
     
-    @Value("${jwt.expiration:86400000}") // 24 saat
-    private long expiration;
+    private final long expiration;
     
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+    // Anahtar ve parser bir kez oluşturulur; JwtParser immutable ve thread-safe'tir
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    
+    // Doğrulanmış token -> claims. Aynı bearer token ile gelen istekler HMAC ve base64 işini tekrar yapmaz.
+    // Kayıt token'ın exp anında düşer; dolunca Caffeine az kullanılan token'ları çıkarır (tarama yapılmaz).
+    private final Cache<String, Claims> verifiedTokens;
+    
+    public JwtUtil(@Value("${jwt.secret:defaultSecretKey123456789012345678901234567890}") String secret,
+                   @Value("${jwt.expiration:86400000}") long expiration, // 24 saat
+                   @Value("${jwt.token-cache-size:10000}") int tokenCacheSize) {
+        this.expiration = expiration;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(tokenCacheSize)
+                .expireAfter(Expiry.creating((String token, Claims claims) -> timeToLive(claims)))
+                .build();
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes());
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
     }
     
     public String extractUsername(String token) {
@@ -38,21 +61,50 @@ public class JwtUtil {
         return claimsResolver.apply(claims);
     }
     
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    // Token'ı tek seferde doğrular (imza + süre) ve claims'i döner; geçersizse JwtException fırlatır
+    public Claims extractAllClaims(String token) {
+        Claims cached = verifiedTokens.getIfPresent(token);
+        if (cached != null) {
+            return cached;
+        }
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        if (claims.getExpiration() != null) {
+            verifiedTokens.put(token, claims);
+        }
+        return claims;
+    }
+    
+    // Önbellekteki kayıt token'ın kalan ömrü kadar yaşar
+    private static Duration timeToLive(Claims claims) {
+        Date exp = claims.getExpiration();
+        return Duration.ofMillis(Math.max(0, exp.getTime() - System.currentTimeMillis()));
+    }
+    
+    // Testler için: bekleyen tahliyeler uygulandıktan sonraki kayıt sayısı
+    long cachedTokenCount() {
+        verifiedTokens.cleanUp();
+        return verifiedTokens.estimatedSize();
     }
     
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    private boolean isExpired(Claims claims) {
+        Date exp = claims.getExpiration();
+        return exp != null && exp.before(new Date());
     }
     
-    public String generateToken(UserDetails userDetails) {
+    public String generateToken(User user) {
         Map<String, Object> claims = new HashMap<>();
-        return createToken(claims, userDetails.getUsername());
+        claims.put(ROLE_CLAIM, user.getRole().name());
+        claims.put(TOKEN_VERSION_CLAIM, user.getTokenVersion());
+        return createToken(claims, user.getUsername());
+    }
+    
+    // Rol claim'i olmayan (eski) token'lar için null
+    public String extractRole(Claims claims) {
+        return claims.get(ROLE_CLAIM, String.class);
+    }
+    
+    public Integer extractTokenVersion(Claims claims) {
+        return claims.get(TOKEN_VERSION_CLAIM, Integer.class);
     }
     
     private String createToken(Map<String, Object> claims, String subject) {
@@ -61,12 +113,16 @@ public class JwtUtil {
                 .subject(subject)
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey(), Jwts.SIG.HS256)
+                .signWith(signingKey, Jwts.SIG.HS256)
                 .compact();
     }
     
     public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        return isTokenValid(extractAllClaims(token), userDetails);
+    }
+    
+    // Filtrede zaten çözülmüş claims ile doğrulama; token tekrar parse edilmez
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        return userDetails.getUsername().equals(claims.getSubject()) && !isExpired(claims);
     }
 } 
\ No newline at end of file
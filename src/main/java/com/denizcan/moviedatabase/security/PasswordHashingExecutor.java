@@ -0,0 +1,70 @@
+package com.denizcan.moviedatabase.security;
+
+import com.denizcan.moviedatabase.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// BCrypt hash / doğrulama işleri için ayrılmış, CPU sayısı kadar thread'li havuz.
+// Tomcat thread'leri şifre işiyle meşgul edilmez; kuyruk doluysa istek beklemeden 503 ile reddedilir.
+// Metrikler: executor.* (name=password.hashing) kuyruk derinliği, auth.password.hashing süre, auth.password.rejected
+@Component
+public class PasswordHashingExecutor {
+    static final String METRIC_NAME = "password.hashing";
+
+    private final ExecutorService executor;
+    private final MeterRegistry meterRegistry;
+    private final Counter rejected;
+
+    public PasswordHashingExecutor(@Value("${auth.hashing.threads:0}") int threads, // 0: işlemci sayısı
+                                   @Value("${auth.hashing.queue-capacity:64}") int queueCapacity,
+                                   MeterRegistry meterRegistry) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                task -> {
+                    Thread thread = new Thread(task, "password-hashing-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, METRIC_NAME);
+        this.meterRegistry = meterRegistry;
+        this.rejected = Counter.builder("auth.password.rejected")
+                .description("Havuz dolu olduğu için reddedilen şifre işlemleri")
+                .register(meterRegistry);
+    }
+
+    // operation: "encode" / "verify" gibi metrik etiketi
+    public <T> CompletableFuture<T> submit(String operation, Supplier<T> task) {
+        Timer timer = Timer.builder("auth.password.hashing")
+                .description("Şifre hash / doğrulama süresi")
+                .tag("operation", operation)
+                .register(meterRegistry);
+        try {
+            return CompletableFuture.supplyAsync(() -> timer.record(task), executor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new ServiceUnavailableException("Sunucu şu anda çok fazla giriş isteği işliyor, lütfen tekrar deneyin");
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,43 @@
+package com.denizcan.moviedatabase.security;
+
+import com.denizcan.moviedatabase.model.User;
+import com.denizcan.moviedatabase.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Kullanıcı başına güncel token sürümü. Yalnızca sürümü artırılmış kullanıcılar tutulur;
+// listede olmayan kullanıcının sürümü 0'dır. Böylece token doğrulaması veritabanına gitmez.
+@Component
+public class TokenVersionRegistry {
+    private static final Logger log = LoggerFactory.getLogger(TokenVersionRegistry.class);
+
+    private final UserRepository userRepository;
+    private final Map<String, Integer> versions = new ConcurrentHashMap<>();
+
+    public TokenVersionRegistry(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        for (User user : userRepository.findByTokenVersionGreaterThan(0)) {
+            update(user.getUsername(), user.getTokenVersion());
+        }
+        log.info("{} kullanıcının token sürümü yüklendi", versions.size());
+    }
+
+    public boolean isCurrent(String username, int tokenVersion) {
+        return tokenVersion >= versions.getOrDefault(username, 0);
+    }
+
+    // Sürüm yalnızca ileri gider; eşzamanlı güncellemelerde büyük olan kalır
+    public void update(String username, int tokenVersion) {
+        versions.merge(username, tokenVersion, Math::max);
+    }
+}
@@ -0,0 +1,60 @@
+package com.denizcan.moviedatabase.security;
+
+import com.denizcan.moviedatabase.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// Kayıtlı kullanıcı adları ve email'ler üzerinde Bloom filtresi. "Kesinlikle yok" cevabı veritabanına
+// gitmeden verilir; "olabilir" cevabında asıl kontrol veritabanında yapılır.
+// Yükleme bitene kadar her değer "olabilir" sayılır.
+@Component
+public class UserIdentityFilter {
+    private static final Logger log = LoggerFactory.getLogger(UserIdentityFilter.class);
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final UserRepository userRepository;
+    private final BloomFilter filter;
+    private volatile boolean loaded;
+
+    public UserIdentityFilter(UserRepository userRepository,
+                              @Value("${auth.availability.expected-users:100000}") int expectedUsers) {
+        this.userRepository = userRepository;
+        // Her kullanıcı için iki kayıt (kullanıcı adı + email)
+        this.filter = new BloomFilter(expectedUsers * 2, FALSE_POSITIVE_RATE);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.currentTimeMillis();
+        userRepository.findAllUsernames().forEach(username -> filter.add(usernameKey(username)));
+        userRepository.findAllEmails().forEach(email -> filter.add(emailKey(email)));
+        loaded = true;
+        log.info("Kullanıcı adı / email filtresi {} ms içinde yüklendi", System.currentTimeMillis() - start);
+    }
+
+    public void add(String username, String email) {
+        filter.add(usernameKey(username));
+        filter.add(emailKey(email));
+    }
+
+    public boolean mightContainUsername(String username) {
+        return !loaded || filter.mightContain(usernameKey(username));
+    }
+
+    public boolean mightContainEmail(String email) {
+        return !loaded || filter.mightContain(emailKey(email));
+    }
+
+    private static String usernameKey(String username) {
+        return "u:" + username;
+    }
+
+    private static String emailKey(String email) {
+        return "e:" + email;
+    }
+}
@@ -3,10 +3,13 @@ package com.denizcan.moviedatabase.service;
 import com.denizcan.moviedatabase.model.Actor;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface ActorService {
     Actor save(Actor actor);
     Optional<Actor> findById(Long id);
     List<Actor> findAll();
+    // Tümünü parça parça verir; parçalar arasında persistence context temizlenir
+    void streamAll(Consumer<List<Actor>> consumer);
     void deleteById(Long id);
 } 
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.denizcan.moviedatabase.service;
+
+// Sayfalı listelerde toplam film sayısının nasıl hesaplanacağı
+public enum CountMode {
+    // Her istekte aynı koşulla ikinci bir COUNT sorgusu (varsayılan)
+    EXACT,
+    // COUNT sonucu normalize edilmiş filtre anahtarıyla kısa süre saklanır (cache.movieCounts)
+    CACHED,
+    // Koşulsuz listelerde tablo istatistiklerinden tahmin; filtreli sorgularda istatistik olmadığından CACHED gibi davranır
+    APPROXIMATE,
+    // Slice: size + 1 satır okunur, toplam hesaplanmaz (sonsuz kaydırma istemcileri için)
+    NONE
+}
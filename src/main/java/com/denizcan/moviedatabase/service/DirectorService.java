@@ -3,10 +3,13 @@ package com.denizcan.moviedatabase.service;
 import com.denizcan.moviedatabase.model.Director;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface DirectorService {
     Director save(Director director);
     Optional<Director> findById(Long id);
     List<Director> findAll();
+    // Tümünü parça parça verir; parçalar arasında persistence context temizlenir
+    void streamAll(Consumer<List<Director>> consumer);
     void deleteById(Long id);
 } 
\ No newline at end of file
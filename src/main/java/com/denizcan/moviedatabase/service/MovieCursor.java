@@ -0,0 +1,68 @@
+package com.denizcan.moviedatabase.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// Keyset sayfalama imleci: son satırın sıralama anahtarı ve id'si.
+// İstemciye opak (base64url) bir değer olarak verilir.
+public final class MovieCursor {
+    public static final int MAX_LIMIT = 100;
+
+    private static final char SEPARATOR = '|';
+
+    private final String key;
+    private final long id;
+
+    private MovieCursor(String key, long id) {
+        this.key = key;
+        this.id = id;
+    }
+
+    public static String encode(Object key, long id) {
+        String raw = (key == null ? "" : key.toString()) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static MovieCursor decode(String cursor) {
+        String raw;
+        long id;
+        int separator;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            separator = raw.lastIndexOf(SEPARATOR);
+            id = separator < 0 ? -1 : Long.parseLong(raw.substring(separator + 1));
+        } catch (IllegalArgumentException e) {
+            // Base64 ve NumberFormatException hataları
+            throw new IllegalArgumentException("Geçersiz imleç: " + cursor, e);
+        }
+        if (separator < 0) {
+            throw new IllegalArgumentException("Geçersiz imleç: " + cursor);
+        }
+        return new MovieCursor(raw.substring(0, separator), id);
+    }
+
+    public static void checkLimit(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit 1-" + MAX_LIMIT + " arasında olmalıdır");
+        }
+    }
+
+    public long getId() { return id; }
+
+    public double keyAsDouble() {
+        try {
+            return Double.parseDouble(key);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Geçersiz imleç anahtarı: " + key, e);
+        }
+    }
+
+    public int keyAsInt() {
+        try {
+            return Integer.parseInt(key);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Geçersiz imleç anahtarı: " + key, e);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.denizcan.moviedatabase.service;
+
+import com.denizcan.moviedatabase.dto.BulkImportResult;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface MovieImportService {
+    // Her satırı bir MovieDTO olan NDJSON akışını parça parça doğrulayıp toplu olarak ekler
+    BulkImportResult importNdjson(InputStream input) throws IOException;
+}
@@ -1,18 +1,33 @@
 package com.denizcan.moviedatabase.service;
 
+import com.denizcan.moviedatabase.dto.CursorPage;
+import com.denizcan.moviedatabase.dto.MovieFilter;
+import com.denizcan.moviedatabase.dto.MoviePatchDTO;
+import com.denizcan.moviedatabase.dto.MovieSuggestionDTO;
+import com.denizcan.moviedatabase.dto.MovieSummaryDTO;
 import com.denizcan.moviedatabase.model.Movie;
 import com.denizcan.moviedatabase.model.MovieGenre;
+import com.denizcan.moviedatabase.search.MovieFacetIndex;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface MovieService {
     Movie save(Movie movie);
     Optional<Movie> findById(Long id);
     List<Movie> findAll();
+    // Tümünü parça parça verir; parçalar arasında persistence context temizlenir
+    void streamAll(Consumer<List<Movie>> consumer);
+    // Tek DELETE; film yoksa ResourceNotFoundException
     void deleteById(Long id);
+    // Yalnızca dolu alanları tek UPDATE ile yazar ve yeni sürümü döner. Film yoksa ResourceNotFoundException,
+    // sürüm eskiyse (film bu arada güncellendi) OptimisticLockingFailureException.
+    long patch(Long id, MoviePatchDTO patch);
     
     // Arama metodları
     List<Movie> findByTitle(String title);
@@ -23,8 +38,43 @@ public interface MovieService {
     List<Movie> findBySeriesName(String seriesName);
     List<Movie> findByGenre(MovieGenre genre);
     
-    // Gelişmiş arama
-    Page<Movie> findMoviesWithFilters(String title, Integer year, Double minRating, Pageable pageable);
+    // Çoklu tür araması: all'daki türlerin hepsi, any'dekilerden en az biri, none'dakilerin hiçbiri (null / boş küme koşulsuz)
+    Page<Movie> findByGenres(Set<MovieGenre> all, Set<MovieGenre> any, Set<MovieGenre> none, Pageable pageable);
+    
+    // Gelişmiş arama: yalnızca filtrede dolu olan alanlar koşul olur
+    Page<Movie> findMoviesWithFilters(MovieFilter filter, Pageable pageable);
     Page<Movie> findTopRatedMovies(Pageable pageable);
     Page<Movie> findLatestMovies(Pageable pageable);
-} 
\ No newline at end of file
+    Page<Movie> findTopRatedMovies(MovieGenre genre, Pageable pageable);
+    Page<Movie> findLatestMovies(MovieGenre genre, Pageable pageable);
+    
+    // Toplamı count moduna göre hesaplanan sayfalar: NONE'da COUNT çalışmayan Slice, diğerlerinde Page döner.
+    // genre null ise tüm filmler.
+    Slice<Movie> findMoviesWithFilters(MovieFilter filter, Pageable pageable, CountMode count);
+    Slice<Movie> findTopRatedMovies(MovieGenre genre, Pageable pageable, CountMode count);
+    Slice<Movie> findLatestMovies(MovieGenre genre, Pageable pageable, CountMode count);
+    
+    // Bellek içi ters indeks ile başlık ve özet üzerinde tam metin arama (BM25 sıralı)
+    List<Movie> searchFullText(String query, int limit);
+    
+    // Trigram benzerliği ile yazım hatalarına toleranslı başlık araması
+    List<Movie> findByTitleFuzzy(String title, int limit);
+    
+    // Önek ağacından IMDB puanına göre sıralı başlık önerileri (veritabanına gitmez)
+    List<MovieSuggestionDTO> suggestTitles(String prefix, int limit);
+    
+    // Filtreye uyan filmlerin tür / on yıl / puan aralığı sayıları; kolon filtreleri bellek içi indeksten,
+    // ilişki filtreleri (yönetmen / oyuncu / ödül) yalnızca eşleşen id'ler okunarak uygulanır
+    MovieFacetIndex.Facets countFacets(MovieFilter filter);
+    
+    // Cursor (keyset) sayfalama; after null ise ilk sayfa döner
+    CursorPage<Movie> findAll(String after, int limit);
+    CursorPage<Movie> findMoviesWithFilters(MovieFilter filter, String after, int limit);
+    CursorPage<Movie> findTopRatedMovies(String after, int limit);
+    CursorPage<Movie> findLatestMovies(String after, int limit);
+    
+    // Liste görünümü projeksiyonları (entity yüklenmez)
+    Page<MovieSummaryDTO> findAllSummaries(Pageable pageable);
+    Page<MovieSummaryDTO> findTopRatedSummaries(Pageable pageable);
+    Page<MovieSummaryDTO> findLatestSummaries(Pageable pageable);
+}
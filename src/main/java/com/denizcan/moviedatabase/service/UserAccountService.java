@@ -0,0 +1,18 @@
+package com.denizcan.moviedatabase.service;
+
+import com.denizcan.moviedatabase.model.User;
+
+public interface UserAccountService {
+    enum Conflict { NONE, USERNAME, EMAIL }
+
+    // Kayıt öncesi tek sorguluk benzersizlik kontrolü; önce kullanıcı adı çakışması raporlanır
+    Conflict findConflict(String username, String email);
+    boolean isUsernameAvailable(String username);
+    boolean isEmailAvailable(String email);
+    // Eşzamanlı kayıtta benzersizlik ihlali DataIntegrityViolationException olarak yükselir
+    User register(User user);
+
+    // Rolü değiştirir ve kullanıcının mevcut token'larını geçersiz kılar
+    User changeRole(String username, User.Role role);
+    void revokeTokens(String username);
+}
@@ -1,29 +1,46 @@
 package com.denizcan.moviedatabase.service.impl;
 
+import com.denizcan.moviedatabase.config.CacheConfig;
 import com.denizcan.moviedatabase.model.Actor;
 import com.denizcan.moviedatabase.repository.ActorRepository;
 import com.denizcan.moviedatabase.service.ActorService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Hibernate;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Service
 public class ActorServiceImpl implements ActorService {
     private final ActorRepository actorRepository;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     public ActorServiceImpl(ActorRepository actorRepository) {
         this.actorRepository = actorRepository;
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.ACTORS, key = "#actor.id", condition = "#actor.id != null")
     public Actor save(Actor actor) {
         return actorRepository.save(actor);
     }
 
+    // Cache'e giren kayıt ayrık kalacağı için ActorMapper'ın okuduğu ödüller burada yüklenir
     @Override
+    @Cacheable(cacheNames = CacheConfig.ACTORS, key = "#id", unless = "#result == null")
+    @Transactional(readOnly = true)
     public Optional<Actor> findById(Long id) {
-        return actorRepository.findById(id);
+        Optional<Actor> actor = actorRepository.findById(id);
+        actor.ifPresent(e -> Hibernate.initialize(e.getAwards()));
+        return actor;
     }
 
     @Override
@@ -32,6 +49,13 @@ public class ActorServiceImpl implements ActorService {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<List<Actor>> consumer) {
+        EntityChunks.forEach(actorRepository.streamAll(), entityManager, consumer);
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.ACTORS, key = "#id")
     public void deleteById(Long id) {
         actorRepository.deleteById(id);
     }
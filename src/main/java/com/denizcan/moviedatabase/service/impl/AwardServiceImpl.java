@@ -1,8 +1,12 @@
 package com.denizcan.moviedatabase.service.impl;
 
+import com.denizcan.moviedatabase.config.CacheConfig;
 import com.denizcan.moviedatabase.model.Award;
 import com.denizcan.moviedatabase.repository.AwardRepository;
 import com.denizcan.moviedatabase.service.AwardService;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -16,12 +20,18 @@ public class AwardServiceImpl implements AwardService {
         this.awardRepository = awardRepository;
     }
 
+    // Oyuncu / yönetmen cache'lerindeki kayıtlar ödül bilgisini de taşıdığı için onlar da temizlenir
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.AWARDS, key = "#award.id", condition = "#award.id != null"),
+            @CacheEvict(cacheNames = {CacheConfig.ACTORS, CacheConfig.DIRECTORS}, allEntries = true)
+    })
     public Award save(Award award) {
         return awardRepository.save(award);
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.AWARDS, key = "#id", unless = "#result == null")
     public Optional<Award> findById(Long id) {
         return awardRepository.findById(id);
     }
@@ -32,6 +42,10 @@ public class AwardServiceImpl implements AwardService {
     }
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.AWARDS, key = "#id"),
+            @CacheEvict(cacheNames = {CacheConfig.ACTORS, CacheConfig.DIRECTORS}, allEntries = true)
+    })
     public void deleteById(Long id) {
         awardRepository.deleteById(id);
     }
@@ -1,29 +1,46 @@
 package com.denizcan.moviedatabase.service.impl;
 
+import com.denizcan.moviedatabase.config.CacheConfig;
 import com.denizcan.moviedatabase.model.Director;
 import com.denizcan.moviedatabase.repository.DirectorRepository;
 import com.denizcan.moviedatabase.service.DirectorService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Hibernate;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Service
 public class DirectorServiceImpl implements DirectorService {
     private final DirectorRepository directorRepository;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     public DirectorServiceImpl(DirectorRepository directorRepository) {
         this.directorRepository = directorRepository;
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.DIRECTORS, key = "#director.id", condition = "#director.id != null")
     public Director save(Director director) {
         return directorRepository.save(director);
     }
 
+    // Cache'e giren kayıt ayrık kalacağı için DirectorMapper'ın okuduğu ödüller burada yüklenir
     @Override
+    @Cacheable(cacheNames = CacheConfig.DIRECTORS, key = "#id", unless = "#result == null")
+    @Transactional(readOnly = true)
     public Optional<Director> findById(Long id) {
-        return directorRepository.findById(id);
+        Optional<Director> director = directorRepository.findById(id);
+        director.ifPresent(e -> Hibernate.initialize(e.getAwards()));
+        return director;
     }
 
     @Override
@@ -32,6 +49,13 @@ public class DirectorServiceImpl implements DirectorService {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<List<Director>> consumer) {
+        EntityChunks.forEach(directorRepository.streamAll(), entityManager, consumer);
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.DIRECTORS, key = "#id")
     public void deleteById(Long id) {
         directorRepository.deleteById(id);
     }
@@ -0,0 +1,37 @@
+package com.denizcan.moviedatabase.service.impl;
+
+import jakarta.persistence.EntityManager;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+// JPA sonuç akışını sabit boyutlu parçalara böler. Her parça işlendikten sonra persistence context
+// temizlenir; böylece bellekte aynı anda en fazla bir parçanın entity'leri bulunur. Lazy ilişkiler
+// (@BatchSize) parça işlenirken tek IN (...) sorgusuyla yüklenir.
+final class EntityChunks {
+    static final int CHUNK_SIZE = 100;
+
+    private EntityChunks() {}
+
+    static <T> void forEach(Stream<T> stream, EntityManager entityManager, Consumer<List<T>> consumer) {
+        try (stream) {
+            Iterator<T> iterator = stream.iterator();
+            List<T> chunk = new ArrayList<>(CHUNK_SIZE);
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == CHUNK_SIZE) {
+                    consumer.accept(chunk);
+                    entityManager.clear();
+                    chunk = new ArrayList<>(CHUNK_SIZE);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                consumer.accept(chunk);
+                entityManager.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.denizcan.moviedatabase.service.impl;
+
+import com.denizcan.moviedatabase.config.CacheConfig;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.function.LongSupplier;
+
+// Sayfalı film listelerinin toplamları: kısa ömürlü COUNT cache'i ve tablo istatistiklerinden tahmin
+@Component
+public class MovieCounter {
+    private static final String ROW_COUNT_ESTIMATE_SQL =
+            "SELECT ROW_COUNT_ESTIMATE FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_NAME = 'MOVIE'";
+
+    private final Cache counts;
+    private final JdbcTemplate jdbcTemplate;
+
+    public MovieCounter(CacheManager cacheManager, JdbcTemplate jdbcTemplate) {
+        // cache.movieCounts.enabled=false ise NoOp cache: her çağrı COUNT çalıştırır
+        this.counts = cacheManager.getCache(CacheConfig.MOVIE_COUNTS);
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Anahtar için saklanan toplam; yoksa ya da süresi dolduysa count çalıştırılır
+    public long cached(String key, LongSupplier count) {
+        Long total = counts.get(key, count::getAsLong);
+        return total == null ? count.getAsLong() : total;
+    }
+
+    // Film eklenip silindiğinde saklanan tüm toplamlar geçersizdir
+    public void evictAll() {
+        counts.clear();
+    }
+
+    // H2'nin movie tablosu için tuttuğu satır sayısı; tablo okunmaz
+    public long estimateTotal() {
+        Long estimate = jdbcTemplate.queryForObject(ROW_COUNT_ESTIMATE_SQL, Long.class);
+        return estimate == null ? 0 : estimate;
+    }
+}
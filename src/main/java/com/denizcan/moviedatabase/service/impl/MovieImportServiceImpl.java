@@ -0,0 +1,191 @@
+package com.denizcan.moviedatabase.service.impl;
+
+import com.denizcan.moviedatabase.dto.BulkImportResult;
+import com.denizcan.moviedatabase.dto.MovieDTO;
+import com.denizcan.moviedatabase.mapper.MovieMapper;
+import com.denizcan.moviedatabase.model.Movie;
+import com.denizcan.moviedatabase.model.MovieGenre;
+import com.denizcan.moviedatabase.search.MovieIndex;
+import com.denizcan.moviedatabase.service.MovieImportService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// NDJSON toplu içe aktarma. Akış satır satır okunur, geçerli satırlar CHUNK_SIZE'lık parçalar halinde
+// JDBC batch ile eklenir; bellekte aynı anda en fazla bir parça tutulur. Her parça kendi transaction'ında
+// yazılır, böylece bir parçadaki veritabanı hatası önceki parçaları geri almaz.
+@Service
+public class MovieImportServiceImpl implements MovieImportService {
+    private static final Logger log = LoggerFactory.getLogger(MovieImportServiceImpl.class);
+
+    static final int CHUNK_SIZE = 1000;
+
+    private static final String NEXT_ID_BLOCK_SQL = "VALUES NEXT VALUE FOR movie_seq";
+    private static final String INSERT_MOVIE_SQL =
+            "INSERT INTO movie (id, title, release_year, synopsis, imdb_rating, part_of_series, duration, image_url, genre_mask) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_GENRE_SQL = "INSERT INTO movie_genres (movie_id, genre) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectReader movieReader;
+    private final Validator validator;
+    private final List<MovieIndex> movieIndexes;
+    private final MovieCounter movieCounter;
+
+    public MovieImportServiceImpl(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                  ObjectMapper objectMapper, Validator validator, List<MovieIndex> movieIndexes,
+                                  MovieCounter movieCounter) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.movieReader = objectMapper.readerFor(MovieDTO.class);
+        this.validator = validator;
+        this.movieIndexes = movieIndexes;
+        this.movieCounter = movieCounter;
+    }
+
+    @Override
+    public BulkImportResult importNdjson(InputStream input) throws IOException {
+        long start = System.currentTimeMillis();
+        BulkImportResult result = new BulkImportResult();
+        List<Movie> chunk = new ArrayList<>(CHUNK_SIZE);
+        long chunkFirstLine = 0;
+        long lineNumber = 0;
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            Movie movie = parse(line, lineNumber, result);
+            if (movie == null) {
+                continue;
+            }
+            if (chunk.isEmpty()) {
+                chunkFirstLine = lineNumber;
+            }
+            chunk.add(movie);
+            if (chunk.size() == CHUNK_SIZE) {
+                flush(chunk, chunkFirstLine, result);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            flush(chunk, chunkFirstLine, result);
+        }
+
+        log.info("Toplu içe aktarma: {} satır, {} eklendi, {} hatalı, {} ms",
+                result.getProcessed(), result.getImported(), result.getFailed(),
+                System.currentTimeMillis() - start);
+        return result;
+    }
+
+    // Satırı çözümler ve doğrular; hatalıysa sonuca eklenir ve null döner
+    private Movie parse(String line, long lineNumber, BulkImportResult result) {
+        MovieDTO dto;
+        try {
+            dto = movieReader.readValue(line);
+        } catch (JsonProcessingException e) {
+            result.addError(lineNumber, "Geçersiz JSON: " + e.getOriginalMessage());
+            return null;
+        }
+        Set<ConstraintViolation<MovieDTO>> violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            result.addError(lineNumber, violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+            return null;
+        }
+        try {
+            Movie movie = MovieMapper.toEntity(dto);
+            movie.setId(null);
+            return movie;
+        } catch (IllegalArgumentException e) {
+            result.addError(lineNumber, "Geçersiz film türü: " + dto.getGenres());
+            return null;
+        }
+    }
+
+    private void flush(List<Movie> chunk, long firstLine, BulkImportResult result) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> insertChunk(chunk));
+        } catch (DataAccessException e) {
+            log.warn("Toplu içe aktarma parçası geri alındı (satır {}): {}", firstLine, e.getMessage());
+            result.addFailedChunk(firstLine, chunk.size(), "Parça eklenemedi: " + e.getMostSpecificCause().getMessage());
+            return;
+        }
+        result.addImported(chunk.size());
+        // Commit edilen parça toplamları değiştirir; CACHED / APPROXIMATE sayımlar eski değeri dönmesin
+        movieCounter.evictAll();
+        for (Movie movie : chunk) {
+            for (MovieIndex index : movieIndexes) {
+                index.index(movie);
+            }
+        }
+    }
+
+    private void insertChunk(List<Movie> chunk) {
+        assignIds(chunk);
+
+        jdbcTemplate.batchUpdate(INSERT_MOVIE_SQL, chunk, chunk.size(), (ps, movie) -> {
+            ps.setLong(1, movie.getId());
+            ps.setString(2, movie.getTitle());
+            ps.setInt(3, movie.getYear());
+            ps.setString(4, movie.getSynopsis());
+            ps.setDouble(5, movie.getImdbRating());
+            ps.setObject(6, movie.isPartOfSeries(), Types.BOOLEAN);
+            ps.setObject(7, movie.getDuration(), Types.INTEGER);
+            ps.setString(8, movie.getImageUrl());
+            ps.setLong(9, movie.getGenreMask());
+        });
+
+        List<Object[]> genreRows = new ArrayList<>();
+        for (Movie movie : chunk) {
+            if (movie.getGenre() != null) {
+                for (MovieGenre genre : movie.getGenre()) {
+                    genreRows.add(new Object[] {movie.getId(), genre.name()});
+                }
+            }
+        }
+        if (!genreRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_GENRE_SQL, genreRows);
+        }
+    }
+
+    // Hibernate'in pooled optimizer'ı ile aynı kural: sequence'ın döndürdüğü v değeri
+    // (v - ID_ALLOCATION_SIZE, v] bloğunu ayırır; ilk değer (1) yalnızca kendisini ayırır.
+    private void assignIds(List<Movie> chunk) {
+        long next = 0;
+        long hi = -1;
+        for (Movie movie : chunk) {
+            if (next > hi) {
+                hi = jdbcTemplate.queryForObject(NEXT_ID_BLOCK_SQL, Long.class);
+                next = Math.max(1, hi - Movie.ID_ALLOCATION_SIZE + 1);
+            }
+            movie.setId(next++);
+        }
+    }
+}
@@ -1,32 +1,123 @@
 package com.denizcan.moviedatabase.service.impl;
 
+import com.denizcan.moviedatabase.config.CacheConfig;
+import com.denizcan.moviedatabase.dto.CursorPage;
+import com.denizcan.moviedatabase.dto.MovieFilter;
+import com.denizcan.moviedatabase.dto.MoviePatchDTO;
+import com.denizcan.moviedatabase.dto.MovieSuggestionDTO;
+import com.denizcan.moviedatabase.dto.MovieSummaryDTO;
+import com.denizcan.moviedatabase.exception.ResourceNotFoundException;
+import com.denizcan.moviedatabase.mapper.MovieMapper;
 import com.denizcan.moviedatabase.model.Movie;
 import com.denizcan.moviedatabase.model.MovieGenre;
 import com.denizcan.moviedatabase.repository.MovieRepository;
+import com.denizcan.moviedatabase.repository.MovieSpecifications;
+import com.denizcan.moviedatabase.search.MovieFacetIndex;
+import com.denizcan.moviedatabase.search.MovieFullTextIndex;
+import com.denizcan.moviedatabase.search.MovieIndex;
+import com.denizcan.moviedatabase.search.MovieLeaderboard;
+import com.denizcan.moviedatabase.search.MovieLeaderboard.Ranking;
+import com.denizcan.moviedatabase.search.MovieTitleTrie;
+import com.denizcan.moviedatabase.search.MovieTrigramIndex;
+import com.denizcan.moviedatabase.service.CountMode;
+import com.denizcan.moviedatabase.service.MovieCursor;
 import com.denizcan.moviedatabase.service.MovieService;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.Hibernate;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
 
+// Her metodun süresi movie.service metriğine (class / method etiketleriyle) yazılır
+@Timed("movie.service")
 @Service
 public class MovieServiceImpl implements MovieService {
     private final MovieRepository movieRepository;
+    private final MovieFullTextIndex fullTextIndex;
+    private final MovieTrigramIndex trigramIndex;
+    private final MovieTitleTrie titleTrie;
+    private final MovieLeaderboard leaderboard;
+    private final MovieFacetIndex facetIndex;
+    private final MovieCounter movieCounter;
+    private final List<MovieIndex> movieIndexes;
+    private final TransactionTemplate transactionTemplate;
 
-    public MovieServiceImpl(MovieRepository movieRepository) {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public MovieServiceImpl(MovieRepository movieRepository,
+                            MovieFullTextIndex fullTextIndex,
+                            MovieTrigramIndex trigramIndex,
+                            MovieTitleTrie titleTrie,
+                            MovieLeaderboard leaderboard,
+                            MovieFacetIndex facetIndex,
+                            MovieCounter movieCounter,
+                            List<MovieIndex> movieIndexes,
+                            PlatformTransactionManager transactionManager) {
         this.movieRepository = movieRepository;
+        this.fullTextIndex = fullTextIndex;
+        this.trigramIndex = trigramIndex;
+        this.titleTrie = titleTrie;
+        this.leaderboard = leaderboard;
+        this.facetIndex = facetIndex;
+        this.movieCounter = movieCounter;
+        this.movieIndexes = movieIndexes;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
+    // Sürüm çakışmasında (exception) da cache'teki eski kayıt silinir; yeniden okuyan istemci güncel sürümü alır
     @Override
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.MOVIES, key = "#movie.id", condition = "#movie.id != null", beforeInvocation = true),
+        @CacheEvict(cacheNames = CacheConfig.MOVIES, key = "#movie.id", condition = "#movie.id != null"),
+        @CacheEvict(cacheNames = CacheConfig.MOVIE_COUNTS, allEntries = true)
+    })
     public Movie save(Movie movie) {
-        return movieRepository.save(movie);
+        Movie savedMovie = movieRepository.save(movie);
+        // Bellek içi indeksleri güncel tut
+        for (MovieIndex index : movieIndexes) {
+            index.index(savedMovie);
+        }
+        return savedMovie;
     }
 
+    // Cache'e giren film ayrık kalacağı için MovieMapper'ın okuduğu türler burada yüklenir
     @Override
+    @Cacheable(cacheNames = CacheConfig.MOVIES, key = "#id", unless = "#result == null")
+    @Transactional(readOnly = true)
     public Optional<Movie> findById(Long id) {
-        return movieRepository.findById(id);
+        Optional<Movie> movie = movieRepository.findById(id);
+        movie.ifPresent(m -> Hibernate.initialize(m.getGenre()));
+        return movie;
     }
 
     @Override
@@ -35,8 +126,75 @@ public class MovieServiceImpl implements MovieService {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<List<Movie>> consumer) {
+        EntityChunks.forEach(movieRepository.streamAll(), entityManager, consumer);
+    }
+
+    @Override
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.MOVIES, key = "#id"),
+        @CacheEvict(cacheNames = CacheConfig.MOVIE_COUNTS, allEntries = true)
+    })
     public void deleteById(Long id) {
-        movieRepository.deleteById(id);
+        if (movieRepository.deleteMovieById(id) == 0) {
+            throw new ResourceNotFoundException("Film", "id", id);
+        }
+        for (MovieIndex index : movieIndexes) {
+            index.remove(id);
+        }
+    }
+
+    // Okuma yapmadan tek UPDATE: SET yalnızca dolu alanlar + version = version + 1,
+    // WHERE id = :id AND version = :version. 0 satır ise film yok ya da sürüm eski.
+    // Cache, commit'ten sonra temizlensin diye transaction metodun içinde açılır (save'deki repository
+    // transaction'ı gibi); commit'ten önce temizlenirse eşzamanlı bir okuma eski sürümü yeniden cache'ler.
+    @Override
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.MOVIES, key = "#id", beforeInvocation = true),
+        @CacheEvict(cacheNames = CacheConfig.MOVIES, key = "#id"),
+        @CacheEvict(cacheNames = CacheConfig.MOVIE_COUNTS, allEntries = true)
+    })
+    public long patch(Long id, MoviePatchDTO patch) {
+        Movie patched = transactionTemplate.execute(status -> {
+            CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+            CriteriaUpdate<Movie> update = cb.createCriteriaUpdate(Movie.class);
+            Root<Movie> root = update.from(Movie.class);
+            setIfPresent(update, "title", patch.getTitle());
+            setIfPresent(update, "year", patch.getYear());
+            setIfPresent(update, "imdbRating", patch.getImdbRating());
+            setIfPresent(update, "imageUrl", patch.getImageUrl());
+            setIfPresent(update, "duration", patch.getDuration());
+            setIfPresent(update, "partOfSeries", patch.getPartOfSeries());
+            setIfPresent(update, "seriesName", patch.getSeriesName());
+            setIfPresent(update, "synopsis", patch.getSynopsis());
+            setIfPresent(update, "budget", patch.getBudget());
+            setIfPresent(update, "boxOffice", patch.getBoxOffice());
+            Path<Long> version = root.get("version");
+            update.set(version, cb.sum(version, 1L))
+                    .where(cb.equal(root.get("id"), id), cb.equal(version, patch.getVersion()));
+
+            if (entityManager.createQuery(update).executeUpdate() == 0) {
+                if (!movieRepository.existsById(id)) {
+                    throw new ResourceNotFoundException("Film", "id", id);
+                }
+                throw new ObjectOptimisticLockingFailureException(Movie.class, id);
+            }
+            // Bellek içi indeksler yalnızca okudukları alanlar değiştiyse güncel kayıtla yenilenir
+            return patch.changesIndexedFields() ? movieRepository.findWithGenreById(id).orElse(null) : null;
+        });
+        if (patched != null) {
+            for (MovieIndex index : movieIndexes) {
+                index.index(patched);
+            }
+        }
+        return patch.getVersion() + 1;
+    }
+
+    private static void setIfPresent(CriteriaUpdate<Movie> update, String attribute, Object value) {
+        if (value != null) {
+            update.set(attribute, value);
+        }
     }
 
     // Arama metodları implementasyonları
@@ -76,17 +234,234 @@ public class MovieServiceImpl implements MovieService {
     }
 
     @Override
-    public Page<Movie> findMoviesWithFilters(String title, Integer year, Double minRating, Pageable pageable) {
-        return movieRepository.findMoviesWithFilters(title, year, minRating, pageable);
+    public Page<Movie> findByGenres(Set<MovieGenre> all, Set<MovieGenre> any, Set<MovieGenre> none, Pageable pageable) {
+        return movieRepository.findByGenreMask(
+                MovieGenre.toMask(all), MovieGenre.toMask(any), MovieGenre.toMask(none), pageable);
     }
 
+    @Override
+    public Page<Movie> findMoviesWithFilters(MovieFilter filter, Pageable pageable) {
+        return movieRepository.findAll(MovieSpecifications.matching(filter), pageable);
+    }
+
+    // İlk sayfalar bellek içi sıralı listeden (tablo sıralanmadan), derin sayfalar veritabanından
     @Override
     public Page<Movie> findTopRatedMovies(Pageable pageable) {
-        return movieRepository.findTopRatedMovies(pageable);
+        return leaderboard.page(Ranking.RATING, null, pageable)
+                .map(this::moviesOf)
+                .orElseGet(() -> movieRepository.findTopRatedMovies(pageable));
     }
 
     @Override
     public Page<Movie> findLatestMovies(Pageable pageable) {
-        return movieRepository.findLatestMovies(pageable);
+        return leaderboard.page(Ranking.RECENCY, null, pageable)
+                .map(this::moviesOf)
+                .orElseGet(() -> movieRepository.findLatestMovies(pageable));
+    }
+
+    @Override
+    public Page<Movie> findTopRatedMovies(MovieGenre genre, Pageable pageable) {
+        return leaderboard.page(Ranking.RATING, genre, pageable)
+                .map(this::moviesOf)
+                .orElseGet(() -> movieRepository.findTopRatedMoviesByGenre(genre, pageable));
+    }
+
+    @Override
+    public Page<Movie> findLatestMovies(MovieGenre genre, Pageable pageable) {
+        return leaderboard.page(Ranking.RECENCY, genre, pageable)
+                .map(this::moviesOf)
+                .orElseGet(() -> movieRepository.findLatestMoviesByGenre(genre, pageable));
+    }
+
+    @Override
+    public Slice<Movie> findMoviesWithFilters(MovieFilter filter, Pageable pageable, CountMode count) {
+        Specification<Movie> specification = MovieSpecifications.matching(filter);
+        if (count == CountMode.EXACT) {
+            return movieRepository.findAll(specification, pageable);
+        }
+        Slice<Movie> slice = movieRepository.findBy(specification, query -> query.slice(pageable));
+        if (count == CountMode.APPROXIMATE && filter.isEmpty()) {
+            return withTotal(slice, movieCounter::estimateTotal);
+        }
+        return counted(slice, count, "filter:" + filter.cacheKey(), () -> movieRepository.count(specification));
+    }
+
+    @Override
+    public Slice<Movie> findTopRatedMovies(MovieGenre genre, Pageable pageable, CountMode count) {
+        if (count == CountMode.EXACT) {
+            return genre == null ? findTopRatedMovies(pageable) : findTopRatedMovies(genre, pageable);
+        }
+        // Liderlik tablosundaki sayfalarda toplam zaten bellekten gelir
+        Optional<Page<Long>> ranked = leaderboard.page(Ranking.RATING, genre, pageable);
+        if (ranked.isPresent()) {
+            return moviesOf(ranked.get());
+        }
+        Slice<Movie> slice = genre == null
+                ? movieRepository.findTopRatedMovieSlice(pageable)
+                : movieRepository.findTopRatedMovieSliceByGenre(genre, pageable);
+        return countedByGenre(slice, genre, count);
+    }
+
+    @Override
+    public Slice<Movie> findLatestMovies(MovieGenre genre, Pageable pageable, CountMode count) {
+        if (count == CountMode.EXACT) {
+            return genre == null ? findLatestMovies(pageable) : findLatestMovies(genre, pageable);
+        }
+        Optional<Page<Long>> ranked = leaderboard.page(Ranking.RECENCY, genre, pageable);
+        if (ranked.isPresent()) {
+            return moviesOf(ranked.get());
+        }
+        Slice<Movie> slice = genre == null
+                ? movieRepository.findLatestMovieSlice(pageable)
+                : movieRepository.findLatestMovieSliceByGenre(genre, pageable);
+        return countedByGenre(slice, genre, count);
+    }
+
+    // En yüksek puanlı ve en yeni listeleri aynı toplamı paylaşır
+    private Slice<Movie> countedByGenre(Slice<Movie> slice, MovieGenre genre, CountMode count) {
+        if (genre == null) {
+            if (count == CountMode.APPROXIMATE) {
+                return withTotal(slice, movieCounter::estimateTotal);
+            }
+            return counted(slice, count, "all", movieRepository::count);
+        }
+        return counted(slice, count, "genre:" + genre, () -> movieRepository.countByGenre(genre));
+    }
+
+    private Slice<Movie> counted(Slice<Movie> slice, CountMode count, String key, LongSupplier exactCount) {
+        if (count == CountMode.NONE) {
+            return slice;
+        }
+        return withTotal(slice, () -> movieCounter.cached(key, exactCount));
+    }
+
+    // Slice'a toplam ekler. Son sayfada toplam okunan satırlardan kesin bilinir, sayım yapılmaz; diğer
+    // sayfalarda cache'ten ya da istatistikten gelen toplam okunan satırlarla çelişmeyecek şekilde alttan sınırlanır.
+    private static Page<Movie> withTotal(Slice<Movie> slice, LongSupplier total) {
+        Pageable pageable = slice.getPageable();
+        long seen = pageable.getOffset() + slice.getNumberOfElements();
+        if (!slice.hasNext() && (slice.hasContent() || pageable.getOffset() == 0)) {
+            return new PageImpl<>(slice.getContent(), pageable, seen);
+        }
+        return new PageImpl<>(slice.getContent(), pageable, Math.max(total.getAsLong(), slice.hasNext() ? seen + 1 : seen));
+    }
+
+    @Override
+    public List<Movie> searchFullText(String query, int limit) {
+        MovieCursor.checkLimit(limit);
+        List<Long> rankedIds = fullTextIndex.search(query, limit);
+        return findAllByIdInOrder(rankedIds);
+    }
+
+    @Override
+    public List<Movie> findByTitleFuzzy(String title, int limit) {
+        MovieCursor.checkLimit(limit);
+        List<Long> rankedIds = trigramIndex.search(title, MovieTrigramIndex.DEFAULT_THRESHOLD, limit);
+        return findAllByIdInOrder(rankedIds);
+    }
+
+    @Override
+    public List<MovieSuggestionDTO> suggestTitles(String prefix, int limit) {
+        return titleTrie.suggest(prefix, Math.min(limit, MovieTitleTrie.MAX_SUGGESTIONS))
+                .stream()
+                .map(MovieMapper::toSuggestionDTO)
+                .toList();
+    }
+
+    @Override
+    public MovieFacetIndex.Facets countFacets(MovieFilter filter) {
+        if (MovieFacetIndex.covers(filter)) {
+            return facetIndex.count(filter);
+        }
+        // İlişki filtreleri join tablolarında: filtreye uyan filmlerin yalnızca id'leri okunur
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Movie> root = query.from(Movie.class);
+        query.select(root.get("id")).where(MovieSpecifications.matching(filter).toPredicate(root, query, cb));
+        return facetIndex.count(filter, new HashSet<>(entityManager.createQuery(query).getResultList()));
+    }
+
+    // Cursor sayfalama implementasyonları
+    @Override
+    public CursorPage<Movie> findAll(String after, int limit) {
+        long afterId = after == null ? 0L : MovieCursor.decode(after).getId();
+        List<Movie> rows = movieRepository.findAllAfter(afterId, fetchLimit(limit));
+        return CursorPage.fromRows(rows, limit, m -> MovieCursor.encode(null, m.getId()));
+    }
+
+    @Override
+    public CursorPage<Movie> findMoviesWithFilters(MovieFilter filter, String after, int limit) {
+        long afterId = after == null ? 0L : MovieCursor.decode(after).getId();
+        Limit fetchLimit = fetchLimit(limit);
+        List<Movie> rows = movieRepository.findBy(
+                MovieSpecifications.matching(filter).and(MovieSpecifications.idAfter(afterId)),
+                query -> query.sortBy(Sort.by("id")).limit(fetchLimit.max()).all());
+        return CursorPage.fromRows(rows, limit, m -> MovieCursor.encode(null, m.getId()));
+    }
+
+    @Override
+    public CursorPage<Movie> findTopRatedMovies(String after, int limit) {
+        double rating = Double.MAX_VALUE;
+        long afterId = 0L;
+        if (after != null) {
+            MovieCursor cursor = MovieCursor.decode(after);
+            rating = cursor.keyAsDouble();
+            afterId = cursor.getId();
+        }
+        List<Movie> rows = movieRepository.findTopRatedMoviesAfter(rating, afterId, fetchLimit(limit));
+        return CursorPage.fromRows(rows, limit, m -> MovieCursor.encode(m.getImdbRating(), m.getId()));
+    }
+
+    @Override
+    public CursorPage<Movie> findLatestMovies(String after, int limit) {
+        int year = Integer.MAX_VALUE;
+        long afterId = 0L;
+        if (after != null) {
+            MovieCursor cursor = MovieCursor.decode(after);
+            year = cursor.keyAsInt();
+            afterId = cursor.getId();
+        }
+        List<Movie> rows = movieRepository.findLatestMoviesAfter(year, afterId, fetchLimit(limit));
+        return CursorPage.fromRows(rows, limit, m -> MovieCursor.encode(m.getYear(), m.getId()));
+    }
+
+    // Liste görünümü projeksiyonları
+    @Override
+    public Page<MovieSummaryDTO> findAllSummaries(Pageable pageable) {
+        return movieRepository.findAllSummaries(pageable).map(MovieMapper::toSummaryDTO);
+    }
+
+    @Override
+    public Page<MovieSummaryDTO> findTopRatedSummaries(Pageable pageable) {
+        return movieRepository.findTopRatedSummaries(pageable).map(MovieMapper::toSummaryDTO);
+    }
+
+    @Override
+    public Page<MovieSummaryDTO> findLatestSummaries(Pageable pageable) {
+        return movieRepository.findLatestSummaries(pageable).map(MovieMapper::toSummaryDTO);
+    }
+
+    // Bir sonraki sayfanın olup olmadığını anlamak için limit + 1 satır çekilir
+    private Limit fetchLimit(int limit) {
+        MovieCursor.checkLimit(limit);
+        return Limit.of(limit + 1);
+    }
+
+    private Page<Movie> moviesOf(Page<Long> ids) {
+        return new PageImpl<>(findAllByIdInOrder(ids.getContent()), ids.getPageable(), ids.getTotalElements());
+    }
+
+    // İndeksten gelen sıralamayı koruyarak filmleri tek sorguda yükler
+    private List<Movie> findAllByIdInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Integer> rank = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            rank.put(ids.get(i), i);
+        }
+        List<Movie> movies = movieRepository.findAllById(ids);
+        movies.sort(Comparator.comparing(m -> rank.get(m.getId())));
+        return movies;
     }
-} 
\ No newline at end of file
+}
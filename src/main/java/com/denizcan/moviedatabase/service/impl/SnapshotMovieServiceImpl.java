@@ -0,0 +1,520 @@
+package com.denizcan.moviedatabase.service.impl;
+
+import com.denizcan.moviedatabase.dto.CursorPage;
+import com.denizcan.moviedatabase.dto.MovieFilter;
+import com.denizcan.moviedatabase.dto.MoviePatchDTO;
+import com.denizcan.moviedatabase.dto.MovieSuggestionDTO;
+import com.denizcan.moviedatabase.dto.MovieSummaryDTO;
+import com.denizcan.moviedatabase.exception.ReadOnlyStoreException;
+import com.denizcan.moviedatabase.mapper.MovieMapper;
+import com.denizcan.moviedatabase.model.Movie;
+import com.denizcan.moviedatabase.model.MovieGenre;
+import com.denizcan.moviedatabase.search.MovieFacetIndex;
+import com.denizcan.moviedatabase.search.MovieFullTextIndex;
+import com.denizcan.moviedatabase.search.MovieTitleTrie;
+import com.denizcan.moviedatabase.search.MovieTrigramIndex;
+import com.denizcan.moviedatabase.service.CountMode;
+import com.denizcan.moviedatabase.service.MovieCursor;
+import com.denizcan.moviedatabase.service.MovieService;
+import com.denizcan.moviedatabase.snapshot.MovieSnapshot;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+// Salt okunur düğümler için MovieService: sorgular Hibernate yerine bellek eşlemeli snapshot dosyasından
+// cevaplanır. movie.snapshot.path tanımlıysa devreye girer; yazma işlemleri desteklenmez.
+// Her metodun süresi movie.service metriğine (class / method etiketleriyle) yazılır
+@Timed("movie.service")
+@Service
+@Primary
+@ConditionalOnProperty(name = "movie.snapshot.path")
+public class SnapshotMovieServiceImpl implements MovieService {
+    private static final Logger log = LoggerFactory.getLogger(SnapshotMovieServiceImpl.class);
+
+    private static final String READ_ONLY_MESSAGE = "Bu düğüm salt okunur film snapshot'ı ile çalışıyor";
+
+    private static final Comparator<String> NULLS_FIRST_TEXT = Comparator.nullsFirst(Comparator.naturalOrder());
+    private static final Comparator<Integer> NULLS_FIRST_NUMBER = Comparator.nullsFirst(Comparator.naturalOrder());
+
+    private final MovieSnapshot snapshot;
+    private final MovieFullTextIndex fullTextIndex;
+    private final MovieTrigramIndex trigramIndex;
+    private final MovieTitleTrie titleTrie;
+    private final MovieFacetIndex facetIndex;
+
+    public SnapshotMovieServiceImpl(@Value("${movie.snapshot.path}") Path snapshotPath,
+                                    MovieFullTextIndex fullTextIndex,
+                                    MovieTrigramIndex trigramIndex,
+                                    MovieTitleTrie titleTrie,
+                                    MovieFacetIndex facetIndex) throws IOException {
+        this.snapshot = MovieSnapshot.open(snapshotPath);
+        this.fullTextIndex = fullTextIndex;
+        this.trigramIndex = trigramIndex;
+        this.titleTrie = titleTrie;
+        this.facetIndex = facetIndex;
+        log.info("Film snapshot'ı eşlendi: {} ({} film)", snapshotPath, snapshot.size());
+    }
+
+    @Override
+    public Movie save(Movie movie) {
+        throw new ReadOnlyStoreException(READ_ONLY_MESSAGE);
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        throw new ReadOnlyStoreException(READ_ONLY_MESSAGE);
+    }
+
+    @Override
+    public long patch(Long id, MoviePatchDTO patch) {
+        throw new ReadOnlyStoreException(READ_ONLY_MESSAGE);
+    }
+
+    @Override
+    public Optional<Movie> findById(Long id) {
+        int row = id == null ? -1 : snapshot.rowOf(id);
+        return row < 0 ? Optional.empty() : Optional.of(snapshot.movieAt(row));
+    }
+
+    @Override
+    public List<Movie> findAll() {
+        return rows(row -> true);
+    }
+
+    @Override
+    public void streamAll(Consumer<List<Movie>> consumer) {
+        for (int start = 0; start < snapshot.size(); start += EntityChunks.CHUNK_SIZE) {
+            int end = Math.min(start + EntityChunks.CHUNK_SIZE, snapshot.size());
+            List<Movie> chunk = new ArrayList<>(end - start);
+            for (int row = start; row < end; row++) {
+                chunk.add(snapshot.movieAt(row));
+            }
+            consumer.accept(chunk);
+        }
+    }
+
+    // Arama metodları: sabit genişlikli sütunlar üzerinde tarama
+    @Override
+    public List<Movie> findByTitle(String title) {
+        if (title == null) {
+            return List.of();
+        }
+        String needle = title.toLowerCase(Locale.ROOT);
+        return rows(row -> snapshot.titleAt(row).toLowerCase(Locale.ROOT).contains(needle));
+    }
+
+    @Override
+    public List<Movie> findByYear(Integer year) {
+        return year == null ? List.of() : rows(row -> year.equals(snapshot.yearAt(row)));
+    }
+
+    @Override
+    public List<Movie> findByYearRange(Integer startYear, Integer endYear) {
+        if (startYear == null || endYear == null) {
+            return List.of();
+        }
+        return rows(row -> {
+            Integer year = snapshot.yearAt(row);
+            return year != null && year >= startYear && year <= endYear;
+        });
+    }
+
+    @Override
+    public List<Movie> findByMinRating(Double minRating) {
+        return minRating == null ? List.of() : rows(row -> snapshot.ratingAt(row) >= minRating);
+    }
+
+    @Override
+    public List<Movie> findSeriesMovies() {
+        return rows(row -> Boolean.TRUE.equals(snapshot.partOfSeriesAt(row)));
+    }
+
+    @Override
+    public List<Movie> findBySeriesName(String seriesName) {
+        return seriesName == null ? List.of() : rows(row -> seriesName.equals(snapshot.seriesNameAt(row)));
+    }
+
+    @Override
+    public List<Movie> findByGenre(MovieGenre genre) {
+        return genre == null ? List.of() : rows(row -> snapshot.hasGenre(row, genre));
+    }
+
+    @Override
+    public Page<Movie> findByGenres(Set<MovieGenre> all, Set<MovieGenre> any, Set<MovieGenre> none, Pageable pageable) {
+        long allMask = MovieGenre.toMask(all);
+        long anyMask = MovieGenre.toMask(any);
+        long noneMask = MovieGenre.toMask(none);
+        return filteredPage(row -> MovieGenre.matches(snapshot.genreMaskAt(row), allMask, anyMask, noneMask), pageable);
+    }
+
+    @Override
+    public Page<Movie> findMoviesWithFilters(MovieFilter filter, Pageable pageable) {
+        return filteredPage(matching(filter), pageable);
+    }
+
+    // Sıralı erişim sütunları sayesinde sıralama yapılmaz, yalnızca istenen sayfa okunur
+    @Override
+    public Page<Movie> findTopRatedMovies(Pageable pageable) {
+        return page(pageable, snapshot::rowByRating, snapshot::movieAt);
+    }
+
+    @Override
+    public Page<Movie> findLatestMovies(Pageable pageable) {
+        return page(pageable, snapshot::rowByYear, snapshot::movieAt);
+    }
+
+    @Override
+    public Page<Movie> findTopRatedMovies(MovieGenre genre, Pageable pageable) {
+        return genrePage(genre, pageable, snapshot::rowByRating);
+    }
+
+    @Override
+    public Page<Movie> findLatestMovies(MovieGenre genre, Pageable pageable) {
+        return genrePage(genre, pageable, snapshot::rowByYear);
+    }
+
+    // Snapshot'ta toplamlar bellekteki sütunlardan hesaplanır; count modu sonucu değiştirmez
+    @Override
+    public Slice<Movie> findMoviesWithFilters(MovieFilter filter, Pageable pageable, CountMode count) {
+        return findMoviesWithFilters(filter, pageable);
+    }
+
+    @Override
+    public Slice<Movie> findTopRatedMovies(MovieGenre genre, Pageable pageable, CountMode count) {
+        return genre == null ? findTopRatedMovies(pageable) : findTopRatedMovies(genre, pageable);
+    }
+
+    @Override
+    public Slice<Movie> findLatestMovies(MovieGenre genre, Pageable pageable, CountMode count) {
+        return genre == null ? findLatestMovies(pageable) : findLatestMovies(genre, pageable);
+    }
+
+    @Override
+    public List<Movie> searchFullText(String query, int limit) {
+        return byIds(fullTextIndex.search(query, limit));
+    }
+
+    @Override
+    public List<Movie> findByTitleFuzzy(String title, int limit) {
+        return byIds(trigramIndex.search(title, MovieTrigramIndex.DEFAULT_THRESHOLD, limit));
+    }
+
+    @Override
+    public List<MovieSuggestionDTO> suggestTitles(String prefix, int limit) {
+        return titleTrie.suggest(prefix, Math.min(limit, MovieTitleTrie.MAX_SUGGESTIONS))
+                .stream()
+                .map(MovieMapper::toSuggestionDTO)
+                .toList();
+    }
+
+    @Override
+    public MovieFacetIndex.Facets countFacets(MovieFilter filter) {
+        if (MovieFacetIndex.covers(filter)) {
+            return facetIndex.count(filter);
+        }
+        // İlişki id'leri snapshot satırlarında; eşleşen filmlerin id'leri sayıma verilir
+        IntPredicate matches = matching(filter);
+        Set<Long> ids = new HashSet<>();
+        for (int row = 0; row < snapshot.size(); row++) {
+            if (matches.test(row)) {
+                ids.add(snapshot.idAt(row));
+            }
+        }
+        return facetIndex.count(filter, ids);
+    }
+
+    // Cursor sayfalama: imleçten sonraki ilk satır ikili arama ile bulunur
+    @Override
+    public CursorPage<Movie> findAll(String after, int limit) {
+        return findMoviesWithFilters(new MovieFilter(), after, limit);
+    }
+
+    @Override
+    public CursorPage<Movie> findMoviesWithFilters(MovieFilter movieFilter, String after, int limit) {
+        MovieCursor.checkLimit(limit);
+        int start = 0;
+        if (after != null) {
+            int row = snapshot.rowOf(MovieCursor.decode(after).getId());
+            start = row >= 0 ? row + 1 : -(row + 1);
+        }
+        IntPredicate filter = matching(movieFilter);
+        List<Movie> rows = new ArrayList<>(limit + 1);
+        for (int row = start; row < snapshot.size() && rows.size() <= limit; row++) {
+            if (filter.test(row)) {
+                rows.add(snapshot.movieAt(row));
+            }
+        }
+        return CursorPage.fromRows(rows, limit, m -> MovieCursor.encode(null, m.getId()));
+    }
+
+    @Override
+    public CursorPage<Movie> findTopRatedMovies(String after, int limit) {
+        MovieCursor.checkLimit(limit);
+        int start = 0;
+        if (after != null) {
+            MovieCursor cursor = MovieCursor.decode(after);
+            double rating = cursor.keyAsDouble();
+            start = firstRank(snapshot.size(), rank -> {
+                int row = snapshot.rowByRating(rank);
+                double value = snapshot.ratingAt(row);
+                return value < rating || (value == rating && snapshot.idAt(row) > cursor.getId());
+            });
+        }
+        List<Movie> rows = ranked(start, snapshot.size(), limit, snapshot::rowByRating);
+        return CursorPage.fromRows(rows, limit, m -> MovieCursor.encode(m.getImdbRating(), m.getId()));
+    }
+
+    @Override
+    public CursorPage<Movie> findLatestMovies(String after, int limit) {
+        MovieCursor.checkLimit(limit);
+        // Yılı boş filmler sıralamanın sonundadır ve keyset sorgusuna hiç girmez
+        int end = firstRank(snapshot.size(), rank -> snapshot.yearAt(snapshot.rowByYear(rank)) == null);
+        int start = 0;
+        if (after != null) {
+            MovieCursor cursor = MovieCursor.decode(after);
+            int year = cursor.keyAsInt();
+            start = firstRank(end, rank -> {
+                int row = snapshot.rowByYear(rank);
+                int value = snapshot.yearAt(row);
+                return value < year || (value == year && snapshot.idAt(row) > cursor.getId());
+            });
+        }
+        List<Movie> rows = ranked(start, end, limit, snapshot::rowByYear);
+        return CursorPage.fromRows(rows, limit, m -> MovieCursor.encode(m.getYear(), m.getId()));
+    }
+
+    // Liste görünümü projeksiyonları: Movie oluşturmadan doğrudan sütunlardan
+    @Override
+    public Page<MovieSummaryDTO> findAllSummaries(Pageable pageable) {
+        return page(pageable, rank -> rank, this::summaryAt);
+    }
+
+    @Override
+    public Page<MovieSummaryDTO> findTopRatedSummaries(Pageable pageable) {
+        return page(pageable, snapshot::rowByRating, this::summaryAt);
+    }
+
+    @Override
+    public Page<MovieSummaryDTO> findLatestSummaries(Pageable pageable) {
+        return page(pageable, snapshot::rowByYear, this::summaryAt);
+    }
+
+    private MovieSummaryDTO summaryAt(int row) {
+        return new MovieSummaryDTO(snapshot.idAt(row), snapshot.titleAt(row), snapshot.yearAt(row),
+                snapshot.ratingAt(row), snapshot.imageUrlAt(row), snapshot.durationAt(row),
+                snapshot.partOfSeriesAt(row));
+    }
+
+    private List<Movie> rows(IntPredicate filter) {
+        List<Movie> result = new ArrayList<>();
+        for (int row = 0; row < snapshot.size(); row++) {
+            if (filter.test(row)) {
+                result.add(snapshot.movieAt(row));
+            }
+        }
+        return result;
+    }
+
+    // MovieSpecifications.matching ile aynı koşullar; boş alan filtre uygulamaz
+    private IntPredicate matching(MovieFilter filter) {
+        String needle = filter.getTitle() == null ? null : filter.getTitle().toLowerCase(Locale.ROOT);
+        Integer year = filter.getYear();
+        Double minRating = filter.getMinRating();
+        long genreMask = MovieGenre.toMask(filter.getGenres());
+        Long directorId = filter.getDirectorId();
+        Long actorId = filter.getActorId();
+        Long awardId = filter.getAwardId();
+        Integer minDuration = filter.getMinDuration();
+        Integer maxDuration = filter.getMaxDuration();
+        BigDecimal minBudget = filter.getMinBudget();
+        BigDecimal maxBudget = filter.getMaxBudget();
+        return row -> (needle == null || snapshot.titleAt(row).toLowerCase(Locale.ROOT).contains(needle))
+                && (year == null || year.equals(snapshot.yearAt(row)))
+                && (minRating == null || snapshot.ratingAt(row) >= minRating)
+                && (snapshot.genreMaskAt(row) & genreMask) == genreMask
+                && (directorId == null || contains(snapshot.directorIdsAt(row), directorId))
+                && (actorId == null || contains(snapshot.castIdsAt(row), actorId))
+                && (awardId == null || contains(snapshot.awardIdsAt(row), awardId))
+                && inRange(snapshot.durationAt(row), minDuration, maxDuration)
+                && inRange(snapshot.budgetAt(row), minBudget, maxBudget);
+    }
+
+    private static boolean contains(long[] ids, long id) {
+        for (long candidate : ids) {
+            if (candidate == id) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // SQL'deki gibi NULL değer, sınır verilmişse aralığa girmez
+    private static <T extends Comparable<T>> boolean inRange(T value, T min, T max) {
+        if (min == null && max == null) {
+            return true;
+        }
+        return value != null
+                && (min == null || value.compareTo(min) >= 0)
+                && (max == null || value.compareTo(max) <= 0);
+    }
+
+    // Eşleşen satır numaraları sütunlardan sıralanır; Movie yalnızca istenen sayfadaki satırlar için oluşturulur
+    private Page<Movie> filteredPage(IntPredicate filter, Pageable pageable) {
+        int[] matches = new int[16];
+        int count = 0;
+        for (int row = 0; row < snapshot.size(); row++) {
+            if (filter.test(row)) {
+                if (count == matches.length) {
+                    matches = Arrays.copyOf(matches, count * 2);
+                }
+                matches[count++] = row;
+            }
+        }
+        if (pageable.getSort().isSorted()) {
+            sortRows(matches, count, rowOrder(pageable.getSort()));
+        }
+        int from = (int) Math.min(pageable.getOffset(), count);
+        int to = Math.min(from + pageable.getPageSize(), count);
+        List<Movie> content = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            content.add(snapshot.movieAt(matches[i]));
+        }
+        return new PageImpl<>(content, pageable, count);
+    }
+
+    private <T> Page<T> page(Pageable pageable, IntUnaryOperator rowAtRank, IntFunction<T> mapper) {
+        int from = (int) Math.min(pageable.getOffset(), snapshot.size());
+        int to = Math.min(from + pageable.getPageSize(), snapshot.size());
+        List<T> content = new ArrayList<>(to - from);
+        for (int rank = from; rank < to; rank++) {
+            content.add(mapper.apply(rowAtRank.applyAsInt(rank)));
+        }
+        return new PageImpl<>(content, pageable, snapshot.size());
+    }
+
+    // Sıralı sütun tür maskesiyle süzülür; sıralama yapılmaz ama toplam için tüm sütun taranır
+    private Page<Movie> genrePage(MovieGenre genre, Pageable pageable, IntUnaryOperator rowAtRank) {
+        List<Movie> content = new ArrayList<>(pageable.getPageSize());
+        long offset = pageable.getOffset();
+        int total = 0;
+        for (int rank = 0; rank < snapshot.size(); rank++) {
+            int row = rowAtRank.applyAsInt(rank);
+            if (snapshot.hasGenre(row, genre)) {
+                if (total >= offset && content.size() < pageable.getPageSize()) {
+                    content.add(snapshot.movieAt(row));
+                }
+                total++;
+            }
+        }
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    private List<Movie> ranked(int start, int end, int limit, IntUnaryOperator rowAtRank) {
+        List<Movie> rows = new ArrayList<>(limit + 1);
+        for (int rank = start; rank < end && rows.size() <= limit; rank++) {
+            rows.add(snapshot.movieAt(rowAtRank.applyAsInt(rank)));
+        }
+        return rows;
+    }
+
+    // [0, end) aralığında koşulun sağlandığı ilk sıra; koşul sıralama boyunca false -> true monotondur
+    private static int firstRank(int end, IntPredicate condition) {
+        int low = 0;
+        int high = end;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (condition.test(mid)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    private List<Movie> byIds(List<Long> ids) {
+        List<Movie> movies = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            findById(id).ifPresent(movies::add);
+        }
+        return movies;
+    }
+
+    // İki satırı sütun değerleriyle karşılaştırır (kutulama ve Movie oluşturma olmadan)
+    @FunctionalInterface
+    private interface RowOrder {
+        int compare(int a, int b);
+    }
+
+    // Filtre sayfalamasında desteklenen sıralama alanları (null değerler H2 gibi en küçük sayılır); eşitlikte id artan
+    private RowOrder rowOrder(Sort sort) {
+        RowOrder result = (a, b) -> 0;
+        for (Sort.Order order : sort) {
+            RowOrder key = switch (order.getProperty()) {
+                case "id" -> (a, b) -> Long.compare(snapshot.idAt(a), snapshot.idAt(b));
+                case "title" -> (a, b) -> NULLS_FIRST_TEXT.compare(snapshot.titleAt(a), snapshot.titleAt(b));
+                case "year" -> (a, b) -> NULLS_FIRST_NUMBER.compare(snapshot.yearAt(a), snapshot.yearAt(b));
+                case "imdbRating" -> (a, b) -> Double.compare(snapshot.ratingAt(a), snapshot.ratingAt(b));
+                case "duration" -> (a, b) -> NULLS_FIRST_NUMBER.compare(snapshot.durationAt(a), snapshot.durationAt(b));
+                default -> throw new IllegalArgumentException("Desteklenmeyen sıralama alanı: " + order.getProperty());
+            };
+            RowOrder next = order.isDescending() ? (a, b) -> key.compare(b, a) : key;
+            RowOrder previous = result;
+            result = (a, b) -> {
+                int c = previous.compare(a, b);
+                return c != 0 ? c : next.compare(a, b);
+            };
+        }
+        RowOrder keys = result;
+        return (a, b) -> {
+            int c = keys.compare(a, b);
+            return c != 0 ? c : Long.compare(snapshot.idAt(a), snapshot.idAt(b));
+        };
+    }
+
+    // Kararlı, aşağıdan yukarı birleştirmeli sıralama (int[] için Comparator'lı sıralama yok)
+    private static void sortRows(int[] rows, int count, RowOrder order) {
+        int[] buffer = new int[count];
+        for (int width = 1; width < count; width *= 2) {
+            for (int lo = 0; lo < count - width; lo += 2 * width) {
+                int mid = lo + width;
+                int hi = Math.min(lo + 2 * width, count);
+                System.arraycopy(rows, lo, buffer, lo, hi - lo);
+                int left = lo;
+                int right = mid;
+                for (int i = lo; i < hi; i++) {
+                    if (right >= hi || (left < mid && order.compare(buffer[left], buffer[right]) <= 0)) {
+                        rows[i] = buffer[left++];
+                    } else {
+                        rows[i] = buffer[right++];
+                    }
+                }
+            }
+        }
+    }
+}
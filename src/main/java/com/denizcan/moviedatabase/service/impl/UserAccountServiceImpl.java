@@ -0,0 +1,85 @@
+package com.denizcan.moviedatabase.service.impl;
+
+import com.denizcan.moviedatabase.exception.ResourceNotFoundException;
+import com.denizcan.moviedatabase.model.User;
+import com.denizcan.moviedatabase.repository.UserRepository;
+import com.denizcan.moviedatabase.security.TokenVersionRegistry;
+import com.denizcan.moviedatabase.security.UserIdentityFilter;
+import com.denizcan.moviedatabase.service.UserAccountService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+public class UserAccountServiceImpl implements UserAccountService {
+    private final UserRepository userRepository;
+    private final TokenVersionRegistry tokenVersions;
+    private final UserIdentityFilter identityFilter;
+
+    public UserAccountServiceImpl(UserRepository userRepository, TokenVersionRegistry tokenVersions,
+                                  UserIdentityFilter identityFilter) {
+        this.userRepository = userRepository;
+        this.tokenVersions = tokenVersions;
+        this.identityFilter = identityFilter;
+    }
+
+    // Filtre "kesinlikle yok" dediği alanlar sorguya hiç katılmaz (null parametre hiçbir satırla eşleşmez)
+    @Override
+    public Conflict findConflict(String username, String email) {
+        boolean checkUsername = identityFilter.mightContainUsername(username);
+        boolean checkEmail = identityFilter.mightContainEmail(email);
+        if (!checkUsername && !checkEmail) {
+            return Conflict.NONE;
+        }
+        List<String> matches = userRepository.findUsernamesByUsernameOrEmail(
+                checkUsername ? username : null, checkEmail ? email : null);
+        if (matches.contains(username)) {
+            return Conflict.USERNAME;
+        }
+        return matches.isEmpty() ? Conflict.NONE : Conflict.EMAIL;
+    }
+
+    @Override
+    public boolean isUsernameAvailable(String username) {
+        return !identityFilter.mightContainUsername(username) || !userRepository.existsByUsername(username);
+    }
+
+    @Override
+    public boolean isEmailAvailable(String email) {
+        return !identityFilter.mightContainEmail(email) || !userRepository.existsByEmail(email);
+    }
+
+    @Override
+    public User register(User user) {
+        User saved = userRepository.save(user);
+        identityFilter.add(saved.getUsername(), saved.getEmail());
+        return saved;
+    }
+
+    @Override
+    @Transactional
+    public User changeRole(String username, User.Role role) {
+        User user = findUser(username);
+        user.setRole(role);
+        bumpTokenVersion(user);
+        return user;
+    }
+
+    @Override
+    @Transactional
+    public void revokeTokens(String username) {
+        bumpTokenVersion(findUser(username));
+    }
+
+    private User findUser(String username) {
+        return userRepository.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("Kullanıcı", "username", username));
+    }
+
+    // Kayıt hemen güncellenir; transaction geri alınsa bile eski token'lar reddedilir (güvenli taraf)
+    private void bumpTokenVersion(User user) {
+        user.setTokenVersion(user.getTokenVersion() + 1);
+        tokenVersions.update(user.getUsername(), user.getTokenVersion());
+    }
+}
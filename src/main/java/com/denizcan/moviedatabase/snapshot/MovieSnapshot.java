@@ -0,0 +1,275 @@
+package com.denizcan.moviedatabase.snapshot;
+
+import com.denizcan.moviedatabase.model.Movie;
+import com.denizcan.moviedatabase.model.MovieGenre;
+import com.denizcan.moviedatabase.snapshot.MovieSnapshotFormat.Section;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+import static com.denizcan.moviedatabase.snapshot.MovieSnapshotFormat.*;
+
+// MovieSnapshotWriter'ın ürettiği dosyanın bellek eşlemeli (mmap) okuyucusu.
+// Sütunlar dosyadan kopyalanmadan okunur; işletim sistemi sayfaları gerektikçe yükler.
+// Tüm erişimler mutlak konumlu olduğundan örnek thread-safe'tir.
+public final class MovieSnapshot {
+    private final Path path;
+    private final long createdAt;
+    private final int rowCount;
+
+    private final LongBuffer ids;
+    private final IntBuffer years;
+    private final DoubleBuffer ratings;
+    private final IntBuffer durations;
+    private final ByteBuffer seriesFlags;
+    private final LongBuffer genreMasks;
+    private final LongBuffer budgets;
+    private final LongBuffer boxOffices;
+    private final IntBuffer titles;
+    private final IntBuffer synopses;
+    private final IntBuffer imageUrls;
+    private final IntBuffer seriesNames;
+    private final IntBuffer ratingOrder;
+    private final IntBuffer yearOrder;
+    private final IntBuffer stringOffsets;
+    private final ByteBuffer stringData;
+    private final IntBuffer directorOffsets;
+    private final LongBuffer directorIds;
+    private final IntBuffer castOffsets;
+    private final LongBuffer castIds;
+    private final IntBuffer awardOffsets;
+    private final LongBuffer awardIds;
+
+    // Dosyadaki tür bitleri -> bu sürümdeki MovieGenre; sırası değişmiş enum'lar isimle eşlenir
+    private final Map<MovieGenre, Long> genreBits = new EnumMap<>(MovieGenre.class);
+
+    private MovieSnapshot(Path path, ByteBuffer file) {
+        this.path = path;
+        if (file.getInt(0) != MAGIC) {
+            throw new IllegalStateException("Geçersiz snapshot dosyası: " + path);
+        }
+        int version = file.getInt(4);
+        if (version != VERSION) {
+            throw new IllegalStateException("Desteklenmeyen snapshot sürümü " + version + ": " + path);
+        }
+        this.createdAt = file.getLong(8);
+        this.rowCount = file.getInt(16);
+        int genreCount = file.getInt(20);
+        int sectionCount = file.getInt(28);
+        if (sectionCount != Section.values().length) {
+            throw new IllegalStateException("Beklenmeyen bölüm sayısı " + sectionCount + ": " + path);
+        }
+
+        Map<Section, ByteBuffer> sections = new EnumMap<>(Section.class);
+        for (Section section : Section.values()) {
+            int entry = HEADER_SIZE + section.ordinal() * SECTION_ENTRY_SIZE;
+            int offset = Math.toIntExact(file.getLong(entry));
+            int length = Math.toIntExact(file.getLong(entry + 8));
+            sections.put(section, file.slice(offset, length));
+        }
+
+        ids = sections.get(Section.IDS).asLongBuffer();
+        years = sections.get(Section.YEARS).asIntBuffer();
+        ratings = sections.get(Section.RATINGS).asDoubleBuffer();
+        durations = sections.get(Section.DURATIONS).asIntBuffer();
+        seriesFlags = sections.get(Section.SERIES_FLAGS);
+        genreMasks = sections.get(Section.GENRE_MASKS).asLongBuffer();
+        budgets = sections.get(Section.BUDGETS).asLongBuffer();
+        boxOffices = sections.get(Section.BOX_OFFICES).asLongBuffer();
+        titles = sections.get(Section.TITLES).asIntBuffer();
+        synopses = sections.get(Section.SYNOPSES).asIntBuffer();
+        imageUrls = sections.get(Section.IMAGE_URLS).asIntBuffer();
+        seriesNames = sections.get(Section.SERIES_NAMES).asIntBuffer();
+        ratingOrder = sections.get(Section.RATING_ORDER).asIntBuffer();
+        yearOrder = sections.get(Section.YEAR_ORDER).asIntBuffer();
+        stringOffsets = sections.get(Section.STRING_OFFSETS).asIntBuffer();
+        stringData = sections.get(Section.STRING_DATA);
+        directorOffsets = sections.get(Section.DIRECTOR_OFFSETS).asIntBuffer();
+        directorIds = sections.get(Section.DIRECTOR_IDS).asLongBuffer();
+        castOffsets = sections.get(Section.CAST_OFFSETS).asIntBuffer();
+        castIds = sections.get(Section.CAST_IDS).asLongBuffer();
+        awardOffsets = sections.get(Section.AWARD_OFFSETS).asIntBuffer();
+        awardIds = sections.get(Section.AWARD_IDS).asLongBuffer();
+
+        IntBuffer genreNames = sections.get(Section.GENRE_NAMES).asIntBuffer();
+        for (int bit = 0; bit < genreCount; bit++) {
+            String name = string(genreNames.get(bit));
+            for (MovieGenre genre : MovieGenre.values()) {
+                if (genre.name().equals(name)) {
+                    genreBits.put(genre, 1L << bit);
+                }
+            }
+        }
+    }
+
+    // Dosyayı salt okunur eşler; eşleme kanal kapandıktan sonra da geçerlidir
+    public static MovieSnapshot open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer file = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new MovieSnapshot(path, file);
+        }
+    }
+
+    public Path getPath() { return path; }
+    public long getCreatedAt() { return createdAt; }
+    public int size() { return rowCount; }
+
+    public long idAt(int row) {
+        return ids.get(row);
+    }
+
+    // Satırlar id sırasında olduğundan ikili arama; bulunamazsa -(ekleme noktası + 1)
+    public int rowOf(long id) {
+        int low = 0;
+        int high = rowCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long value = ids.get(mid);
+            if (value < id) {
+                low = mid + 1;
+            } else if (value > id) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    public Integer yearAt(int row) {
+        int year = years.get(row);
+        return year == NULL_INT ? null : year;
+    }
+
+    public double ratingAt(int row) {
+        return ratings.get(row);
+    }
+
+    public Integer durationAt(int row) {
+        int duration = durations.get(row);
+        return duration == NULL_INT ? null : duration;
+    }
+
+    public BigDecimal budgetAt(int row) {
+        return money(budgets.get(row));
+    }
+
+    public Boolean partOfSeriesAt(int row) {
+        byte flag = seriesFlags.get(row);
+        return flag == NULL_FLAG ? null : flag == 1;
+    }
+
+    public boolean hasGenre(int row, MovieGenre genre) {
+        Long bit = genreBits.get(genre);
+        return bit != null && (genreMasks.get(row) & bit) != 0;
+    }
+
+    // Snapshot'taki bitler dosya başlığındaki eşlemeye göredir; MovieGenre.bit() maskesine çevrilir
+    public long genreMaskAt(int row) {
+        long mask = genreMasks.get(row);
+        long result = 0;
+        for (Map.Entry<MovieGenre, Long> entry : genreBits.entrySet()) {
+            if ((mask & entry.getValue()) != 0) {
+                result |= entry.getKey().bit();
+            }
+        }
+        return result;
+    }
+
+    public Set<MovieGenre> genresAt(int row) {
+        long mask = genreMasks.get(row);
+        Set<MovieGenre> genres = EnumSet.noneOf(MovieGenre.class);
+        for (Map.Entry<MovieGenre, Long> entry : genreBits.entrySet()) {
+            if ((mask & entry.getValue()) != 0) {
+                genres.add(entry.getKey());
+            }
+        }
+        return genres;
+    }
+
+    public String titleAt(int row) {
+        return string(titles.get(row));
+    }
+
+    public String seriesNameAt(int row) {
+        return string(seriesNames.get(row));
+    }
+
+    public String imageUrlAt(int row) {
+        return string(imageUrls.get(row));
+    }
+
+    // i. en yüksek puanlı / en yeni filmin satırı (eşitlikte id artan)
+    public int rowByRating(int rank) {
+        return ratingOrder.get(rank);
+    }
+
+    public int rowByYear(int rank) {
+        return yearOrder.get(rank);
+    }
+
+    public long[] directorIdsAt(int row) {
+        return relation(directorOffsets, directorIds, row);
+    }
+
+    public long[] castIdsAt(int row) {
+        return relation(castOffsets, castIds, row);
+    }
+
+    public long[] awardIdsAt(int row) {
+        return relation(awardOffsets, awardIds, row);
+    }
+
+    // Satırdan ayrık (detached) bir Movie oluşturur. İlişkiler yalnızca id olarak
+    // tutulduğundan director / cast / awards doldurulmaz; *IdsAt metotlarıyla okunur.
+    public Movie movieAt(int row) {
+        Movie movie = new Movie();
+        movie.setId(ids.get(row));
+        movie.setTitle(titleAt(row));
+        movie.setYear(yearAt(row));
+        movie.setSynopsis(string(synopses.get(row)));
+        movie.setBudget(budgetAt(row));
+        movie.setBoxOffice(money(boxOffices.get(row)));
+        movie.setImdbRating(ratings.get(row));
+        movie.setPartOfSeries(partOfSeriesAt(row));
+        movie.setSeriesName(seriesNameAt(row));
+        movie.setDuration(durationAt(row));
+        movie.setImageUrl(imageUrlAt(row));
+        movie.setGenre(genresAt(row));
+        return movie;
+    }
+
+    private String string(int ref) {
+        if (ref == NULL_STRING) {
+            return null;
+        }
+        int start = stringOffsets.get(ref);
+        byte[] bytes = new byte[stringOffsets.get(ref + 1) - start];
+        stringData.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static BigDecimal money(long value) {
+        return value == NULL_LONG ? null : BigDecimal.valueOf(value, MONEY_SCALE);
+    }
+
+    private static long[] relation(IntBuffer offsets, LongBuffer values, int row) {
+        int start = offsets.get(row);
+        long[] result = new long[offsets.get(row + 1) - start];
+        values.get(start, result);
+        return result;
+    }
+}
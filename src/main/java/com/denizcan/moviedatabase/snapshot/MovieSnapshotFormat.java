@@ -0,0 +1,66 @@
+package com.denizcan.moviedatabase.snapshot;
+
+// Film snapshot dosyasının yerleşimi (sürüm 1). Tüm sayılar big-endian'dır.
+//
+//   başlık   : magic, sürüm, oluşturulma zamanı, satır / tür / sözlük sayısı, bölüm sayısı
+//   tablo    : her bölüm için (offset, uzunluk) çifti
+//   bölümler : 8 bayta hizalı sütunlar; satırlar id'ye göre artan sıradadır
+//
+// Metin sütunları sözlük kodludur: satır, STRING_OFFSETS / STRING_DATA içindeki bir metnin indeksini tutar.
+// İlişkiler (yönetmen, oyuncu, ödül) CSR biçimindedir: satır i'nin id'leri IDS[OFFSETS[i]..OFFSETS[i+1]).
+final class MovieSnapshotFormat {
+    static final int MAGIC = 0x4D565331; // "MVS1"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 32;
+    static final int SECTION_ENTRY_SIZE = 16;
+    static final int ALIGNMENT = 8;
+
+    // Boş değer işaretleri
+    static final int NULL_INT = Integer.MIN_VALUE;
+    static final long NULL_LONG = Long.MIN_VALUE;
+    static final int NULL_STRING = -1;
+    static final byte NULL_FLAG = -1;
+
+    // Para sütunları kuruş cinsinden (ölçek 2) long olarak saklanır
+    static final int MONEY_SCALE = 2;
+
+    enum Section {
+        IDS(8),
+        YEARS(4),
+        RATINGS(8),
+        DURATIONS(4),
+        SERIES_FLAGS(1),
+        GENRE_MASKS(8),
+        BUDGETS(8),
+        BOX_OFFICES(8),
+        TITLES(4),
+        SYNOPSES(4),
+        IMAGE_URLS(4),
+        SERIES_NAMES(4),
+        // Satır numaraları: puana göre azalan / yıla göre azalan (eşitlikte id artan)
+        RATING_ORDER(4),
+        YEAR_ORDER(4),
+        // Maskenin i. biti GENRE_NAMES[i] sözlük metnine karşılık gelir
+        GENRE_NAMES(4),
+        STRING_OFFSETS(4),
+        STRING_DATA(1),
+        DIRECTOR_OFFSETS(4),
+        DIRECTOR_IDS(8),
+        CAST_OFFSETS(4),
+        CAST_IDS(8),
+        AWARD_OFFSETS(4),
+        AWARD_IDS(8);
+
+        final int width;
+
+        Section(int width) {
+            this.width = width;
+        }
+    }
+
+    private MovieSnapshotFormat() {}
+
+    static long align(long position) {
+        return (position + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+    }
+}
@@ -0,0 +1,293 @@
+package com.denizcan.moviedatabase.snapshot;
+
+import com.denizcan.moviedatabase.dto.SnapshotInfo;
+import com.denizcan.moviedatabase.model.MovieGenre;
+import com.denizcan.moviedatabase.snapshot.MovieSnapshotFormat.Section;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static com.denizcan.moviedatabase.snapshot.MovieSnapshotFormat.*;
+
+// movie, movie_genres ve ilişki tablolarını Hibernate kullanmadan (JDBC) okuyup sütun bazlı snapshot dosyasına yazar.
+// Dosya önce geçici bir dosyaya yazılır, sonra atomik olarak hedefin yerine taşınır; okuyan düğümler yarım dosya görmez.
+@Component
+public class MovieSnapshotWriter {
+    private static final Logger log = LoggerFactory.getLogger(MovieSnapshotWriter.class);
+
+    private static final String MOVIES_SQL =
+            "SELECT id, title, release_year, synopsis, budget, box_office, imdb_rating, part_of_series, " +
+            "series_name, duration, image_url FROM movie ORDER BY id";
+    private static final String GENRES_SQL = "SELECT movie_id, genre FROM movie_genres";
+    private static final String DIRECTORS_SQL = "SELECT movie_id, director_id FROM movie_director ORDER BY movie_id, director_id";
+    private static final String CAST_SQL = "SELECT movie_id, actor_id FROM movie_actor ORDER BY movie_id, actor_id";
+    private static final String AWARDS_SQL = "SELECT movie_id, award_id FROM movie_award ORDER BY movie_id, award_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public MovieSnapshotWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Tüm tablolar aynı okuma transaction'ında okunur. READ COMMITTED'da her SELECT ayrı anlık görüntü görür;
+    // arada commit edilen bir import / silme film satırlarıyla ilişki satırlarını uyumsuz bırakabilir.
+    // REPEATABLE READ'de (H2 MVStore) transaction boyunca tek anlık görüntü okunur.
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public SnapshotInfo write(Path target) throws IOException {
+        long start = System.currentTimeMillis();
+        List<Row> rows = jdbcTemplate.query(MOVIES_SQL, (rs, i) -> {
+            Row row = new Row();
+            row.id = rs.getLong("id");
+            row.title = rs.getString("title");
+            row.year = rs.getObject("release_year", Integer.class);
+            row.synopsis = rs.getString("synopsis");
+            row.budget = rs.getBigDecimal("budget");
+            row.boxOffice = rs.getBigDecimal("box_office");
+            row.imdbRating = rs.getDouble("imdb_rating");
+            row.partOfSeries = rs.getObject("part_of_series", Boolean.class);
+            row.seriesName = rs.getString("series_name");
+            row.duration = rs.getObject("duration", Integer.class);
+            row.imageUrl = rs.getString("image_url");
+            return row;
+        });
+        Map<Long, Row> byId = new HashMap<>();
+        for (Row row : rows) {
+            byId.put(row.id, row);
+        }
+        jdbcTemplate.query(GENRES_SQL, rs -> {
+            Row row = byId.get(rs.getLong("movie_id"));
+            if (row != null) {
+                row.genreMask |= MovieGenre.valueOf(rs.getString("genre")).bit();
+            }
+        });
+        jdbcTemplate.query(DIRECTORS_SQL, rs -> { addRelation(byId, rs.getLong(1), rs.getLong(2), r -> r.directorIds); });
+        jdbcTemplate.query(CAST_SQL, rs -> { addRelation(byId, rs.getLong(1), rs.getLong(2), r -> r.castIds); });
+        jdbcTemplate.query(AWARDS_SQL, rs -> { addRelation(byId, rs.getLong(1), rs.getLong(2), r -> r.awardIds); });
+
+        long createdAt = System.currentTimeMillis();
+        Map<Section, ByteBuffer> sections = encode(rows);
+        long size = writeAtomically(target, rows.size(), createdAt, sections);
+
+        log.info("Film snapshot'ı yazıldı: {} ({} film, {} bayt, {} ms)",
+                target, rows.size(), size, System.currentTimeMillis() - start);
+        return new SnapshotInfo(target.toString(), VERSION, rows.size(), size, createdAt);
+    }
+
+    private static void addRelation(Map<Long, Row> byId, long movieId, long relatedId,
+                                    Function<Row, List<Long>> list) {
+        Row row = byId.get(movieId);
+        if (row != null) {
+            list.apply(row).add(relatedId);
+        }
+    }
+
+    private static Map<Section, ByteBuffer> encode(List<Row> rows) {
+        int n = rows.size();
+        Map<Section, ByteBuffer> sections = new EnumMap<>(Section.class);
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+
+        ByteBuffer ids = allocate(sections, Section.IDS, n);
+        ByteBuffer years = allocate(sections, Section.YEARS, n);
+        ByteBuffer ratings = allocate(sections, Section.RATINGS, n);
+        ByteBuffer durations = allocate(sections, Section.DURATIONS, n);
+        ByteBuffer flags = allocate(sections, Section.SERIES_FLAGS, n);
+        ByteBuffer masks = allocate(sections, Section.GENRE_MASKS, n);
+        ByteBuffer budgets = allocate(sections, Section.BUDGETS, n);
+        ByteBuffer boxOffices = allocate(sections, Section.BOX_OFFICES, n);
+        ByteBuffer titles = allocate(sections, Section.TITLES, n);
+        ByteBuffer synopses = allocate(sections, Section.SYNOPSES, n);
+        ByteBuffer imageUrls = allocate(sections, Section.IMAGE_URLS, n);
+        ByteBuffer seriesNames = allocate(sections, Section.SERIES_NAMES, n);
+
+        for (Row row : rows) {
+            ids.putLong(row.id);
+            years.putInt(row.year == null ? NULL_INT : row.year);
+            ratings.putDouble(row.imdbRating);
+            durations.putInt(row.duration == null ? NULL_INT : row.duration);
+            flags.put(row.partOfSeries == null ? NULL_FLAG : (byte) (row.partOfSeries ? 1 : 0));
+            masks.putLong(row.genreMask);
+            budgets.putLong(money(row.budget));
+            boxOffices.putLong(money(row.boxOffice));
+            titles.putInt(intern(dictionary, row.title));
+            synopses.putInt(intern(dictionary, row.synopsis));
+            imageUrls.putInt(intern(dictionary, row.imageUrl));
+            seriesNames.putInt(intern(dictionary, row.seriesName));
+        }
+
+        // Sıralı erişim sütunları: en yüksek puanlı / en yeni filmler sıralama yapmadan okunur
+        writeOrder(allocate(sections, Section.RATING_ORDER, n), rows,
+                Comparator.comparingDouble((Row r) -> r.imdbRating).reversed());
+        writeOrder(allocate(sections, Section.YEAR_ORDER, n), rows,
+                Comparator.comparing((Row r) -> r.year, Comparator.nullsFirst(Comparator.<Integer>naturalOrder())).reversed());
+
+        MovieGenre[] genres = MovieGenre.values();
+        ByteBuffer genreNames = allocate(sections, Section.GENRE_NAMES, genres.length);
+        for (MovieGenre genre : genres) {
+            genreNames.putInt(intern(dictionary, genre.name()));
+        }
+
+        encodeDictionary(sections, dictionary);
+        encodeRelation(sections, Section.DIRECTOR_OFFSETS, Section.DIRECTOR_IDS, rows, r -> r.directorIds);
+        encodeRelation(sections, Section.CAST_OFFSETS, Section.CAST_IDS, rows, r -> r.castIds);
+        encodeRelation(sections, Section.AWARD_OFFSETS, Section.AWARD_IDS, rows, r -> r.awardIds);
+
+        for (ByteBuffer buffer : sections.values()) {
+            buffer.flip();
+        }
+        return sections;
+    }
+
+    private static ByteBuffer allocate(Map<Section, ByteBuffer> sections, Section section, int count) {
+        ByteBuffer buffer = ByteBuffer.allocate(Math.multiplyExact(count, section.width));
+        sections.put(section, buffer);
+        return buffer;
+    }
+
+    private static int intern(Map<String, Integer> dictionary, String value) {
+        if (value == null) {
+            return NULL_STRING;
+        }
+        return dictionary.computeIfAbsent(value, v -> dictionary.size());
+    }
+
+    private static long money(BigDecimal value) {
+        return value == null ? NULL_LONG : value.setScale(MONEY_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    // Satırlar id sırasında olduğundan kararlı sıralama eşitlikte id artan sırayı korur
+    private static void writeOrder(ByteBuffer buffer, List<Row> rows, Comparator<Row> order) {
+        List<Integer> positions = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            positions.add(i);
+        }
+        positions.sort((a, b) -> order.compare(rows.get(a), rows.get(b)));
+        for (int position : positions) {
+            buffer.putInt(position);
+        }
+    }
+
+    private static void encodeDictionary(Map<Section, ByteBuffer> sections, Map<String, Integer> dictionary) {
+        List<byte[]> encoded = new ArrayList<>(dictionary.size());
+        int total = 0;
+        for (String value : dictionary.keySet()) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            encoded.add(bytes);
+            total = Math.addExact(total, bytes.length);
+        }
+        ByteBuffer offsets = allocate(sections, Section.STRING_OFFSETS, encoded.size() + 1);
+        ByteBuffer data = allocate(sections, Section.STRING_DATA, total);
+        offsets.putInt(0);
+        for (byte[] bytes : encoded) {
+            data.put(bytes);
+            offsets.putInt(data.position());
+        }
+    }
+
+    private static void encodeRelation(Map<Section, ByteBuffer> sections, Section offsetSection, Section idSection,
+                                       List<Row> rows, Function<Row, List<Long>> list) {
+        int total = 0;
+        for (Row row : rows) {
+            total += list.apply(row).size();
+        }
+        ByteBuffer offsets = allocate(sections, offsetSection, rows.size() + 1);
+        ByteBuffer ids = allocate(sections, idSection, total);
+        offsets.putInt(0);
+        for (Row row : rows) {
+            for (long id : list.apply(row)) {
+                ids.putLong(id);
+            }
+            offsets.putInt(ids.position() / idSection.width);
+        }
+    }
+
+    private static long writeAtomically(Path target, int rowCount, long createdAt,
+                                        Map<Section, ByteBuffer> sections) throws IOException {
+        Section[] all = Section.values();
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE + all.length * SECTION_ENTRY_SIZE);
+        header.putInt(MAGIC)
+                .putInt(VERSION)
+                .putLong(createdAt)
+                .putInt(rowCount)
+                .putInt(sections.get(Section.GENRE_NAMES).remaining() / Section.GENRE_NAMES.width)
+                .putInt(sections.get(Section.STRING_OFFSETS).remaining() / Section.STRING_OFFSETS.width - 1)
+                .putInt(all.length);
+
+        long position = align(header.capacity());
+        for (Section section : all) {
+            header.putLong(position).putLong(sections.get(section).remaining());
+            position = align(position + sections.get(section).remaining());
+        }
+        header.flip();
+
+        Path directory = target.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, target.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                writeFully(channel, header, 0);
+                long offset = align(header.capacity());
+                for (Section section : all) {
+                    ByteBuffer buffer = sections.get(section);
+                    int length = buffer.remaining();
+                    writeFully(channel, buffer, offset);
+                    offset = align(offset + length);
+                }
+                // Son bölümün hizalama boşluğu
+                if (channel.size() < offset) {
+                    writeFully(channel, ByteBuffer.allocate((int) (offset - channel.size())), channel.size());
+                }
+                channel.force(true);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return position;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long offset) throws IOException {
+        while (buffer.hasRemaining()) {
+            offset += channel.write(buffer, offset);
+        }
+    }
+
+    private static final class Row {
+        long id;
+        String title;
+        Integer year;
+        String synopsis;
+        BigDecimal budget;
+        BigDecimal boxOffice;
+        double imdbRating;
+        Boolean partOfSeries;
+        String seriesName;
+        Integer duration;
+        String imageUrl;
+        long genreMask;
+        final List<Long> directorIds = new ArrayList<>();
+        final List<Long> castIds = new ArrayList<>();
+        final List<Long> awardIds = new ArrayList<>();
+    }
+}
@@ -43,6 +43,9 @@ INSERT INTO movie (id, title, release_year, synopsis, budget, box_office, imdb_r
 (4, 'The Godfather', 1972, 'Corleone ailesinin mafya dünyasındaki hikayesi', 6000000, 245066411, 9.2, true, 'The Godfather', 175, 'https://example.com/godfather.jpg'),
 (5, 'Jurassic Park', 1993, 'Dinozorların canlandırıldığı tema parkı', 63000000, 1037688000, 8.5, true, 'Jurassic Park', 127, 'https://example.com/jurassicpark.jpg');
 
+-- Sequence örnek verilerin id'lerinin üzerinden devam eder (ilk blok: 51-100)
+ALTER SEQUENCE movie_seq RESTART WITH 100;
+
 -- Movie Genres (Film Türleri)
 INSERT INTO movie_genres (movie_id, genre) VALUES 
 (1, 'SCIENCE_FICTION'),
@@ -0,0 +1,41 @@
+-- movie.genre_mask geçişi: kolondan önce eklenmiş (maskesi 0 kalmış) filmlerin maskesi movie_genres'ten doldurulur.
+-- Bit değeri MovieGenre ordinal'idir (1 << ordinal); (movie_id, genre) tekil olduğu için SUM, bit OR ile aynıdır.
+-- MovieGenre'ye değer eklenirse bu liste de güncellenmeli (GenreMaskMigrationTest enum ile karşılaştırır).
+UPDATE movie m SET genre_mask = (
+    SELECT COALESCE(SUM(CASE g.genre
+        WHEN 'DRAMA' THEN 1
+        WHEN 'ACTION' THEN 2
+        WHEN 'CRIME' THEN 4
+        WHEN 'ROMANCE' THEN 8
+        WHEN 'SCIENCE_FICTION' THEN 16
+        WHEN 'ADVENTURE' THEN 32
+        WHEN 'BIOGRAPHY' THEN 64
+        WHEN 'HISTORY' THEN 128
+        WHEN 'THRILLER' THEN 256
+        WHEN 'DISASTER' THEN 512
+        WHEN 'FANTASY' THEN 1024
+        WHEN 'COMEDY' THEN 2048
+        WHEN 'HORROR' THEN 4096
+        WHEN 'MYSTERY' THEN 8192
+        WHEN 'FAMILY' THEN 16384
+        WHEN 'WAR' THEN 32768
+        WHEN 'WESTERN' THEN 65536
+        WHEN 'MUSICAL' THEN 131072
+        WHEN 'SPORT' THEN 262144
+        WHEN 'CRIME_DRAMA' THEN 524288
+        WHEN 'ROMANTIC_COMEDY' THEN 1048576
+        WHEN 'BIOPIC' THEN 2097152
+        WHEN 'SUPERHERO' THEN 4194304
+        WHEN 'NOIR' THEN 8388608
+        WHEN 'ANIMATION' THEN 16777216
+        WHEN 'DOCUMENTARY' THEN 33554432
+        WHEN 'SHORT' THEN 67108864
+        WHEN 'HISTORICAL' THEN 134217728
+        WHEN 'POLITICAL' THEN 268435456
+        WHEN 'ROAD' THEN 536870912
+        WHEN 'SLICE_OF_LIFE' THEN 1073741824
+        ELSE 0 END), 0)
+    FROM movie_genres g
+    WHERE g.movie_id = m.id
+)
+WHERE m.genre_mask = 0;
@@ -22,9 +22,12 @@ CREATE TABLE IF NOT EXISTS award (
     category VARCHAR(50) NOT NULL
 );
 
+-- Movie id'leri 50'lik bloklar halinde ayrılır (Movie.ID_ALLOCATION_SIZE)
+CREATE SEQUENCE IF NOT EXISTS movie_seq START WITH 1 INCREMENT BY 50;
+
 -- Movie tablosu
 CREATE TABLE IF NOT EXISTS movie (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id BIGINT PRIMARY KEY,
     title VARCHAR(255) NOT NULL,
     release_year INT NOT NULL,
     synopsis TEXT,
@@ -34,15 +37,23 @@ CREATE TABLE IF NOT EXISTS movie (
     part_of_series BOOLEAN DEFAULT FALSE,
     series_name VARCHAR(255),
     duration INT,
-    image_url VARCHAR(500)
+    image_url VARCHAR(500),
+    genre_mask BIGINT DEFAULT 0 NOT NULL,
+    version BIGINT DEFAULT 0 NOT NULL
 );
 
+-- Kolon sonradan eklendiği için mevcut tablolara da eklenir; maskeler genre-mask-migration.sql ile doldurulur
+ALTER TABLE movie ADD COLUMN IF NOT EXISTS genre_mask BIGINT DEFAULT 0 NOT NULL;
+-- Optimistic locking sürümü (Movie.version)
+ALTER TABLE movie ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
+
 -- Movie genres tablosu
+-- Film silme tek DELETE ile çalışır: bu tablo ve aşağıdaki film ilişki tabloları ON DELETE CASCADE ile temizlenir
 CREATE TABLE IF NOT EXISTS movie_genres (
     movie_id BIGINT NOT NULL,
     genre VARCHAR(50) NOT NULL,
     PRIMARY KEY (movie_id, genre),
-    FOREIGN KEY (movie_id) REFERENCES movie(id)
+    FOREIGN KEY (movie_id) REFERENCES movie(id) ON DELETE CASCADE
 );
 
 -- Movie-Director ilişki tablosu
@@ -50,7 +61,7 @@ CREATE TABLE IF NOT EXISTS movie_director (
     movie_id BIGINT NOT NULL,
     director_id BIGINT NOT NULL,
     PRIMARY KEY (movie_id, director_id),
-    FOREIGN KEY (movie_id) REFERENCES movie(id),
+    FOREIGN KEY (movie_id) REFERENCES movie(id) ON DELETE CASCADE,
     FOREIGN KEY (director_id) REFERENCES director(id)
 );
 
@@ -59,7 +70,7 @@ CREATE TABLE IF NOT EXISTS movie_actor (
     movie_id BIGINT NOT NULL,
     actor_id BIGINT NOT NULL,
     PRIMARY KEY (movie_id, actor_id),
-    FOREIGN KEY (movie_id) REFERENCES movie(id),
+    FOREIGN KEY (movie_id) REFERENCES movie(id) ON DELETE CASCADE,
     FOREIGN KEY (actor_id) REFERENCES actor(id)
 );
 
@@ -68,7 +79,7 @@ CREATE TABLE IF NOT EXISTS movie_award (
     movie_id BIGINT NOT NULL,
     award_id BIGINT NOT NULL,
     PRIMARY KEY (movie_id, award_id),
-    FOREIGN KEY (movie_id) REFERENCES movie(id),
+    FOREIGN KEY (movie_id) REFERENCES movie(id) ON DELETE CASCADE,
     FOREIGN KEY (award_id) REFERENCES award(id)
 );
 
@@ -88,4 +99,24 @@ CREATE TABLE IF NOT EXISTS director_award (
     PRIMARY KEY (director_id, award_id),
     FOREIGN KEY (director_id) REFERENCES director(id),
     FOREIGN KEY (award_id) REFERENCES award(id)
-); 
\ No newline at end of file
+); 
+
+-- İkincil indeksler (adlar entity'lerdeki @Index tanımlarıyla aynıdır)
+
+-- Yıl / puan filtreleri ve azalan sıralı listeler (eşitlikte id artan)
+CREATE INDEX IF NOT EXISTS idx_movie_release_year ON movie (release_year DESC, id);
+CREATE INDEX IF NOT EXISTS idx_movie_imdb_rating ON movie (imdb_rating DESC, id);
+CREATE INDEX IF NOT EXISTS idx_movie_series_name ON movie (series_name);
+CREATE INDEX IF NOT EXISTS idx_movie_title ON movie (title);
+-- Çoklu tür (bitand) sorguları tablo yerine bu dar indeksi tarar
+CREATE INDEX IF NOT EXISTS idx_movie_genre_mask ON movie (genre_mask, id);
+
+-- Türe göre arama: birincil anahtar (movie_id, genre) bu yönde kullanılamaz
+CREATE INDEX IF NOT EXISTS idx_movie_genres_genre ON movie_genres (genre, movie_id);
+
+-- İlişki tablolarının ters tarafı (mappedBy koleksiyonları ve ödül silme)
+CREATE INDEX IF NOT EXISTS idx_movie_director_director_id ON movie_director (director_id);
+CREATE INDEX IF NOT EXISTS idx_movie_actor_actor_id ON movie_actor (actor_id);
+CREATE INDEX IF NOT EXISTS idx_movie_award_award_id ON movie_award (award_id);
+CREATE INDEX IF NOT EXISTS idx_actor_award_award_id ON actor_award (award_id);
+CREATE INDEX IF NOT EXISTS idx_director_award_award_id ON director_award (award_id);
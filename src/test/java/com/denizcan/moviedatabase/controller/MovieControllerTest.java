@@ -1,6 +1,8 @@
 package com.denizcan.moviedatabase.controller;
 
+import com.denizcan.moviedatabase.exception.ResourceNotFoundException;
 import com.denizcan.moviedatabase.model.Movie;
+import com.denizcan.moviedatabase.service.MovieImportService;
 import com.denizcan.moviedatabase.service.MovieService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
@@ -29,6 +31,9 @@ class MovieControllerTest {
     @MockBean
     private MovieService movieService;
 
+    @MockBean
+    private MovieImportService movieImportService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -154,27 +159,26 @@ class MovieControllerTest {
     @Test
     void testDeleteMovie_WhenMovieExists() throws Exception {
         // Given
-        when(movieService.findById(1L)).thenReturn(Optional.of(testMovie));
         doNothing().when(movieService).deleteById(1L);
 
         // When & Then
         mockMvc.perform(delete("/movies/1"))
                 .andExpect(status().isNoContent());
 
-        verify(movieService, times(1)).findById(1L);
+        verify(movieService, never()).findById(anyLong());
         verify(movieService, times(1)).deleteById(1L);
     }
 
     @Test
     void testDeleteMovie_WhenMovieDoesNotExist() throws Exception {
         // Given
-        when(movieService.findById(999L)).thenReturn(Optional.empty());
+        doThrow(new ResourceNotFoundException("Film", "id", 999L)).when(movieService).deleteById(999L);
 
         // When & Then
         mockMvc.perform(delete("/movies/999"))
                 .andExpect(status().isNotFound());
 
-        verify(movieService, times(1)).findById(999L);
-        verify(movieService, never()).deleteById(anyLong());
+        verify(movieService, never()).findById(anyLong());
+        verify(movieService, times(1)).deleteById(999L);
     }
 } 
\ No newline at end of file
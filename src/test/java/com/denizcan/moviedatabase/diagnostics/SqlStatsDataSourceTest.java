@@ -0,0 +1,95 @@
+package com.denizcan.moviedatabase.diagnostics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlStatsDataSourceTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource target = new DriverManagerDataSource("jdbc:h2:mem:sqlstats;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(new SqlStatsDataSource(target));
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS item (id BIGINT PRIMARY KEY, name VARCHAR(50))");
+        jdbcTemplate.update("DELETE FROM item");
+        jdbcTemplate.batchUpdate("INSERT INTO item (id, name) VALUES (?, ?)",
+                List.of(new Object[] {1L, "a"}, new Object[] {2L, "b"}, new Object[] {3L, "c"}));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SqlStats.clear();
+    }
+
+    @Test
+    void testCountsStatementsAndRows() {
+        // Given
+        SqlStats stats = SqlStats.start(20, 5);
+
+        // When
+        jdbcTemplate.queryForList("SELECT name FROM item ORDER BY id", String.class);
+        jdbcTemplate.update("UPDATE item SET name = ? WHERE id IN (1, 2)", "x");
+
+        // Then
+        assertEquals(2, stats.getStatements());
+        assertEquals(5, stats.getRows());
+        assertTrue(stats.warnings().isEmpty());
+    }
+
+    @Test
+    void testRepeatedShapeIsReported() {
+        // Given
+        SqlStats stats = SqlStats.start(20, 2);
+
+        // When
+        for (long id = 1; id <= 3; id++) {
+            jdbcTemplate.queryForObject("SELECT name FROM item WHERE id = " + id, String.class);
+        }
+
+        // Then
+        assertEquals(3, stats.getStatements());
+        List<String> warnings = stats.warnings();
+        assertEquals(1, warnings.size());
+        assertTrue(warnings.get(0).contains("3 kez"));
+        assertTrue(warnings.get(0).contains("SELECT name FROM item WHERE id = ?"));
+    }
+
+    @Test
+    void testBudgetExceededIsReported() {
+        // Given
+        SqlStats stats = SqlStats.start(2, 10);
+
+        // When
+        jdbcTemplate.queryForList("SELECT id FROM item", Long.class);
+        jdbcTemplate.queryForList("SELECT name FROM item", String.class);
+        jdbcTemplate.queryForObject("SELECT COUNT(*) FROM item", Long.class);
+
+        // Then
+        List<String> warnings = stats.warnings();
+        assertEquals(1, warnings.size());
+        assertTrue(warnings.get(0).contains("bütçe 2"));
+    }
+
+    @Test
+    void testNothingRecordedOutsideRequest() {
+        // Given / When
+        jdbcTemplate.queryForList("SELECT id FROM item", Long.class);
+
+        // Then
+        assertNull(SqlStats.current());
+    }
+
+    @Test
+    void testShapeOfNormalizesLiteralsAndInLists() {
+        assertEquals("select * from movie where title = ? and id in (?)",
+                SqlStats.shapeOf("select *  from movie\n where title = 'It''s' and id in (?, ?, 3)"));
+    }
+}
@@ -0,0 +1,89 @@
+package com.denizcan.moviedatabase.integration;
+
+import com.denizcan.moviedatabase.config.CacheConfig;
+import com.denizcan.moviedatabase.model.Movie;
+import com.denizcan.moviedatabase.model.MovieGenre;
+import com.denizcan.moviedatabase.service.MovieService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.NoOpCache;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "cache.awards.enabled=false")
+@ActiveProfiles("test")
+class EntityCacheIntegrationTest {
+
+    @Autowired
+    private MovieService movieService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void testFindByIdIsCachedAndEvictedOnSave() {
+        // Given
+        Movie movie = new Movie();
+        movie.setTitle("Heat");
+        movie.setYear(1995);
+        movie.setImdbRating(8.3);
+        movie.setGenre(new HashSet<>(Set.of(MovieGenre.CRIME)));
+        Long id = movieService.save(movie).getId();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // When
+        Movie first = movieService.findById(id).orElseThrow();
+        long loadsAfterFirst = statistics.getEntityLoadCount();
+        Movie second = movieService.findById(id).orElseThrow();
+
+        // Then
+        assertSame(first, second);
+        assertEquals(loadsAfterFirst, statistics.getEntityLoadCount());
+        assertEquals(Set.of(MovieGenre.CRIME), second.getGenre());
+
+        // When
+        second.setTitle("Heat (1995)");
+        movieService.save(second);
+
+        // Then
+        Movie reloaded = movieService.findById(id).orElseThrow();
+        assertNotSame(second, reloaded);
+        assertEquals("Heat (1995)", reloaded.getTitle());
+
+        // When
+        movieService.deleteById(id);
+
+        // Then
+        assertTrue(movieService.findById(id).isEmpty());
+    }
+
+    @Test
+    void testCacheStatisticsExportedAndCacheCanBeDisabled() {
+        // When
+        movieService.findById(Long.MAX_VALUE);
+
+        // Then
+        assertInstanceOf(CaffeineCache.class, cacheManager.getCache(CacheConfig.MOVIES));
+        assertInstanceOf(NoOpCache.class, cacheManager.getCache(CacheConfig.AWARDS));
+        assertTrue(meterRegistry.get("cache.gets").tag("cache", CacheConfig.MOVIES).tag("result", "miss")
+                .functionCounter().count() >= 1);
+        assertNotNull(meterRegistry.find("cache.evictions").tag("cache", CacheConfig.ACTORS).functionCounter());
+    }
+}
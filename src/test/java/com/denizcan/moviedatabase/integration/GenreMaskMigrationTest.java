@@ -0,0 +1,66 @@
+package com.denizcan.moviedatabase.integration;
+
+import com.denizcan.moviedatabase.model.Movie;
+import com.denizcan.moviedatabase.model.MovieGenre;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// genre-mask-migration.sql'in maskesi 0 kalmış satırları MovieGenre.toMask ile aynı değerlerle doldurduğunu doğrular
+@DataJpaTest
+@ActiveProfiles("test")
+class GenreMaskMigrationTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void testMigrationBackfillsMasksForEveryGenre() {
+        // Given: her tür en az bir filmde; maskeler kolon eklenmeden önceki gibi sıfırlanır
+        MovieGenre[] genres = MovieGenre.values();
+        for (int i = 0; i < genres.length; i++) {
+            entityManager.persist(movie("Film " + i, EnumSet.of(genres[i], genres[(i + 7) % genres.length])));
+        }
+        Movie noGenres = entityManager.persist(movie("Türsüz", Set.of()));
+        entityManager.flush();
+        jdbcTemplate.update("UPDATE movie SET genre_mask = 0");
+
+        // When
+        new ResourceDatabasePopulator(new ClassPathResource("genre-mask-migration.sql")).execute(dataSource);
+
+        // Then
+        entityManager.clear();
+        for (Movie movie : entityManager.getEntityManager()
+                .createQuery("SELECT m FROM Movie m", Movie.class).getResultList()) {
+            assertEquals(MovieGenre.toMask(movie.getGenre()), movie.getGenreMask(), movie.getTitle());
+        }
+        assertEquals(0L, jdbcTemplate.queryForObject("SELECT genre_mask FROM movie WHERE id = ?", Long.class, noGenres.getId()));
+    }
+
+    private static Movie movie(String title, Set<MovieGenre> genres) {
+        Movie movie = new Movie();
+        movie.setTitle(title);
+        movie.setYear(2000);
+        movie.setImdbRating(7.0);
+        movie.setGenre(new HashSet<>(genres));
+        return movie;
+    }
+}
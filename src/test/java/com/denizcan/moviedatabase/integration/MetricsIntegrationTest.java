@@ -0,0 +1,48 @@
+package com.denizcan.moviedatabase.integration;
+
+import com.denizcan.moviedatabase.service.MovieService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class MetricsIntegrationTest {
+
+    @Autowired
+    private MovieService movieService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void testMovieServiceMethodsAreTimedWithPercentiles() {
+        // When
+        movieService.findByYear(1999);
+        movieService.findByYear(2000);
+
+        // Then
+        Timer timer = meterRegistry.get("movie.service").tag("method", "findByYear").timer();
+        assertEquals(2, timer.count());
+        assertEquals(3, timer.takeSnapshot().percentileValues().length);
+    }
+
+    @Test
+    void testHibernateStatisticsAreExported() {
+        // Given
+        double before = meterRegistry.get("hibernate.query.executions").functionCounter().count();
+
+        // When
+        movieService.findByYear(2001);
+
+        // Then
+        assertEquals(before + 1, meterRegistry.get("hibernate.query.executions").functionCounter().count());
+        assertNotNull(meterRegistry.find("hibernate.entities.loads").functionCounter());
+        assertNotNull(meterRegistry.find("hibernate.collections.fetches").functionCounter());
+    }
+}
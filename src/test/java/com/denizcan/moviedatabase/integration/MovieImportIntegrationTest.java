@@ -0,0 +1,128 @@
+package com.denizcan.moviedatabase.integration;
+
+import com.denizcan.moviedatabase.config.CacheConfig;
+import com.denizcan.moviedatabase.dto.BulkImportResult;
+import com.denizcan.moviedatabase.model.Movie;
+import com.denizcan.moviedatabase.model.MovieGenre;
+import com.denizcan.moviedatabase.repository.MovieRepository;
+import com.denizcan.moviedatabase.search.MovieFullTextIndex;
+import com.denizcan.moviedatabase.service.impl.MovieCounter;
+import com.denizcan.moviedatabase.service.impl.MovieImportServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class MovieImportIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    private MovieFullTextIndex fullTextIndex;
+    private MovieCounter movieCounter;
+    private MovieImportServiceImpl importService;
+
+    @BeforeEach
+    void setUp() {
+        fullTextIndex = new MovieFullTextIndex();
+        movieCounter = new MovieCounter(new CaffeineCacheManager(CacheConfig.MOVIE_COUNTS), jdbcTemplate);
+        importService = new MovieImportServiceImpl(jdbcTemplate, transactionManager, new ObjectMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator(), List.of(fullTextIndex), movieCounter);
+    }
+
+    @Test
+    void testImportReportsLineErrorsAndInsertsValidLines() throws Exception {
+        // Given
+        String ndjson = String.join("\n",
+                "{\"title\":\"Bulk One\",\"year\":2001,\"imdbRating\":7.1,\"genres\":[\"DRAMA\",\"CRIME\"]}",
+                "",
+                "{\"title\":\"\",\"year\":2002,\"imdbRating\":6.0}",
+                "{bozuk json",
+                "{\"title\":\"Bulk Two\",\"year\":2003,\"imdbRating\":8.0,\"genres\":[\"NOT_A_GENRE\"]}",
+                "{\"title\":\"Bulk Three\",\"year\":2004,\"imdbRating\":5.5,\"synopsis\":\"Toplu eklenen film\"}");
+
+        // When
+        BulkImportResult result = importService.importNdjson(
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+
+        // Then
+        assertEquals(5, result.getProcessed());
+        assertEquals(2, result.getImported());
+        assertEquals(3, result.getFailed());
+        assertEquals(List.of(3L, 4L, 5L), result.getErrors().stream().map(BulkImportResult.LineError::getLine).toList());
+        assertTrue(result.getErrors().get(0).getMessage().startsWith("title: "));
+
+        List<Movie> movies = movieRepository.findAll();
+        assertEquals(Set.of("Bulk One", "Bulk Three"), movies.stream().map(Movie::getTitle).collect(Collectors.toSet()));
+        Movie first = movies.stream().filter(m -> m.getTitle().equals("Bulk One")).findFirst().orElseThrow();
+        assertEquals(Set.of(MovieGenre.DRAMA, MovieGenre.CRIME), first.getGenre());
+        assertEquals(List.of(first.getId()), fullTextIndex.search("bulk one", 1));
+    }
+
+    @Test
+    void testImportEvictsCachedCounts() throws Exception {
+        // Given: toplam cache'te
+        long before = movieCounter.cached("all", movieRepository::count);
+
+        // When
+        importService.importNdjson(new ByteArrayInputStream(
+                "{\"title\":\"Bulk Count\",\"year\":2001,\"imdbRating\":7.1}".getBytes(StandardCharsets.UTF_8)));
+
+        // Then: eski toplam dönmez
+        assertEquals(before + 1, movieCounter.cached("all", movieRepository::count));
+    }
+
+    @Test
+    void testImportedIdsDoNotCollideWithHibernateIds() throws Exception {
+        // Given: Hibernate ve içe aktarma aynı sequence'tan blok ayırır
+        Movie saved = new Movie();
+        saved.setTitle("Hibernate Movie");
+        saved.setYear(2010);
+        entityManager.persistAndFlush(saved);
+
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < 120; i++) {
+            ndjson.append("{\"title\":\"Bulk ").append(i).append("\",\"year\":2000,\"imdbRating\":5.0}\n");
+        }
+
+        // When
+        BulkImportResult result = importService.importNdjson(
+                new ByteArrayInputStream(ndjson.toString().getBytes(StandardCharsets.UTF_8)));
+        Movie later = new Movie();
+        later.setTitle("Hibernate Movie 2");
+        later.setYear(2011);
+        entityManager.persistAndFlush(later);
+
+        // Then
+        assertEquals(120, result.getImported());
+        List<Long> ids = movieRepository.findAll().stream().map(Movie::getId).toList();
+        assertEquals(122, ids.size());
+        assertEquals(122, Set.copyOf(ids).size());
+    }
+}
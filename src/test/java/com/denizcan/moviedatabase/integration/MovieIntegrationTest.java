@@ -1,13 +1,26 @@
 package com.denizcan.moviedatabase.integration;
 
+import com.denizcan.moviedatabase.dto.MovieFilter;
+import com.denizcan.moviedatabase.model.Actor;
+import com.denizcan.moviedatabase.model.Award;
+import com.denizcan.moviedatabase.model.AwardCategory;
+import com.denizcan.moviedatabase.model.AwardTitle;
+import com.denizcan.moviedatabase.model.Director;
 import com.denizcan.moviedatabase.model.Movie;
 import com.denizcan.moviedatabase.model.MovieGenre;
 import com.denizcan.moviedatabase.repository.MovieRepository;
+import com.denizcan.moviedatabase.repository.MovieSpecifications;
+import com.denizcan.moviedatabase.repository.MovieSummary;
+import org.hibernate.Session;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
@@ -144,6 +157,117 @@ class MovieIntegrationTest {
         assertTrue(foundMovie.get().getGenre().contains(MovieGenre.ROMANCE));
     }
 
+    @Test
+    void testGenreMaskFollowsGenres() {
+        // Given
+        Movie savedMovie = entityManager.persistAndFlush(testMovie);
+
+        // When
+        savedMovie.setGenre(new HashSet<>(Set.of(MovieGenre.HORROR)));
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then
+        Movie reloaded = entityManager.find(Movie.class, savedMovie.getId());
+        assertEquals(MovieGenre.HORROR.bit(), reloaded.getGenreMask());
+        assertEquals(Set.of(MovieGenre.HORROR), reloaded.getGenre());
+    }
+
+    @Test
+    void testFindByGenreMask() {
+        // Given
+        Movie actionDrama = entityManager.persist(testMovie);
+        Movie actionHorror = entityManager.persist(movie("Action Horror", 2020, 6.1, MovieGenre.ACTION, MovieGenre.HORROR));
+        Movie actionComedy = entityManager.persist(movie("Action Comedy", 2021, 8.2, MovieGenre.ACTION, MovieGenre.COMEDY));
+        entityManager.persist(movie("Drama", 2019, 8.9, MovieGenre.DRAMA));
+        entityManager.flush();
+        long action = MovieGenre.ACTION.bit();
+
+        // When
+        List<Movie> allAction = movieRepository.findByGenreMask(action, 0, 0,
+                PageRequest.of(0, 10, Sort.by("imdbRating").descending())).getContent();
+        Page<Movie> actionWithoutHorror = movieRepository.findByGenreMask(action, 0, MovieGenre.HORROR.bit(), PageRequest.of(0, 10));
+        List<Movie> actionDramaOrComedy = movieRepository.findByGenreMask(action,
+                MovieGenre.DRAMA.bit() | MovieGenre.COMEDY.bit(), 0, PageRequest.of(0, 10)).getContent();
+
+        // Then
+        assertEquals(List.of(actionComedy, actionDrama, actionHorror), allAction);
+        assertEquals(2, actionWithoutHorror.getTotalElements());
+        assertFalse(actionWithoutHorror.getContent().contains(actionHorror));
+        assertEquals(Set.of(actionDrama, actionComedy), new HashSet<>(actionDramaOrComedy));
+    }
+
+    @Test
+    void testFilterSpecificationAppliesOnlyGivenCriteria() {
+        // Given
+        Movie actionDrama = entityManager.persist(testMovie);
+        Movie actionComedy = movie("Action Comedy", 2021, 8.2, MovieGenre.ACTION, MovieGenre.COMEDY);
+        actionComedy.setDuration(95);
+        actionComedy.setBudget(new BigDecimal("50000000"));
+        entityManager.persist(actionComedy);
+        Movie drama = entityManager.persist(movie("100% Drama", 2019, 8.9, MovieGenre.DRAMA));
+        entityManager.flush();
+        PageRequest byId = PageRequest.of(0, 10, Sort.by("id"));
+
+        // When
+        Page<Movie> unfiltered = movieRepository.findAll(MovieSpecifications.matching(new MovieFilter()), byId);
+        MovieFilter actionFilter = new MovieFilter();
+        actionFilter.setGenres(Set.of(MovieGenre.ACTION));
+        actionFilter.setMinDuration(100);
+        MovieFilter budgetFilter = new MovieFilter();
+        budgetFilter.setMinBudget(new BigDecimal("2000000"));
+        budgetFilter.setMaxBudget(new BigDecimal("60000000"));
+
+        // Then
+        assertEquals(3, unfiltered.getTotalElements());
+        assertEquals(List.of(actionDrama), movieRepository.findAll(MovieSpecifications.matching(actionFilter), byId).getContent());
+        assertEquals(List.of(actionComedy), movieRepository.findAll(MovieSpecifications.matching(budgetFilter), byId).getContent());
+        // % ve _ LIKE joker karakteri olarak değil, metin olarak aranır
+        assertEquals(List.of(drama), movieRepository.findAll(MovieSpecifications.matching(MovieFilter.of("0% d", null, 8.0)), byId).getContent());
+        assertTrue(movieRepository.findAll(MovieSpecifications.matching(MovieFilter.of("_", null, null)), byId).isEmpty());
+    }
+
+    @Test
+    void testFilterSpecificationByRelations() {
+        // Given
+        Director director = new Director();
+        director.setName("Christopher Nolan");
+        entityManager.persist(director);
+        Actor actor = new Actor();
+        actor.setName("Michael Caine");
+        entityManager.persist(actor);
+        Award award = new Award();
+        award.setName(AwardTitle.OSCAR);
+        award.setYear(2011);
+        award.setCategory(AwardCategory.BEST_PICTURE);
+        entityManager.persist(award);
+
+        Movie inception = movie("Inception", 2010, 8.8, MovieGenre.SCIENCE_FICTION);
+        inception.setDirector(new HashSet<>(Set.of(director)));
+        inception.setCast(new HashSet<>(Set.of(actor)));
+        inception.setAwards(new HashSet<>(Set.of(award)));
+        entityManager.persist(inception);
+        Movie tenet = movie("Tenet", 2020, 7.3, MovieGenre.ACTION);
+        tenet.setDirector(new HashSet<>(Set.of(director)));
+        entityManager.persist(tenet);
+        entityManager.persist(movie("Other", 2020, 7.0, MovieGenre.ACTION));
+        entityManager.flush();
+        PageRequest byTitle = PageRequest.of(0, 10, Sort.by("title"));
+
+        // When
+        MovieFilter byDirector = new MovieFilter();
+        byDirector.setDirectorId(director.getId());
+        MovieFilter byActorAndAward = new MovieFilter();
+        byActorAndAward.setActorId(actor.getId());
+        byActorAndAward.setAwardId(award.getId());
+
+        // Then
+        assertEquals(List.of(inception, tenet), movieRepository.findAll(MovieSpecifications.matching(byDirector), byTitle).getContent());
+        assertEquals(List.of(inception), movieRepository.findAll(MovieSpecifications.matching(byActorAndAward), byTitle).getContent());
+        assertEquals(List.of(tenet), movieRepository.findAll(MovieSpecifications.matching(byDirector)
+                .and(MovieSpecifications.idAfter(inception.getId())), byTitle).getContent());
+    }
+
     @Test
     void testMovieSeriesInformation() {
         // Given
@@ -160,4 +284,72 @@ class MovieIntegrationTest {
         assertTrue(foundMovie.get().isPartOfSeries());
         assertEquals("Test Series", foundMovie.get().getSeriesName());
     }
-} 
\ No newline at end of file
+
+    @Test
+    void testTopRatedKeysetPagination() {
+        // Given: aynı puana sahip filmler id ile sıralanmalı
+        Movie first = persistMovie("Keyset A", 2001, 9.0);
+        Movie second = persistMovie("Keyset B", 2002, 8.0);
+        Movie third = persistMovie("Keyset C", 2003, 8.0);
+
+        // When
+        List<Movie> page1 = movieRepository.findTopRatedMoviesAfter(Double.MAX_VALUE, 0L, Limit.of(2));
+        Movie last = page1.get(1);
+        List<Movie> page2 = movieRepository.findTopRatedMoviesAfter(last.getImdbRating(), last.getId(), Limit.of(2));
+
+        // Then
+        assertEquals(List.of(first.getId(), second.getId()), page1.stream().map(Movie::getId).toList());
+        assertEquals(List.of(third.getId()), page2.stream().map(Movie::getId).toList());
+    }
+
+    @Test
+    void testLatestKeysetPagination() {
+        // Given
+        Movie older = persistMovie("Keyset Old", 1990, 7.0);
+        Movie newer = persistMovie("Keyset New", 2020, 7.0);
+
+        // When
+        List<Movie> page1 = movieRepository.findLatestMoviesAfter(Integer.MAX_VALUE, 0L, Limit.of(1));
+        List<Movie> page2 = movieRepository.findLatestMoviesAfter(newer.getYear(), newer.getId(), Limit.of(1));
+
+        // Then
+        assertEquals(newer.getId(), page1.get(0).getId());
+        assertEquals(older.getId(), page2.get(0).getId());
+    }
+
+    @Test
+    void testTopRatedSummaryProjection() {
+        // Given
+        Movie lower = persistMovie("Summary Low", 2005, 6.0);
+        Movie higher = persistMovie("Summary High", 2006, 9.5);
+        entityManager.clear();
+
+        // When
+        Page<MovieSummary> page = movieRepository.findTopRatedSummaries(PageRequest.of(0, 10));
+
+        // Then: projeksiyonlar doğrudan dolar, persistence context'e entity eklenmez
+        assertEquals(2, page.getTotalElements());
+        assertEquals(List.of(higher.getId(), lower.getId()),
+                page.getContent().stream().map(MovieSummary::getId).toList());
+        assertEquals("Summary High", page.getContent().get(0).getTitle());
+        assertEquals(9.5, page.getContent().get(0).getImdbRating());
+        assertEquals(0, entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount());
+    }
+
+    private Movie persistMovie(String title, int year, double rating) {
+        Movie movie = new Movie();
+        movie.setTitle(title);
+        movie.setYear(year);
+        movie.setImdbRating(rating);
+        return entityManager.persistAndFlush(movie);
+    }
+
+    private static Movie movie(String title, int year, double rating, MovieGenre... genres) {
+        Movie movie = new Movie();
+        movie.setTitle(title);
+        movie.setYear(year);
+        movie.setImdbRating(rating);
+        movie.setGenre(new HashSet<>(Set.of(genres)));
+        return movie;
+    }
+}
@@ -0,0 +1,313 @@
+package com.denizcan.moviedatabase.integration;
+
+import com.denizcan.moviedatabase.config.CacheConfig;
+import com.denizcan.moviedatabase.dto.MovieDTO;
+import com.denizcan.moviedatabase.dto.MovieFilter;
+import com.denizcan.moviedatabase.dto.MoviePatchDTO;
+import com.denizcan.moviedatabase.exception.ResourceNotFoundException;
+import com.denizcan.moviedatabase.mapper.MovieMapper;
+import com.denizcan.moviedatabase.model.Actor;
+import com.denizcan.moviedatabase.model.Movie;
+import com.denizcan.moviedatabase.model.MovieGenre;
+import com.denizcan.moviedatabase.repository.MovieRepository;
+import com.denizcan.moviedatabase.search.MovieFacetIndex;
+import com.denizcan.moviedatabase.search.MovieFullTextIndex;
+import com.denizcan.moviedatabase.search.MovieLeaderboard;
+import com.denizcan.moviedatabase.search.MovieTitleTrie;
+import com.denizcan.moviedatabase.search.MovieTrigramIndex;
+import com.denizcan.moviedatabase.service.CountMode;
+import com.denizcan.moviedatabase.service.MovieService;
+import com.denizcan.moviedatabase.service.impl.MovieCounter;
+import com.denizcan.moviedatabase.service.impl.MovieServiceImpl;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Liste sorgularının + MovieMapper.toDTO'nun sonuç sayısından bağımsız, sabit sayıda SQL çalıştırdığını doğrular
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({MovieServiceImpl.class, MovieFullTextIndex.class, MovieTrigramIndex.class, MovieTitleTrie.class,
+        MovieLeaderboard.class, MovieFacetIndex.class, MovieCounter.class, CacheConfig.class})
+class MovieQueryCountTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private MovieService movieService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void testFindAll_ConstantStatementCount() {
+        assertEquals(1, countStatements(5, () -> movieRepository.findAll()));
+        assertEquals(1, countStatements(50, () -> movieRepository.findAll()));
+    }
+
+    @Test
+    void testFindByYear_ConstantStatementCount() {
+        assertEquals(1, countStatements(5, () -> movieRepository.findByYear(2000)));
+        assertEquals(1, countStatements(50, () -> movieRepository.findByYear(2000)));
+    }
+
+    @Test
+    void testFindByGenre_ConstantStatementCount() {
+        assertEquals(1, countStatements(5, () -> movieRepository.findByGenre(MovieGenre.DRAMA)));
+        assertEquals(1, countStatements(50, () -> movieRepository.findByGenre(MovieGenre.DRAMA)));
+    }
+
+    @Test
+    void testPagedQuery_UsesBatchFetch() {
+        // Sayfa sorgusu + COUNT + türler için tek toplu SELECT
+        Supplier<List<Movie>> topRated = () -> movieRepository
+                .findTopRatedMovies(PageRequest.of(0, 40, Sort.by("imdbRating").descending()))
+                .getContent();
+        assertEquals(3, countStatements(45, topRated));
+        assertEquals(3, countStatements(90, topRated));
+    }
+
+    @Test
+    void testSliceMode_SkipsCountQuery() {
+        // Sayfa sorgusu (size + 1) + türler için tek toplu SELECT; COUNT çalışmaz
+        PageRequest pageable = PageRequest.of(0, 40, MovieFilter.sort("imdbRating", "desc"));
+        assertEquals(2, countStatements(90,
+                () -> movieService.findMoviesWithFilters(MovieFilter.of(null, 2000, null), pageable, CountMode.NONE).getContent()));
+        assertEquals(2, countStatements(90,
+                () -> movieService.findTopRatedMovies(null, pageable, CountMode.NONE).getContent()));
+        assertEquals(3, countStatements(90,
+                () -> movieService.findMoviesWithFilters(MovieFilter.of(null, 2000, null), pageable, CountMode.EXACT).getContent()));
+    }
+
+    @Test
+    void testKeysetQuery_UsesBatchFetch() {
+        assertEquals(2, countStatements(5, () -> movieRepository.findAllAfter(0L, Limit.of(40))));
+        assertEquals(2, countStatements(50, () -> movieRepository.findAllAfter(0L, Limit.of(40))));
+    }
+
+    @Test
+    void testStreamAll_ClearsContextPerChunk() {
+        // Given
+        prepareMovies(250);
+        Session session = entityManager.getEntityManager().unwrap(Session.class);
+        List<Integer> contextSizes = new ArrayList<>();
+        statistics.clear();
+
+        // When
+        movieService.streamAll(chunk -> {
+            chunk.forEach(MovieMapper::toDTO);
+            contextSizes.add(session.getStatistics().getEntityCount());
+        });
+
+        // Then: akış sorgusu + her parça için tek tür SELECT'i; context parça boyutunu aşmaz
+        assertEquals(4, statistics.getPrepareStatementCount());
+        assertEquals(List.of(100, 100, 50), contextSizes);
+        assertEquals(0, session.getStatistics().getEntityCount());
+    }
+
+    @Test
+    void testPatch_SingleUpdateStatement() {
+        // Given
+        Movie movie = savedMovie();
+        MoviePatchDTO patch = new MoviePatchDTO();
+        patch.setVersion(0L);
+        patch.setImageUrl("https://example.com/yeni.jpg");
+        patch.setBoxOffice(new BigDecimal("6000000"));
+        statistics.clear();
+
+        // When
+        long version = movieService.patch(movie.getId(), patch);
+
+        // Then: indekslenmeyen alanlar için önce / sonra okuma yok, yalnızca UPDATE; gönderilmeyen alanlar korunur
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(1, version);
+        entityManager.clear();
+        Movie updated = entityManager.find(Movie.class, movie.getId());
+        assertEquals("https://example.com/yeni.jpg", updated.getImageUrl());
+        assertEquals(0, new BigDecimal("6000000").compareTo(updated.getBoxOffice()));
+        assertEquals(0, new BigDecimal("1000000").compareTo(updated.getBudget()));
+        assertEquals("Film", updated.getTitle());
+        assertEquals(1, updated.getVersion());
+    }
+
+    @Test
+    void testPatch_DurationRefreshesFacetCounts() {
+        // Given
+        Movie movie = new Movie();
+        movie.setTitle("Uzun Film");
+        movie.setYear(2000);
+        movie.setImdbRating(7.0);
+        movie.setDuration(100);
+        movie.setGenre(new HashSet<>(Set.of(MovieGenre.DRAMA)));
+        Movie saved = movieService.save(movie);
+        entityManager.flush();
+        entityManager.clear();
+        MovieFilter longMovies = MovieFilter.of("Uzun Film", null, null);
+        longMovies.setMinDuration(150);
+        long before = movieService.countFacets(longMovies).getTotal();
+        MoviePatchDTO patch = new MoviePatchDTO();
+        patch.setVersion(saved.getVersion());
+        patch.setDuration(180);
+
+        // When
+        movieService.patch(saved.getId(), patch);
+
+        // Then: yalnızca süre değişse de facet indeksi yenilenir
+        assertEquals(0, before);
+        assertEquals(1, movieService.countFacets(longMovies).getTotal());
+    }
+
+    @Test
+    void testPatch_RejectsStaleVersionAndMissingMovie() {
+        // Given
+        Movie movie = savedMovie();
+        MoviePatchDTO first = new MoviePatchDTO();
+        first.setVersion(0L);
+        first.setTitle("İlk düzenleme");
+        movieService.patch(movie.getId(), first);
+        MoviePatchDTO stale = new MoviePatchDTO();
+        stale.setVersion(0L);
+        stale.setTitle("Eski sürümden düzenleme");
+
+        // When & Then
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> movieService.patch(movie.getId(), stale));
+        assertThrows(ResourceNotFoundException.class, () -> movieService.patch(Long.MAX_VALUE, stale));
+        entityManager.clear();
+        assertEquals("İlk düzenleme", entityManager.find(Movie.class, movie.getId()).getTitle());
+    }
+
+    @Test
+    void testDeleteById_SingleStatement() {
+        // Given
+        Actor actor = new Actor();
+        actor.setName("Oyuncu");
+        entityManager.persist(actor);
+        Movie movie = savedMovie();
+        movie.setCast(new HashSet<>(Set.of(actor)));
+        entityManager.flush();
+        entityManager.clear();
+        // Oyuncunun film koleksiyonu 2. seviye cache'e alınır
+        assertEquals(1, entityManager.find(Actor.class, actor.getId()).getMovies().size());
+        entityManager.clear();
+        statistics.clear();
+
+        // When
+        movieService.deleteById(movie.getId());
+
+        // Then: türler ve oyuncu ilişkisi ON DELETE CASCADE ile silinir, cache'teki koleksiyon temizlenir
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, countRows("movie_genres", movie.getId()));
+        assertEquals(0, countRows("movie_actor", movie.getId()));
+        assertNull(entityManager.find(Movie.class, movie.getId()));
+        assertTrue(entityManager.find(Actor.class, actor.getId()).getMovies().isEmpty());
+        assertThrows(ResourceNotFoundException.class, () -> movieService.deleteById(movie.getId()));
+    }
+
+    @Test
+    void testCountFacets_RelationFilterReadsOnlyIds() {
+        // Given: iki film indekste, yalnızca biri oyuncuya bağlı
+        Actor actor = new Actor();
+        actor.setName("Oyuncu");
+        entityManager.persist(actor);
+        for (int i = 0; i < 2; i++) {
+            Movie movie = new Movie();
+            movie.setTitle("Film " + i);
+            movie.setYear(2000);
+            movie.setImdbRating(7.0);
+            movie.setGenre(new HashSet<>(Set.of(MovieGenre.DRAMA, MovieGenre.values()[1 + i])));
+            movie.setCast(i == 0 ? new HashSet<>(Set.of(actor)) : new HashSet<>());
+            movieService.save(movie);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        MovieFilter filter = MovieFilter.of(null, 2000, null);
+        filter.setActorId(actor.getId());
+        statistics.clear();
+
+        // When
+        MovieFacetIndex.Facets facets = movieService.countFacets(filter);
+
+        // Then: eşleşen id'ler tek sorguyla okunur, sayılar indeksten gelir
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(1, facets.getTotal());
+        assertEquals(1L, facets.getGenres().get(MovieGenre.values()[1]));
+        assertNull(facets.getGenres().get(MovieGenre.values()[2]));
+    }
+
+    private Movie savedMovie() {
+        Movie movie = new Movie();
+        movie.setTitle("Film");
+        movie.setYear(2000);
+        movie.setImdbRating(7.0);
+        movie.setBudget(new BigDecimal("1000000"));
+        movie.setBoxOffice(new BigDecimal("5000000"));
+        movie.setGenre(Set.of(MovieGenre.DRAMA, MovieGenre.CRIME));
+        return entityManager.persistAndFlush(movie);
+    }
+
+    private long countRows(String table, Long movieId) {
+        return ((Number) entityManager.getEntityManager()
+                .createNativeQuery("SELECT COUNT(*) FROM " + table + " WHERE movie_id = ?1")
+                .setParameter(1, movieId)
+                .getSingleResult()).longValue();
+    }
+
+    // Toplam movieCount filmi (her biri iki türlü) hazırlar ve sorgu + DTO dönüşümünde çalışan SQL sayısını döner
+    private long countStatements(int movieCount, Supplier<List<Movie>> query) {
+        prepareMovies(movieCount);
+
+        statistics.clear();
+        List<MovieDTO> dtos = query.get().stream()
+                .map(MovieMapper::toDTO)
+                .collect(Collectors.toList());
+        assertFalse(dtos.isEmpty());
+        assertTrue(dtos.stream().allMatch(dto -> dto.getGenres().contains("DRAMA")));
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void prepareMovies(int movieCount) {
+        int existing = (int) movieRepository.count();
+        for (int i = existing; i < movieCount; i++) {
+            Movie movie = new Movie();
+            movie.setTitle("Film " + i);
+            movie.setYear(2000);
+            movie.setImdbRating(5.0 + (i % 50) / 10.0);
+            movie.setGenre(Set.of(MovieGenre.DRAMA, MovieGenre.values()[1 + i % 10]));
+            entityManager.persist(movie);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
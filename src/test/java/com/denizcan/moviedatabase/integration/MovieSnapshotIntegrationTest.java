@@ -0,0 +1,169 @@
+package com.denizcan.moviedatabase.integration;
+
+import com.denizcan.moviedatabase.dto.CursorPage;
+import com.denizcan.moviedatabase.dto.MovieFilter;
+import com.denizcan.moviedatabase.dto.SnapshotInfo;
+import com.denizcan.moviedatabase.exception.ReadOnlyStoreException;
+import com.denizcan.moviedatabase.model.Director;
+import com.denizcan.moviedatabase.model.Movie;
+import com.denizcan.moviedatabase.model.MovieGenre;
+import com.denizcan.moviedatabase.repository.MovieRepository;
+import com.denizcan.moviedatabase.repository.MovieSpecifications;
+import com.denizcan.moviedatabase.search.MovieFacetIndex;
+import com.denizcan.moviedatabase.search.MovieFullTextIndex;
+import com.denizcan.moviedatabase.search.MovieTitleTrie;
+import com.denizcan.moviedatabase.search.MovieTrigramIndex;
+import com.denizcan.moviedatabase.service.impl.SnapshotMovieServiceImpl;
+import com.denizcan.moviedatabase.snapshot.MovieSnapshot;
+import com.denizcan.moviedatabase.snapshot.MovieSnapshotWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class MovieSnapshotIntegrationTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @TempDir
+    Path tempDir;
+
+    private Movie inception;
+    private Director nolan;
+
+    @BeforeEach
+    void setUp() {
+        nolan = new Director();
+        nolan.setName("Christopher Nolan");
+        entityManager.persist(nolan);
+
+        inception = movie("Inception", 2010, 8.8, Set.of(MovieGenre.SCIENCE_FICTION, MovieGenre.ACTION));
+        inception.setSynopsis("Rüya içinde rüya");
+        inception.setBudget(new BigDecimal("160000000.50"));
+        inception.setDuration(148);
+        inception.setDirector(new HashSet<>(Set.of(nolan)));
+        entityManager.persist(inception);
+
+        entityManager.persist(movie("Memento", 2000, 8.4, Set.of(MovieGenre.THRILLER)));
+        entityManager.persist(movie("Tenet", 2020, 7.3, Set.of(MovieGenre.ACTION)));
+        entityManager.persist(movie("Following", null, 7.5, Set.of()));
+        entityManager.persist(movie("Insomnia", 2002, 7.3, Set.of(MovieGenre.CRIME)));
+        entityManager.flush();
+    }
+
+    @Test
+    void testSnapshotRoundTrip() throws Exception {
+        // Given
+        Path file = tempDir.resolve("movies.snapshot");
+
+        // When
+        SnapshotInfo info = new MovieSnapshotWriter(jdbcTemplate).write(file);
+        MovieSnapshot snapshot = MovieSnapshot.open(file);
+
+        // Then
+        assertEquals(5, info.getMovieCount());
+        assertEquals(Files.size(file), info.getSizeBytes());
+        assertEquals(5, snapshot.size());
+
+        int row = snapshot.rowOf(inception.getId());
+        assertTrue(row >= 0);
+        Movie restored = snapshot.movieAt(row);
+        assertEquals("Inception", restored.getTitle());
+        assertEquals("Rüya içinde rüya", restored.getSynopsis());
+        assertEquals(new BigDecimal("160000000.50"), restored.getBudget());
+        assertNull(restored.getBoxOffice());
+        assertEquals(148, restored.getDuration());
+        assertEquals(Set.of(MovieGenre.SCIENCE_FICTION, MovieGenre.ACTION), restored.getGenre());
+        assertArrayEquals(new long[] {nolan.getId()}, snapshot.directorIdsAt(row));
+        assertEquals(0, snapshot.castIdsAt(row).length);
+        assertTrue(snapshot.rowOf(Long.MAX_VALUE) < 0);
+    }
+
+    @Test
+    void testSnapshotServiceMatchesDatabaseQueries() throws Exception {
+        // Given
+        Path file = tempDir.resolve("movies.snapshot");
+        new MovieSnapshotWriter(jdbcTemplate).write(file);
+        SnapshotMovieServiceImpl service = new SnapshotMovieServiceImpl(file,
+                new MovieFullTextIndex(), new MovieTrigramIndex(), new MovieTitleTrie(), new MovieFacetIndex());
+
+        // When
+        List<String> topRated = titles(service.findTopRatedMovies(PageRequest.of(0, 5)).getContent());
+        List<String> latest = titles(service.findLatestMovies(PageRequest.of(0, 5)).getContent());
+        List<Movie> cursorPages = new ArrayList<>();
+        String after = null;
+        do {
+            CursorPage<Movie> page = service.findLatestMovies(after, 2);
+            cursorPages.addAll(page.getContent());
+            after = page.getNextCursor();
+        } while (after != null);
+
+        // Then
+        // Eşit puanlarda snapshot sırası keyset sorgusundaki gibi id artandır
+        assertEquals(titles(movieRepository.findTopRatedMoviesAfter(Double.MAX_VALUE, 0L, Limit.of(5))), topRated);
+        assertEquals(titles(movieRepository.findLatestMovies(PageRequest.of(0, 5)).getContent()), latest);
+        assertEquals(titles(movieRepository.findLatestMoviesAfter(Integer.MAX_VALUE, 0L, Limit.of(10))),
+                titles(cursorPages));
+        assertEquals(List.of("Inception", "Tenet"), titles(service.findByGenre(MovieGenre.ACTION)));
+        assertEquals(List.of("Inception", "Insomnia"), titles(service.findByYearRange(2001, 2015)));
+        PageRequest byTitle = PageRequest.of(0, 5, Sort.by("title"));
+        assertEquals(titles(movieRepository.findByGenreMask(MovieGenre.ACTION.bit(), 0, MovieGenre.THRILLER.bit(), byTitle).getContent()),
+                titles(service.findByGenres(Set.of(MovieGenre.ACTION), null, Set.of(MovieGenre.THRILLER), byTitle).getContent()));
+        MovieFilter filter = MovieFilter.of("in", null, 7.0);
+        filter.setDirectorId(nolan.getId());
+        filter.setMinDuration(120);
+        filter.setMinBudget(new BigDecimal("100000000"));
+        assertEquals(List.of("Inception"), titles(service.findMoviesWithFilters(filter, byTitle).getContent()));
+        MovieFilter ranged = MovieFilter.of("in", null, 7.0);
+        assertEquals(titles(movieRepository.findAll(MovieSpecifications.matching(ranged), byTitle).getContent()),
+                titles(service.findMoviesWithFilters(ranged, byTitle).getContent()));
+        // Satır numaraları sütunlardan sıralanır; yalnızca ikinci sayfa okunur
+        PageRequest secondByYear = PageRequest.of(1, 2, MovieFilter.sort("year", "desc"));
+        Page<Movie> dbPage = movieRepository.findAll(MovieSpecifications.matching(new MovieFilter()), secondByYear);
+        Page<Movie> snapshotPage = service.findMoviesWithFilters(new MovieFilter(), secondByYear);
+        assertEquals(titles(dbPage.getContent()), titles(snapshotPage.getContent()));
+        assertEquals(dbPage.getTotalElements(), snapshotPage.getTotalElements());
+        assertThrows(ReadOnlyStoreException.class, () -> service.save(new Movie()));
+        assertThrows(ReadOnlyStoreException.class, () -> service.deleteById(inception.getId()));
+    }
+
+    private static Movie movie(String title, Integer year, double rating, Set<MovieGenre> genres) {
+        Movie movie = new Movie();
+        movie.setTitle(title);
+        movie.setYear(year);
+        movie.setImdbRating(rating);
+        movie.setGenre(new HashSet<>(genres));
+        return movie;
+    }
+
+    private static List<String> titles(List<Movie> movies) {
+        return movies.stream().map(Movie::getTitle).toList();
+    }
+}
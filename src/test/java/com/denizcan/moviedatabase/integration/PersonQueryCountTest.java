@@ -0,0 +1,122 @@
+package com.denizcan.moviedatabase.integration;
+
+import com.denizcan.moviedatabase.mapper.ActorMapper;
+import com.denizcan.moviedatabase.mapper.DirectorMapper;
+import com.denizcan.moviedatabase.model.Actor;
+import com.denizcan.moviedatabase.model.Award;
+import com.denizcan.moviedatabase.model.AwardCategory;
+import com.denizcan.moviedatabase.model.AwardTitle;
+import com.denizcan.moviedatabase.model.Director;
+import com.denizcan.moviedatabase.repository.ActorRepository;
+import com.denizcan.moviedatabase.repository.DirectorRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Oyuncu ve yönetmen listelerinin (ödüllerle birlikte) kişi sayısından bağımsız sayıda SQL çalıştırdığını doğrular
+@DataJpaTest
+@ActiveProfiles("test")
+class PersonQueryCountTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ActorRepository actorRepository;
+
+    @Autowired
+    private DirectorRepository directorRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Set<Award> awards;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        awards = Set.of(
+                entityManager.persist(award(AwardTitle.OSCAR, AwardCategory.BEST_ACTOR)),
+                entityManager.persist(award(AwardTitle.BAFTA, AwardCategory.BEST_DIRECTOR)));
+    }
+
+    @Test
+    void testFindAllActors_ConstantStatementCount() {
+        assertEquals(1, countActorListStatements(20));
+        assertEquals(1, countActorListStatements(300));
+    }
+
+    @Test
+    void testFindAllDirectors_ConstantStatementCount() {
+        assertEquals(1, countDirectorListStatements(20));
+        assertEquals(1, countDirectorListStatements(300));
+    }
+
+    @Test
+    void testFindAllById_UsesBatchFetch() {
+        // Entity graph olmayan yollarda ödüller 100'lük IN gruplarıyla yüklenir: 1 + ceil(250 / 100)
+        countActorListStatements(250);
+        List<Long> ids = actorRepository.findAll().stream().map(Actor::getId).collect(Collectors.toList());
+        entityManager.clear();
+        statistics.clear();
+
+        actorRepository.findAllById(ids).forEach(ActorMapper::toDTO);
+
+        assertEquals(4, statistics.getPrepareStatementCount());
+    }
+
+    private long countActorListStatements(int count) {
+        return countStatements(count, i -> {
+            Actor actor = new Actor();
+            actor.setName("Oyuncu " + i);
+            actor.setAwards(awards);
+            return actor;
+        }, () -> actorRepository.findAll().stream().map(ActorMapper::toDTO).collect(Collectors.toList()));
+    }
+
+    private long countDirectorListStatements(int count) {
+        return countStatements(count, i -> {
+            Director director = new Director();
+            director.setName("Yönetmen " + i);
+            director.setAwards(awards);
+            return director;
+        }, () -> directorRepository.findAll().stream().map(DirectorMapper::toDTO).collect(Collectors.toList()));
+    }
+
+    // count kişiyi (her biri iki ödüllü) kaydeder, liste + DTO dönüşümünde çalışan SQL sayısını döner
+    private long countStatements(int count, Function<Integer, Object> factory, Supplier<List<?>> listing) {
+        for (int i = 0; i < count; i++) {
+            entityManager.persist(factory.apply(i));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics.clear();
+        List<?> dtos = listing.get();
+        assertTrue(dtos.size() >= count);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private static Award award(AwardTitle title, AwardCategory category) {
+        Award award = new Award();
+        award.setName(title);
+        award.setCategory(category);
+        award.setYear(2010);
+        return award;
+    }
+}
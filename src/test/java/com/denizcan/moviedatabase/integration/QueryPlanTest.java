@@ -0,0 +1,360 @@
+package com.denizcan.moviedatabase.integration;
+
+import com.denizcan.moviedatabase.dto.MovieFilter;
+import com.denizcan.moviedatabase.model.Actor;
+import com.denizcan.moviedatabase.model.Award;
+import com.denizcan.moviedatabase.model.Director;
+import com.denizcan.moviedatabase.model.Movie;
+import com.denizcan.moviedatabase.model.MovieGenre;
+import com.denizcan.moviedatabase.repository.ActorRepository;
+import com.denizcan.moviedatabase.repository.DirectorRepository;
+import com.denizcan.moviedatabase.repository.MovieRepository;
+import com.denizcan.moviedatabase.repository.MovieSpecifications;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Repository sorgularının büyük bir sentetik veri setinde H2 EXPLAIN planlarını kontrol eder:
+// çalışan her SELECT aynı parametrelerle EXPLAIN edilir, plan tablo taramasına (tableScan) düşerse test kırılır.
+// ANALYZE transaction'ı commit ettiği için veri sınıf başında bir kez commit edilir ve sonda silinir.
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(QueryPlanTest.PlanCaptureConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanTest {
+
+    private static final int MOVIE_COUNT = 10_000;
+    private static final int CAST_SIZE = 2;
+    private static final int ACTOR_COUNT = 2_000;
+    private static final int DIRECTOR_COUNT = 500;
+    private static final int AWARD_COUNT = 200;
+
+    private static final Pattern FULL_INDEX_SCAN = Pattern.compile("/\\* PUBLIC\\.\\w+ \\*/");
+
+    private static final List<String> plans = new ArrayList<>();
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private ActorRepository actorRepository;
+
+    @Autowired
+    private DirectorRepository directorRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeAll
+    void loadDataset() {
+        Random random = new Random(42);
+        MovieGenre[] genres = MovieGenre.values();
+        List<Object[]> movies = new ArrayList<>();
+        List<Object[]> movieGenres = new ArrayList<>();
+        List<Object[]> movieActors = new ArrayList<>();
+        List<Object[]> movieDirectors = new ArrayList<>();
+        List<Object[]> movieAwards = new ArrayList<>();
+        for (long id = 1; id <= MOVIE_COUNT; id++) {
+            boolean series = id % 20 == 0;
+            MovieGenre first = genres[random.nextInt(genres.length)];
+            MovieGenre second = genres[(first.ordinal() + 1 + random.nextInt(genres.length - 1)) % genres.length];
+            movies.add(new Object[] {id, "Film " + id, 1920 + random.nextInt(105), (10 + random.nextInt(91)) / 10.0,
+                    series, series ? "Seri " + (id % 400) : null, first.bit() | second.bit()});
+            movieGenres.add(new Object[] {id, first.name()});
+            movieGenres.add(new Object[] {id, second.name()});
+            for (long actorId : distinct(random, CAST_SIZE, ACTOR_COUNT)) {
+                movieActors.add(new Object[] {id, actorId});
+            }
+            movieDirectors.add(new Object[] {id, 1L + random.nextInt(DIRECTOR_COUNT)});
+            if (id % 100 == 0) {
+                movieAwards.add(new Object[] {id, 1L + random.nextInt(AWARD_COUNT)});
+            }
+        }
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate("INSERT INTO award (id, name, award_year, category) VALUES (?, 'OSCAR', ?, 'BEST_PICTURE')",
+                    IntStream.rangeClosed(1, AWARD_COUNT).mapToObj(i -> new Object[] {i, 1930 + i % 95}).toList());
+            jdbcTemplate.batchUpdate("INSERT INTO actor (id, name) VALUES (?, ?)",
+                    IntStream.rangeClosed(1, ACTOR_COUNT).mapToObj(i -> new Object[] {i, "Oyuncu " + i}).toList());
+            jdbcTemplate.batchUpdate("INSERT INTO director (id, name) VALUES (?, ?)",
+                    IntStream.rangeClosed(1, DIRECTOR_COUNT).mapToObj(i -> new Object[] {i, "Yönetmen " + i}).toList());
+            jdbcTemplate.batchUpdate("INSERT INTO movie (id, title, release_year, imdb_rating, part_of_series, series_name, " +
+                    "genre_mask) VALUES (?, ?, ?, ?, ?, ?, ?)", movies);
+            jdbcTemplate.batchUpdate("INSERT INTO movie_genres (movie_id, genre) VALUES (?, ?)", movieGenres);
+            jdbcTemplate.batchUpdate("INSERT INTO movie_actor (movie_id, actor_id) VALUES (?, ?)", movieActors);
+            jdbcTemplate.batchUpdate("INSERT INTO movie_director (movie_id, director_id) VALUES (?, ?)", movieDirectors);
+            jdbcTemplate.batchUpdate("INSERT INTO movie_award (movie_id, award_id) VALUES (?, ?)", movieAwards);
+            jdbcTemplate.batchUpdate("INSERT INTO actor_award (actor_id, award_id) VALUES (?, ?)",
+                    IntStream.rangeClosed(1, ACTOR_COUNT / 10).mapToObj(i -> new Object[] {i * 10, 1 + i % AWARD_COUNT}).toList());
+            jdbcTemplate.batchUpdate("INSERT INTO director_award (director_id, award_id) VALUES (?, ?)",
+                    IntStream.rangeClosed(1, DIRECTOR_COUNT / 10).mapToObj(i -> new Object[] {i * 10, 1 + i % AWARD_COUNT}).toList());
+        });
+        // Seçicilik istatistikleri olmadan H2 maliyet tahmini veri dağılımını bilmez
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @AfterAll
+    void deleteDataset() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            for (String table : List.of("director_award", "actor_award", "movie_award", "movie_director", "movie_actor",
+                    "movie_genres", "movie", "director", "actor", "award")) {
+                jdbcTemplate.update("DELETE FROM " + table);
+            }
+        });
+    }
+
+    @Test
+    void testMovieFindersUseIndexes() {
+        assertIndexed("findByYear", () -> movieRepository.findByYear(2001));
+        assertIndexed("findByYearBetween", () -> movieRepository.findByYearBetween(2000, 2002));
+        assertIndexed("findByImdbRatingGreaterThanEqual", () -> movieRepository.findByImdbRatingGreaterThanEqual(9.8));
+        assertIndexed("findBySeriesName", () -> movieRepository.findBySeriesName("Seri 7"));
+        assertIndexed("findByGenre", () -> movieRepository.findByGenre(MovieGenre.WESTERN));
+        assertIndexed("findAllById", () -> movieRepository.findAllById(List.of(1L, 2L, 3L)));
+    }
+
+    @Test
+    void testGenreMaskQueryScansOnlyMaskIndex() {
+        // Bit koşulları aralık araması yapamaz; maske tablo yerine dar (genre_mask, id) indeksinden okunur
+        long all = MovieGenre.ACTION.bit();
+        long any = MovieGenre.DRAMA.bit() | MovieGenre.THRILLER.bit();
+        long none = MovieGenre.HORROR.bit();
+        assertPlans("findByGenreMask",
+                () -> movieRepository.findByGenreMask(all, any, none, PageRequest.of(0, 20)).getContent(),
+                plan -> !plan.contains(".tableScan") && plan.contains("IDX_MOVIE_GENRE_MASK"));
+    }
+
+    @Test
+    void testSortedListsReadInIndexOrder() {
+        assertIndexed("findTopRatedMovies", () -> movieRepository.findTopRatedMovies(PageRequest.of(0, 20)).getContent());
+        assertIndexed("findLatestMovies", () -> movieRepository.findLatestMovies(PageRequest.of(0, 20)).getContent());
+        assertIndexed("findTopRatedSummaries", () -> movieRepository.findTopRatedSummaries(PageRequest.of(0, 20)).getContent());
+        assertIndexed("findLatestSummaries", () -> movieRepository.findLatestSummaries(PageRequest.of(0, 20)).getContent());
+        assertIndexed("findAllSummaries", () -> movieRepository.findAllSummaries(PageRequest.of(0, 20)).getContent());
+        assertIndexed("findTopRatedMoviesByGenre",
+                () -> movieRepository.findTopRatedMoviesByGenre(MovieGenre.WESTERN, PageRequest.of(0, 20)).getContent());
+        assertIndexed("findLatestMoviesByGenre",
+                () -> movieRepository.findLatestMoviesByGenre(MovieGenre.WESTERN, PageRequest.of(0, 20)).getContent());
+        assertIndexed("findTopRatedMovieSlice", () -> movieRepository.findTopRatedMovieSlice(PageRequest.of(0, 20)).getContent());
+        assertIndexed("findLatestMovieSlice", () -> movieRepository.findLatestMovieSlice(PageRequest.of(0, 20)).getContent());
+        assertIndexed("findTopRatedMovieSliceByGenre",
+                () -> movieRepository.findTopRatedMovieSliceByGenre(MovieGenre.WESTERN, PageRequest.of(0, 20)).getContent());
+        assertIndexed("findLatestMovieSliceByGenre",
+                () -> movieRepository.findLatestMovieSliceByGenre(MovieGenre.WESTERN, PageRequest.of(0, 20)).getContent());
+    }
+
+    @Test
+    void testFilterSpecificationsUseIndexes() {
+        // Yalnızca verilen koşullar WHERE'e girdiği için her kombinasyon kendi indeksini kullanır
+        // (başlıkta "içerir" araması indekslenemez, burada denenmez)
+        assertIndexed("filter: year", () -> filter(MovieFilter.of(null, 2001, null), "title"));
+        assertIndexed("filter: minRating", () -> filter(MovieFilter.of(null, null, 9.8), "imdbRating"));
+        assertIndexed("filter: none", () -> filter(new MovieFilter(), "year"));
+        MovieFilter byDirector = new MovieFilter();
+        byDirector.setDirectorId(7L);
+        assertIndexed("filter: director", () -> filter(byDirector, "title"));
+        MovieFilter byActorAndYear = MovieFilter.of(null, 2001, null);
+        byActorAndYear.setActorId(7L);
+        assertIndexed("filter: actor + year", () -> filter(byActorAndYear, "imdbRating"));
+        MovieFilter byAwardAndGenres = new MovieFilter();
+        byAwardAndGenres.setAwardId(7L);
+        byAwardAndGenres.setGenres(Set.of(MovieGenre.DRAMA));
+        assertIndexed("filter: award + genres", () -> filter(byAwardAndGenres, "year"));
+        assertIndexed("filter: year (cursor)", () -> movieRepository.findBy(
+                MovieSpecifications.matching(MovieFilter.of(null, 2001, null)).and(MovieSpecifications.idAfter(100L)),
+                query -> query.sortBy(Sort.by("id")).limit(21).all()));
+    }
+
+    @Test
+    void testKeysetQueriesUseIndexes() {
+        assertIndexed("findAllAfter", () -> movieRepository.findAllAfter(5_000L, Limit.of(20)));
+        assertIndexed("findTopRatedMoviesAfter", () -> movieRepository.findTopRatedMoviesAfter(7.5, 100L, Limit.of(20)));
+        assertIndexed("findLatestMoviesAfter", () -> movieRepository.findLatestMoviesAfter(1990, 100L, Limit.of(20)));
+    }
+
+    @Test
+    void testInverseCollectionsUseJoinTableIndexes() {
+        assertIndexed("Actor.movies", () -> actorRepository.findById(7L).map(Actor::getMovies).orElseThrow());
+        assertIndexed("Director.movies", () -> directorRepository.findById(7L).map(Director::getMovies).orElseThrow());
+        assertIndexed("Award.movies / actors / directors", () -> {
+            Award award = entityManager.find(Award.class, 7L);
+            Hibernate.initialize(award.getActors());
+            Hibernate.initialize(award.getDirectors());
+            return award.getMovies();
+        });
+    }
+
+    private List<Movie> filter(MovieFilter filter, String sortBy) {
+        return movieRepository.findAll(MovieSpecifications.matching(filter),
+                PageRequest.of(0, 20, MovieFilter.sort(sortBy, "desc"))).getContent();
+    }
+
+    private void assertIndexed(String name, Supplier<?> query) {
+        assertPlans(name, query, plan -> !isFullScan(plan));
+    }
+
+    // Sorguyu (ve dönen koleksiyonların yüklenmesini) bir transaction içinde çalıştırır; yakalanan planlardan
+    // beklentiyi karşılamayanları SQL ve planla birlikte raporlar
+    private void assertPlans(String name, Supplier<?> query, Predicate<String> expectation) {
+        plans.clear();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Object result = query.get();
+            if (result instanceof Iterable<?> items) {
+                items.forEach(Hibernate::initialize);
+            }
+            Hibernate.initialize(result);
+        });
+        assertFalse(plans.isEmpty(), name + " hiç SELECT çalıştırmadı");
+        List<String> scans = plans.stream().filter(expectation.negate()).collect(Collectors.toList());
+        assertTrue(scans.isEmpty(), name + " tablo taraması yapıyor:\n" + String.join("\n\n", scans));
+    }
+
+    // Koşulsuz indeks okuması yalnızca sıralama indeksten geliyorsa (LIMIT'e kadar okunur)
+    // ya da COUNT indeksten cevaplanıyorsa kabul edilir
+    private static boolean isFullScan(String plan) {
+        if (plan.contains(".tableScan")) {
+            return true;
+        }
+        return FULL_INDEX_SCAN.matcher(plan).find()
+                && !plan.contains("/* index sorted */") && !plan.contains("/* direct lookup */");
+    }
+
+    private static List<Long> distinct(Random random, int count, int bound) {
+        return random.longs(1, bound + 1).distinct().limit(count).boxed().collect(Collectors.toList());
+    }
+
+    // DataSource'u sarar: PreparedStatement ile çalışan her SELECT'ten önce aynı bağlantıda
+    // aynı parametrelerle EXPLAIN çalıştırıp planı kaydeder
+    @TestConfiguration
+    static class PlanCaptureConfig {
+
+        @Bean
+        static BeanPostProcessor planCapturingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? new PlanCapturingDataSource(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    private static final class PlanCapturingDataSource extends DelegatingDataSource {
+
+        PlanCapturingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Connection connection = super.getConnection();
+            return proxy(Connection.class, (p, method, args) -> {
+                Object result = invoke(connection, method, args);
+                if (method.getName().equals("prepareStatement") && args[0] instanceof String sql
+                        && sql.trim().toLowerCase().startsWith("select")) {
+                    return proxy(PreparedStatement.class, new ExplainingStatement(connection, (PreparedStatement) result, sql));
+                }
+                return result;
+            });
+        }
+    }
+
+    private static final class ExplainingStatement implements InvocationHandler {
+        private final Connection connection;
+        private final PreparedStatement target;
+        private final String sql;
+        private final List<Object[]> parameterCalls = new ArrayList<>();
+        private final List<Method> parameterMethods = new ArrayList<>();
+
+        ExplainingStatement(Connection connection, PreparedStatement target, String sql) {
+            this.connection = connection;
+            this.target = target;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getName().startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                parameterMethods.add(method);
+                parameterCalls.add(args);
+            } else if (method.getName().equals("clearParameters")) {
+                parameterMethods.clear();
+                parameterCalls.clear();
+            } else if (method.getName().equals("executeQuery") && (args == null || args.length == 0)) {
+                plans.add(explain());
+            }
+            return QueryPlanTest.invoke(target, method, args);
+        }
+
+        private String explain() throws Throwable {
+            try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + sql)) {
+                for (int i = 0; i < parameterMethods.size(); i++) {
+                    QueryPlanTest.invoke(explain, parameterMethods.get(i), parameterCalls.get(i));
+                }
+                try (ResultSet rs = explain.executeQuery()) {
+                    rs.next();
+                    return rs.getString(1);
+                }
+            }
+        }
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(QueryPlanTest.class.getClassLoader(), new Class<?>[] {type}, handler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.denizcan.moviedatabase.integration;
+
+import com.denizcan.moviedatabase.dto.ActorDTO;
+import com.denizcan.moviedatabase.dto.AwardDTO;
+import com.denizcan.moviedatabase.mapper.ActorMapper;
+import com.denizcan.moviedatabase.model.Actor;
+import com.denizcan.moviedatabase.model.Award;
+import com.denizcan.moviedatabase.model.AwardCategory;
+import com.denizcan.moviedatabase.model.AwardTitle;
+import com.denizcan.moviedatabase.repository.ActorRepository;
+import com.denizcan.moviedatabase.repository.AwardRepository;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.util.OptionalLong;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Ödüllü kişi listelerinde ödül koleksiyonlarının ve ödüllerin 2. seviye cache'ten okunduğunu ölçer.
+// Hibernate aynı transaction'da eklenen kayıtları cache'e koymadığı için veri commit edilir ve testten sonra silinir.
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+    private static final int ACTOR_COUNT = 250;
+
+    @Autowired
+    private ActorRepository actorRepository;
+
+    @Autowired
+    private AwardRepository awardRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+    private List<Long> actorIds;
+    private Award oscar;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        oscar = awardRepository.save(award(AwardTitle.OSCAR, AwardCategory.BEST_ACTOR));
+        Set<Award> awards = Set.of(oscar, awardRepository.save(award(AwardTitle.BAFTA, AwardCategory.BEST_ACTOR)));
+        List<Actor> actors = new ArrayList<>();
+        for (int i = 0; i < ACTOR_COUNT; i++) {
+            Actor actor = new Actor();
+            actor.setName("Oyuncu " + i);
+            actor.setAwards(awards);
+            actors.add(actor);
+        }
+        actorIds = actorRepository.saveAll(actors).stream().map(Actor::getId).collect(Collectors.toList());
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        actorRepository.deleteAll();
+        awardRepository.deleteAll();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void testAwardHeavyListing_ServedFromSecondLevelCache() {
+        // Given
+        statistics.clear();
+        listActors();
+        long coldStatements = statistics.getPrepareStatementCount();
+
+        // When
+        statistics.clear();
+        List<ActorDTO> actors = listActors();
+
+        // Then
+        // Soğuk: kişi sorgusu + ceil(250 / 100) ödül IN sorgusu; sıcak: yalnızca kişi sorgusu
+        assertEquals(1 + 3, coldStatements);
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(ACTOR_COUNT, statistics.getCollectionStatistics(Actor.class.getName() + ".awards").getCacheHitCount());
+        assertEquals(ACTOR_COUNT, actors.size());
+        assertTrue(actors.stream().allMatch(a -> a.getAwards().size() == 2));
+    }
+
+    @Test
+    void testAwardUpdate_InvalidatesCachedAward() {
+        // Given
+        listActors();
+
+        // When
+        oscar.setYear(2024);
+        awardRepository.save(oscar);
+
+        // Then
+        List<ActorDTO> actors = listActors();
+        assertTrue(actors.stream()
+                .flatMap(a -> a.getAwards().stream())
+                .filter(a -> a.getId().equals(oscar.getId()))
+                .map(AwardDTO::getYear)
+                .allMatch(year -> year == 2024));
+    }
+
+    @Test
+    void testRegions_BoundedInOwnCacheManager() {
+        // Given
+        CacheManager cacheManager = (CacheManager) entityManagerFactory.getProperties().get(ConfigSettings.CACHE_MANAGER);
+
+        // When
+        CaffeineConfiguration<?, ?> configuration = (CaffeineConfiguration<?, ?>) cacheManager
+                .getCache(Award.class.getName()).getConfiguration(CaffeineConfiguration.class);
+
+        // Then
+        // Sınırlar application.conf'tan gelir; CacheManager sağlayıcının varsayılanı değildir (context'ler arası paylaşılmaz)
+        assertEquals(OptionalLong.of(10_000), configuration.getMaximumSize());
+        assertEquals(OptionalLong.of(3_600_000_000_000L), configuration.getExpireAfterWrite());
+        assertNotEquals(Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getDefaultURI(), cacheManager.getURI());
+    }
+
+    private List<ActorDTO> listActors() {
+        return new TransactionTemplate(transactionManager).execute(status ->
+                actorRepository.findAllById(actorIds).stream().map(ActorMapper::toDTO).collect(Collectors.toList()));
+    }
+
+    private static Award award(AwardTitle title, AwardCategory category) {
+        Award award = new Award();
+        award.setName(title);
+        award.setCategory(category);
+        award.setYear(2010);
+        return award;
+    }
+}
@@ -107,4 +107,26 @@ class MovieMapperTest {
             assertTrue(dto.getGenres().contains(genre.name()));
         }
     }
-} 
\ No newline at end of file
+
+    @Test
+    void testToEntityForUpdate_KeepsFieldsMissingFromDTO() {
+        // Given
+        movie.setSeriesName("Nolan");
+        movie.setVersion(3);
+        MovieDTO dto = MovieMapper.toDTO(movie);
+        dto.setVersion(null);
+        dto.setTitle("Inception (Yönetmen Kurgusu)");
+        dto.setImdbRating(9.0);
+
+        // When
+        Movie updated = MovieMapper.toEntity(dto, movie);
+
+        // Then
+        assertEquals(1L, updated.getId());
+        assertEquals("Inception (Yönetmen Kurgusu)", updated.getTitle());
+        assertEquals(new BigDecimal("160000000"), updated.getBudget());
+        assertEquals(new BigDecimal("836836967"), updated.getBoxOffice());
+        assertEquals("Nolan", updated.getSeriesName());
+        assertEquals(3, updated.getVersion());
+    }
+}
@@ -0,0 +1,173 @@
+package com.denizcan.moviedatabase.repository;
+
+import com.denizcan.moviedatabase.MovieDatabaseApplication;
+import com.denizcan.moviedatabase.dto.MovieFilter;
+import com.denizcan.moviedatabase.model.Movie;
+import com.denizcan.moviedatabase.model.MovieGenre;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+// Filtre kombinasyonlarına göre sayfalı film filtreleme maliyeti (sayfa + COUNT). Eski tek sorgu
+// "(:p IS NULL OR ...)" kalıbında her kombinasyonda aynı planla tabloyu tarar; Specification yalnızca
+// verilen koşulları üretir ve ilgili indeksi kullanır. Çalıştırmak için:
+//   mvn -q test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test \
+//       -Dexec.args="-cp %classpath com.denizcan.moviedatabase.repository.MovieFilterBenchmark"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MovieFilterBenchmark {
+
+    private static final int MOVIE_COUNT = 20_000;
+    private static final int ACTOR_COUNT = 4_000;
+    private static final int DIRECTOR_COUNT = 1_000;
+
+    // Eski findMoviesWithFilters sorgusunun yeni filtrelerle aynı kalıpta genişletilmiş hali
+    private static final String CATCH_ALL_WHERE = "WHERE " +
+            "(:title IS NULL OR LOWER(m.title) LIKE LOWER(CONCAT('%', :title, '%'))) AND " +
+            "(:year IS NULL OR m.year = :year) AND " +
+            "(:minRating IS NULL OR m.imdbRating >= :minRating) AND " +
+            "(bitand(m.genreMask, cast(:genres as Long)) = :genres) AND " +
+            "(:directorId IS NULL OR m.id IN (SELECT dm.id FROM Movie dm JOIN dm.director d WHERE d.id = :directorId)) AND " +
+            "(:actorId IS NULL OR m.id IN (SELECT am.id FROM Movie am JOIN am.cast a WHERE a.id = :actorId)) AND " +
+            "(:minDuration IS NULL OR m.duration >= :minDuration) AND " +
+            "(:maxDuration IS NULL OR m.duration <= :maxDuration) AND " +
+            "(:minBudget IS NULL OR m.budget >= :minBudget) AND " +
+            "(:maxBudget IS NULL OR m.budget <= :maxBudget)";
+
+    @Param({"none", "year", "rating", "director", "actor+year", "genres+duration", "budget"})
+    public String combination;
+
+    private ConfigurableApplicationContext context;
+    private MovieRepository movieRepository;
+    private EntityManagerFactory entityManagerFactory;
+    private MovieFilter filter;
+    private Pageable pageable;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(MovieDatabaseApplication.class)
+                .profiles("test")
+                .run();
+        movieRepository = context.getBean(MovieRepository.class);
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        loadDataset(context.getBean(JdbcTemplate.class));
+        filter = filterFor(combination);
+        pageable = PageRequest.of(0, 20, MovieFilter.sort("imdbRating", "desc"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Movie> catchAllQuery() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            TypedQuery<Movie> page = bind(entityManager.createQuery(
+                    "SELECT m FROM Movie m " + CATCH_ALL_WHERE + " ORDER BY m.imdbRating DESC, m.id ASC", Movie.class));
+            List<Movie> content = page.setMaxResults(pageable.getPageSize()).getResultList();
+            bind(entityManager.createQuery("SELECT COUNT(m) FROM Movie m " + CATCH_ALL_WHERE, Long.class)).getSingleResult();
+            return content;
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    @Benchmark
+    public List<Movie> specification() {
+        return movieRepository.findAll(MovieSpecifications.matching(filter), pageable).getContent();
+    }
+
+    private <T> TypedQuery<T> bind(TypedQuery<T> query) {
+        return query.setParameter("title", filter.getTitle())
+                .setParameter("year", filter.getYear())
+                .setParameter("minRating", filter.getMinRating())
+                .setParameter("genres", MovieGenre.toMask(filter.getGenres()))
+                .setParameter("directorId", filter.getDirectorId())
+                .setParameter("actorId", filter.getActorId())
+                .setParameter("minDuration", filter.getMinDuration())
+                .setParameter("maxDuration", filter.getMaxDuration())
+                .setParameter("minBudget", filter.getMinBudget())
+                .setParameter("maxBudget", filter.getMaxBudget());
+    }
+
+    private static MovieFilter filterFor(String combination) {
+        MovieFilter filter = new MovieFilter();
+        switch (combination) {
+            case "none" -> { }
+            case "year" -> filter.setYear(2001);
+            case "rating" -> filter.setMinRating(9.8);
+            case "director" -> filter.setDirectorId(7L);
+            case "actor+year" -> {
+                filter.setActorId(7L);
+                filter.setYear(2001);
+            }
+            case "genres+duration" -> {
+                filter.setGenres(Set.of(MovieGenre.DRAMA, MovieGenre.CRIME));
+                filter.setMinDuration(90);
+                filter.setMaxDuration(120);
+            }
+            case "budget" -> {
+                filter.setMinBudget(new BigDecimal("150000000"));
+                filter.setMaxBudget(new BigDecimal("160000000"));
+            }
+            default -> throw new IllegalArgumentException("Bilinmeyen kombinasyon: " + combination);
+        }
+        return filter;
+    }
+
+    private static void loadDataset(JdbcTemplate jdbcTemplate) {
+        Random random = new Random(42);
+        MovieGenre[] genres = MovieGenre.values();
+        List<Object[]> movies = new ArrayList<>();
+        List<Object[]> movieActors = new ArrayList<>();
+        List<Object[]> movieDirectors = new ArrayList<>();
+        for (long id = 1; id <= MOVIE_COUNT; id++) {
+            MovieGenre first = genres[random.nextInt(genres.length)];
+            MovieGenre second = genres[(first.ordinal() + 1 + random.nextInt(genres.length - 1)) % genres.length];
+            movies.add(new Object[] {id, "Film " + id, 1920 + random.nextInt(105), (10 + random.nextInt(91)) / 10.0,
+                    80 + random.nextInt(100), BigDecimal.valueOf(1_000_000L + random.nextInt(200_000_000)),
+                    first.bit() | second.bit()});
+            movieActors.add(new Object[] {id, 1L + random.nextInt(ACTOR_COUNT)});
+            movieActors.add(new Object[] {id, 1L + (id % ACTOR_COUNT)});
+            movieDirectors.add(new Object[] {id, 1L + random.nextInt(DIRECTOR_COUNT)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO actor (id, name) VALUES (?, ?)",
+                IntStream.rangeClosed(1, ACTOR_COUNT).mapToObj(i -> new Object[] {i, "Oyuncu " + i}).toList());
+        jdbcTemplate.batchUpdate("INSERT INTO director (id, name) VALUES (?, ?)",
+                IntStream.rangeClosed(1, DIRECTOR_COUNT).mapToObj(i -> new Object[] {i, "Yönetmen " + i}).toList());
+        jdbcTemplate.batchUpdate("INSERT INTO movie (id, title, release_year, imdb_rating, duration, budget, genre_mask) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?)", movies);
+        jdbcTemplate.batchUpdate("MERGE INTO movie_actor (movie_id, actor_id) VALUES (?, ?)", movieActors);
+        jdbcTemplate.batchUpdate("INSERT INTO movie_director (movie_id, director_id) VALUES (?, ?)", movieDirectors);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MovieFilterBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
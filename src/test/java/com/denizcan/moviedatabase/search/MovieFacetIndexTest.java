@@ -0,0 +1,115 @@
+package com.denizcan.moviedatabase.search;
+
+import com.denizcan.moviedatabase.dto.MovieFilter;
+import com.denizcan.moviedatabase.model.Movie;
+import com.denizcan.moviedatabase.model.MovieGenre;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MovieFacetIndexTest {
+
+    private MovieFacetIndex facetIndex;
+
+    @BeforeEach
+    void setUp() {
+        facetIndex = new MovieFacetIndex();
+        facetIndex.index(movie(1L, "Inception", 2010, 8.8, MovieGenre.SCIENCE_FICTION, MovieGenre.ACTION));
+        facetIndex.index(movie(2L, "Interstellar", 2014, 8.7, MovieGenre.SCIENCE_FICTION, MovieGenre.DRAMA));
+        facetIndex.index(movie(3L, "The Godfather", 1972, 9.2, MovieGenre.CRIME, MovieGenre.DRAMA));
+        facetIndex.index(movie(4L, "Insomnia", 2002, 7.2, MovieGenre.CRIME));
+        facetIndex.index(movie(5L, "Following", null, 10.0));
+    }
+
+    @Test
+    void testCount_WithoutFilters() {
+        // When
+        MovieFacetIndex.Facets facets = facetIndex.count(MovieFilter.of(null, null, null));
+
+        // Then
+        assertEquals(5, facets.getTotal());
+        assertEquals(Map.of(MovieGenre.SCIENCE_FICTION, 2L, MovieGenre.ACTION, 1L,
+                MovieGenre.DRAMA, 2L, MovieGenre.CRIME, 2L), facets.getGenres());
+        // Yılı olmayan film on yıl sayılarına girmez; sıralama yeniden eskiye
+        assertEquals(List.of(2010, 2000, 1970), List.copyOf(facets.getDecades().keySet()));
+        assertEquals(2L, facets.getDecades().get(2010));
+        // 10 puan son aralığa düşer
+        assertEquals(Map.of(9, 2L, 8, 2L, 7, 1L), facets.getRatingBands());
+    }
+
+    @Test
+    void testCount_AppliesSameFiltersAsFilterQuery() {
+        // Başlık büyük/küçük harf duyarsız içerir, yıl birebir, puan en az
+        assertEquals(4, facetIndex.count(MovieFilter.of("in", null, null)).getTotal());
+        assertEquals(1, facetIndex.count(MovieFilter.of("IN", 2014, null)).getTotal());
+        assertEquals(Map.of(MovieGenre.SCIENCE_FICTION, 2L, MovieGenre.ACTION, 1L, MovieGenre.DRAMA, 1L),
+                facetIndex.count(MovieFilter.of("in", null, 8.0)).getGenres());
+        assertEquals(0, facetIndex.count(MovieFilter.of("matrix", null, null)).getTotal());
+    }
+
+    @Test
+    void testCount_AppliesGenreDurationAndBudgetFilters() {
+        // Given
+        Movie oppenheimer = movie(6L, "Oppenheimer", 2023, 8.3, MovieGenre.DRAMA, MovieGenre.HISTORY);
+        oppenheimer.setDuration(180);
+        oppenheimer.setBudget(new BigDecimal("100000000"));
+        facetIndex.index(oppenheimer);
+        MovieFilter filter = new MovieFilter();
+
+        // When / Then: türlerin hepsi aranır; süresi / bütçesi olmayan filmler aralık filtresine girmez
+        filter.setGenres(Set.of(MovieGenre.DRAMA, MovieGenre.SCIENCE_FICTION));
+        assertEquals(1, facetIndex.count(filter).getTotal());
+        filter.setGenres(null);
+        filter.setMinDuration(150);
+        assertEquals(1, facetIndex.count(filter).getTotal());
+        filter.setMinDuration(null);
+        filter.setMaxBudget(new BigDecimal("1e8"));
+        assertEquals(Map.of(MovieGenre.DRAMA, 1L, MovieGenre.HISTORY, 1L), facetIndex.count(filter).getGenres());
+    }
+
+    @Test
+    void testCount_RestrictedToMatchingIds() {
+        // Given: yönetmen filtresi indekste yok
+        MovieFilter byDirector = MovieFilter.of(null, null, 8.0);
+        byDirector.setDirectorId(1L);
+
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> facetIndex.count(byDirector));
+        MovieFacetIndex.Facets facets = facetIndex.count(byDirector, Set.of(1L, 2L, 4L, 99L));
+        assertEquals(2, facets.getTotal());
+        assertEquals(Map.of(MovieGenre.SCIENCE_FICTION, 2L, MovieGenre.ACTION, 1L, MovieGenre.DRAMA, 1L), facets.getGenres());
+    }
+
+    @Test
+    void testIndex_UpdatesAndRemovesIncrementally() {
+        // When
+        facetIndex.index(movie(4L, "Insomnia", 2002, 7.9, MovieGenre.CRIME, MovieGenre.THRILLER));
+        facetIndex.remove(1L);
+        facetIndex.remove(99L);
+
+        // Then
+        MovieFacetIndex.Facets facets = facetIndex.count(MovieFilter.of(null, null, null));
+        assertEquals(4, facets.getTotal());
+        assertNull(facets.getGenres().get(MovieGenre.ACTION));
+        assertEquals(1L, facets.getGenres().get(MovieGenre.THRILLER));
+        assertEquals(1L, facets.getDecades().get(2010));
+        assertEquals(1, facetIndex.count(MovieFilter.of("following", null, null)).getTotal());
+    }
+
+    private static Movie movie(Long id, String title, Integer year, double rating, MovieGenre... genres) {
+        Movie movie = new Movie();
+        movie.setId(id);
+        movie.setTitle(title);
+        movie.setYear(year);
+        movie.setImdbRating(rating);
+        movie.setGenre(new HashSet<>(Set.of(genres)));
+        return movie;
+    }
+}
@@ -0,0 +1,114 @@
+package com.denizcan.moviedatabase.search;
+
+import com.denizcan.moviedatabase.model.Movie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MovieFullTextIndexTest {
+
+    private MovieFullTextIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new MovieFullTextIndex();
+        index.index(movie(1L, "Inception", "Rüya içinde rüya konseptini işleyen bilim kurgu filmi"));
+        index.index(movie(2L, "Titanic", "Titanic gemisinin batışını konu alan romantik drama"));
+        index.index(movie(3L, "Pulp Fiction", "Los Angeles suç dünyasını anlatan kült film"));
+        index.index(movie(4L, "The Godfather", "Corleone ailesinin mafya dünyasındaki hikayesi"));
+    }
+
+    @Test
+    void testTokenize_NormalizesCaseAndDiacritics() {
+        assertEquals(List.of("ruya", "icinde", "isik"), TextNormalizer.tokenize("RÜYA İçinde, ışık!"));
+        assertTrue(TextNormalizer.tokenize(null).isEmpty());
+    }
+
+    @Test
+    void testSearch_MatchesTitleAndSynopsis() {
+        assertEquals(List.of(1L), index.search("inception", 10));
+        assertEquals(List.of(1L), index.search("rüya", 10));
+        assertEquals(List.of(2L), index.search("TITANIC", 10));
+        assertTrue(index.search("yokboyle", 10).isEmpty());
+    }
+
+    @Test
+    void testSearch_RanksTitleMatchesHigher() {
+        // Given
+        index.index(movie(5L, "Mafya", "Başka bir film"));
+
+        // When
+        List<Long> result = index.search("mafya", 10);
+
+        // Then
+        assertEquals(List.of(5L, 4L), result);
+    }
+
+    @Test
+    void testSearch_RespectsLimit() {
+        assertEquals(1, index.search("dunyasini dunyasindaki", 1).size());
+    }
+
+    @Test
+    void testSearch_RanksManyCandidates() {
+        // Given
+        for (long id = 10; id < 2_000; id++) {
+            index.index(movie(id, "Film " + id, id % 3 == 0 ? "kara film kara" : "kara"));
+        }
+
+        // When
+        List<Long> result = index.search("kara", 3);
+
+        // Then
+        // Aynı skorlu dokümanlarda küçük id önce gelir
+        assertEquals(List.of(12L, 15L, 18L), result);
+    }
+
+    @Test
+    void testIndex_ReplacesExistingDocument() {
+        // When
+        index.index(movie(2L, "Avatar", "Pandora gezegeni"));
+
+        // Then
+        assertTrue(index.search("titanic", 10).isEmpty());
+        assertEquals(List.of(2L), index.search("pandora", 10));
+        assertEquals(4, index.size());
+    }
+
+    @Test
+    void testRemove() {
+        // When
+        index.remove(1L);
+
+        // Then
+        assertTrue(index.search("inception", 10).isEmpty());
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void testRemove_KeepsSparseIdsSearchable() {
+        // Given: büyük id'ler satır numarasıyla saklanır
+        index.index(movie(5_000_000_000L, "Mafya Babası", "Mafya ailesi"));
+        index.index(movie(7_000_000L, "Son Mafya", "Mafya sokakları"));
+
+        // When: ortadaki satır silinir, son satır onun yerine taşınır
+        index.remove(2L);
+
+        // Then
+        assertTrue(index.search("titanic", 10).isEmpty());
+        assertEquals(List.of(7_000_000L, 5_000_000_000L, 4L), index.search("mafya", 10));
+        assertEquals(List.of(7_000_000L), index.search("sokaklari", 10));
+        assertEquals(5, index.size());
+    }
+
+    private static Movie movie(Long id, String title, String synopsis) {
+        Movie movie = new Movie();
+        movie.setId(id);
+        movie.setTitle(title);
+        movie.setSynopsis(synopsis);
+        return movie;
+    }
+}
@@ -0,0 +1,134 @@
+package com.denizcan.moviedatabase.search;
+
+import com.denizcan.moviedatabase.model.Movie;
+import com.denizcan.moviedatabase.model.MovieGenre;
+import com.denizcan.moviedatabase.search.MovieLeaderboard.Ranking;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MovieLeaderboardTest {
+
+    private MovieLeaderboard leaderboard;
+
+    @BeforeEach
+    void setUp() {
+        leaderboard = new MovieLeaderboard(3);
+        leaderboard.index(movie(1L, 8.8, 2010, MovieGenre.SCIENCE_FICTION));
+        leaderboard.index(movie(2L, 8.7, 2014, MovieGenre.SCIENCE_FICTION, MovieGenre.DRAMA));
+        leaderboard.index(movie(3L, 9.2, 1972, MovieGenre.CRIME, MovieGenre.DRAMA));
+        leaderboard.index(movie(4L, 7.2, 2002, MovieGenre.CRIME));
+        leaderboard.index(movie(5L, 8.7, 2008, MovieGenre.ACTION));
+        leaderboard.loadCompleted();
+    }
+
+    @Test
+    void testPage_ServesTopKInRankingOrder() {
+        // Eşit puanlarda id artan
+        assertEquals(List.of(3L, 1L, 2L), ids(Ranking.RATING, null, 0, 3));
+        assertEquals(List.of(2L, 1L), ids(Ranking.RECENCY, null, 0, 2));
+        assertEquals(5, page(Ranking.RATING, null, 0, 3).orElseThrow().getTotalElements());
+    }
+
+    @Test
+    void testPage_BeyondCapacityFallsBack() {
+        assertTrue(page(Ranking.RATING, null, 1, 3).isEmpty());
+        assertTrue(page(Ranking.RATING, null, 0, 4).isEmpty());
+    }
+
+    @Test
+    void testPage_PerGenre() {
+        assertEquals(List.of(3L, 2L), ids(Ranking.RATING, MovieGenre.DRAMA, 0, 10));
+        assertEquals(List.of(4L, 3L), ids(Ranking.RECENCY, MovieGenre.CRIME, 0, 10));
+        assertEquals(0, page(Ranking.RATING, MovieGenre.HORROR, 0, 10).orElseThrow().getTotalElements());
+    }
+
+    @Test
+    void testIndex_UpdatesAndRemovesIncrementally() {
+        // When
+        leaderboard.index(movie(4L, 9.5, 2002, MovieGenre.CRIME));
+        leaderboard.remove(3L);
+
+        // Then
+        assertEquals(List.of(4L, 1L), ids(Ranking.RATING, null, 0, 2));
+        assertEquals(List.of(4L), ids(Ranking.RATING, MovieGenre.CRIME, 0, 10));
+        assertEquals(4, page(Ranking.RATING, null, 0, 2).orElseThrow().getTotalElements());
+    }
+
+    @Test
+    void testRemove_ShrinksTruncatedBoard() {
+        // Given: 5 filmin ilk 3'ü tutuluyor, 4. sıradaki film bilinmiyor
+        leaderboard.remove(1L);
+
+        // When
+        leaderboard.index(movie(6L, 5.0, 1990, MovieGenre.ACTION));
+
+        // Then
+        assertEquals(List.of(3L, 2L), ids(Ranking.RATING, null, 0, 2));
+        assertTrue(page(Ranking.RATING, null, 0, 3).isEmpty());
+    }
+
+    @Test
+    void testIndex_KeepsKeysOnlyForBoardMovies() {
+        // Given: 5 filmin hepsi en az bir listede
+        assertEquals(5, leaderboard.entryCount());
+
+        // When: hiçbir listeye girmeyen film eklenir, sonra silinir
+        leaderboard.index(movie(6L, 1.0, 1900));
+        int afterIndex = leaderboard.entryCount();
+        long totalAfterIndex = page(Ranking.RATING, null, 0, 3).orElseThrow().getTotalElements();
+        leaderboard.remove(6L);
+
+        // Then: anahtarı tutulmaz ama toplamda sayılır
+        assertEquals(5, afterIndex);
+        assertEquals(6, totalAfterIndex);
+        assertEquals(5, page(Ranking.RATING, null, 0, 3).orElseThrow().getTotalElements());
+    }
+
+    @Test
+    void testRemove_KeepsGenreCountsForSparseIds() {
+        // Given: büyük id satır numarasıyla saklanır
+        leaderboard.index(movie(5_000_000_000L, 6.0, 1999, MovieGenre.HORROR));
+
+        // When: ortadaki satır silinir, son satır onun yerine taşınır
+        leaderboard.remove(2L);
+
+        // Then
+        assertEquals(1, page(Ranking.RATING, MovieGenre.HORROR, 0, 10).orElseThrow().getTotalElements());
+        assertEquals(1, page(Ranking.RATING, MovieGenre.DRAMA, 0, 10).orElseThrow().getTotalElements());
+        assertEquals(5, page(Ranking.RATING, null, 0, 2).orElseThrow().getTotalElements());
+    }
+
+    @Test
+    void testPage_DatabaseUntilLoadCompleted() {
+        MovieLeaderboard loading = new MovieLeaderboard(3);
+        loading.index(movie(1L, 8.8, 2010));
+        assertTrue(loading.page(Ranking.RATING, null, PageRequest.of(0, 1)).isEmpty());
+    }
+
+    private Optional<Page<Long>> page(Ranking ranking, MovieGenre genre, int page, int size) {
+        return leaderboard.page(ranking, genre, PageRequest.of(page, size));
+    }
+
+    private List<Long> ids(Ranking ranking, MovieGenre genre, int page, int size) {
+        return page(ranking, genre, page, size).orElseThrow().getContent();
+    }
+
+    private static Movie movie(Long id, double rating, Integer year, MovieGenre... genres) {
+        Movie movie = new Movie();
+        movie.setId(id);
+        movie.setTitle("Film " + id);
+        movie.setImdbRating(rating);
+        movie.setYear(year);
+        movie.setGenre(new HashSet<>(Set.of(genres)));
+        return movie;
+    }
+}
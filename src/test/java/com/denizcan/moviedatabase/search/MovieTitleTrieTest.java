@@ -0,0 +1,81 @@
+package com.denizcan.moviedatabase.search;
+
+import com.denizcan.moviedatabase.model.Movie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MovieTitleTrieTest {
+
+    private MovieTitleTrie trie;
+
+    @BeforeEach
+    void setUp() {
+        trie = new MovieTitleTrie();
+        trie.index(movie(1L, "Inception", 8.8));
+        trie.index(movie(2L, "Interstellar", 8.7));
+        trie.index(movie(3L, "The Godfather", 9.2));
+        trie.index(movie(4L, "Insomnia", 7.2));
+    }
+
+    @Test
+    void testSuggest_RanksByRating() {
+        assertEquals(List.of(1L, 2L, 4L), suggest("in", 10));
+        assertEquals(List.of(1L, 2L), suggest("In", 2));
+        assertEquals(List.of(2L), suggest("inte", 10));
+    }
+
+    @Test
+    void testSuggest_MatchesWordStarts() {
+        assertEquals(List.of(3L), suggest("god", 10));
+        assertEquals(List.of(3L), suggest("the g", 10));
+        assertTrue(suggest("odfather", 10).isEmpty());
+    }
+
+    @Test
+    void testIndex_UpdatesRating() {
+        // When
+        trie.index(movie(4L, "Insomnia", 9.9));
+
+        // Then
+        assertEquals(List.of(4L, 1L, 2L), suggest("in", 10));
+    }
+
+    @Test
+    void testRemove_PrunesAndRefillsTopList() {
+        // Given: dolu listeden eleman düşünce alt ağaçtan yeniden doldurulmalı
+        for (long id = 10; id < 10 + MovieTitleTrie.MAX_SUGGESTIONS; id++) {
+            trie.index(movie(id, "Star " + id, 5.0 + id / 100.0));
+        }
+        trie.index(movie(99L, "Star Wars", 1.0));
+        assertFalse(suggest("star", 10).contains(99L));
+
+        // When
+        trie.remove(10L);
+        trie.remove(1L);
+
+        // Then
+        assertTrue(suggest("star", 10).contains(99L));
+        assertFalse(suggest("star", 10).contains(10L));
+        assertEquals(List.of(2L, 4L), suggest("in", 10));
+        assertTrue(suggest("incep", 10).isEmpty());
+    }
+
+    private List<Long> suggest(String prefix, int limit) {
+        return trie.suggest(prefix, limit).stream()
+                .map(MovieTitleTrie.Suggestion::getId)
+                .collect(Collectors.toList());
+    }
+
+    private static Movie movie(Long id, String title, double rating) {
+        Movie movie = new Movie();
+        movie.setId(id);
+        movie.setTitle(title);
+        movie.setImdbRating(rating);
+        return movie;
+    }
+}
@@ -0,0 +1,115 @@
+package com.denizcan.moviedatabase.search;
+
+import com.denizcan.moviedatabase.model.Movie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MovieTrigramIndexTest {
+
+    private MovieTrigramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new MovieTrigramIndex();
+        index.index(movie(1L, "Inception"));
+        index.index(movie(2L, "Titanic"));
+        index.index(movie(3L, "Pulp Fiction"));
+        index.index(movie(4L, "The Godfather"));
+        index.index(movie(5L, "Jurassic Park"));
+    }
+
+    @Test
+    void testTrigrams_PadsEachWord() {
+        assertEquals(List.of("  a", " ab", "ab "), List.copyOf(MovieTrigramIndex.trigrams("AB")));
+    }
+
+    @Test
+    void testSearch_ToleratesTypos() {
+        assertEquals(List.of(1L), search("Incepsion"));
+        assertEquals(List.of(4L), search("Godfater"));
+        assertEquals(List.of(5L), search("jurasic park"));
+    }
+
+    @Test
+    void testSearch_ExactMatchRanksFirst() {
+        // Given
+        index.index(movie(6L, "Titanic II"));
+
+        // When
+        List<Long> result = search("titanic");
+
+        // Then
+        assertEquals(List.of(2L, 6L), result);
+    }
+
+    @Test
+    void testSearch_BelowThreshold() {
+        assertTrue(search("xyz").isEmpty());
+    }
+
+    @Test
+    void testIndexAndRemove_Incremental() {
+        // When
+        index.index(movie(1L, "Interstellar"));
+        index.remove(2L);
+
+        // Then
+        assertTrue(search("Incepsion").isEmpty());
+        assertEquals(List.of(1L), search("Intersteller"));
+        assertTrue(search("Titanic").isEmpty());
+    }
+
+    @Test
+    void testTrigrams_CappedPerTitle() {
+        // Given
+        StringBuilder words = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            words.append(" w").append(i);
+        }
+        String longTitle = words.toString();
+        index.index(movie(7L, longTitle));
+
+        // Then
+        assertEquals(MovieTrigramIndex.MAX_TRIGRAMS_PER_TITLE, MovieTrigramIndex.trigrams(longTitle).size());
+        assertEquals(List.of(7L), search(longTitle));
+    }
+
+    @Test
+    void testIndexAndRemove_ReusesTrigramIds() {
+        // When
+        index.remove(1L);
+        index.index(movie(8L, "Inception"));
+
+        // Then
+        assertEquals(List.of(8L), search("Incepsion"));
+    }
+
+    @Test
+    void testRemove_KeepsSparseIdsSearchable() {
+        // Given: büyük id'ler satır numarasıyla saklanır
+        index.index(movie(5_000_000_000L, "Titanic II"));
+
+        // When: ortadaki satır silinir, son satır onun yerine taşınır
+        index.remove(3L);
+
+        // Then
+        assertTrue(search("Pulp Fiction").isEmpty());
+        assertEquals(List.of(2L, 5_000_000_000L), search("titanic"));
+        assertEquals(List.of(5L), search("jurasic park"));
+    }
+
+    private List<Long> search(String title) {
+        return index.search(title, MovieTrigramIndex.DEFAULT_THRESHOLD, 10);
+    }
+
+    private static Movie movie(Long id, String title) {
+        Movie movie = new Movie();
+        movie.setId(id);
+        movie.setTitle(title);
+        return movie;
+    }
+}
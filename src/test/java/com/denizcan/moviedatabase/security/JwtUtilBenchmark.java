@@ -0,0 +1,73 @@
+package com.denizcan.moviedatabase.security;
+
+import com.denizcan.moviedatabase.model.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+// İstek başına JWT doğrulama maliyeti. Çalıştırmak için:
+//   mvn -q test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test \
+//       -Dexec.args="-cp %classpath com.denizcan.moviedatabase.security.JwtUtilBenchmark"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET = "benchmarkSecretKey123456789012345678901234567";
+
+    private JwtUtil cached;
+    private JwtUtil uncached;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        cached = new JwtUtil(SECRET, 3_600_000, 10_000);
+        uncached = new JwtUtil(SECRET, 3_600_000, 0);
+        user = new User("benchmark", "secret", "benchmark@example.com", User.Role.USER);
+        token = cached.generateToken(user);
+    }
+
+    // Eski yol: her çağrıda yeni anahtar + parser, kullanıcı adı ve süre için iki ayrı parse
+    @Benchmark
+    public boolean legacyDoubleParse() {
+        String username = legacyParse(token).getSubject();
+        return username.equals(user.getUsername()) && legacyParse(token).getExpiration().after(new Date());
+    }
+
+    // Tek parse, önbelleksiz: imza her istekte doğrulanır
+    @Benchmark
+    public boolean singleParse() {
+        return uncached.isTokenValid(uncached.extractAllClaims(token), user);
+    }
+
+    // Aynı token tekrar geldiğinde: HMAC / base64 yok, yalnızca map araması
+    @Benchmark
+    public boolean cachedToken() {
+        return cached.isTokenValid(cached.extractAllClaims(token), user);
+    }
+
+    private static Claims legacyParse(String token) {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtUtilBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
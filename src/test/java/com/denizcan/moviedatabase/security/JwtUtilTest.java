@@ -0,0 +1,129 @@
+package com.denizcan.moviedatabase.security;
+
+import com.denizcan.moviedatabase.model.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtUtilTest {
+
+    private static final String SECRET = "testSecretKey12345678901234567890123456789012";
+
+    private JwtUtil jwtUtil;
+    private User alice;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil(SECRET, 60_000, 100);
+        alice = user("alice");
+    }
+
+    @Test
+    void testValidateToken() {
+        // Given
+        String token = jwtUtil.generateToken(alice);
+
+        // Then
+        assertEquals("alice", jwtUtil.extractUsername(token));
+        assertTrue(jwtUtil.validateToken(token, alice));
+        assertFalse(jwtUtil.validateToken(token, user("bob")));
+    }
+
+    @Test
+    void testGenerateToken_EmbedsRoleAndTokenVersion() {
+        // Given
+        User admin = new User("root", "secret", "root@example.com", User.Role.ADMIN);
+        admin.setTokenVersion(3);
+
+        // When
+        Claims claims = jwtUtil.extractAllClaims(jwtUtil.generateToken(admin));
+
+        // Then
+        assertEquals("ADMIN", jwtUtil.extractRole(claims));
+        assertEquals(3, jwtUtil.extractTokenVersion(claims));
+    }
+
+    @Test
+    void testExtractAllClaims_CachesVerifiedToken() {
+        // Given
+        String token = jwtUtil.generateToken(alice);
+
+        // When
+        Claims first = jwtUtil.extractAllClaims(token);
+        Claims second = jwtUtil.extractAllClaims(token);
+
+        // Then: ikinci çağrı parse etmeden önbellekten döner
+        assertSame(first, second);
+        assertTrue(jwtUtil.isTokenValid(second, alice));
+    }
+
+    @Test
+    void testExtractAllClaims_RejectsTamperedToken() {
+        // Given
+        String token = jwtUtil.generateToken(alice);
+        JwtUtil otherKey = new JwtUtil(SECRET.replace('1', '9'), 60_000, 100);
+
+        // Then
+        assertThrows(JwtException.class, () -> otherKey.extractAllClaims(token));
+        assertThrows(JwtException.class, () -> jwtUtil.extractAllClaims(token.substring(0, token.length() - 2)));
+    }
+
+    @Test
+    void testExtractAllClaims_RejectsExpiredToken() {
+        // Given
+        JwtUtil expiring = new JwtUtil(SECRET, -1_000, 100);
+        String token = expiring.generateToken(alice);
+
+        // Then
+        assertThrows(ExpiredJwtException.class, () -> expiring.extractAllClaims(token));
+        assertThrows(ExpiredJwtException.class, () -> expiring.extractAllClaims(token));
+    }
+
+    @Test
+    void testExtractAllClaims_CacheIsBounded() {
+        // Given
+        JwtUtil small = new JwtUtil(SECRET, 60_000, 1);
+
+        // When: önbellek dolu; yeni token'lar taranmadan eklenir, fazlası tahliye edilir
+        for (int i = 0; i < 50; i++) {
+            String token = small.generateToken(user("user" + i));
+            assertEquals("user" + i, small.extractAllClaims(token).getSubject());
+        }
+
+        // Then
+        assertTrue(small.cachedTokenCount() <= 1);
+    }
+
+    @Test
+    void testExtractAllClaims_CachedTokenExpiresWithToken() {
+        // Given
+        // exp saniye hassasiyetinde yazılır: token en az 500 ms geçerli, en geç 1500 ms'de dolar
+        JwtUtil shortLived = new JwtUtil(SECRET, 1_500, 100);
+        String token = shortLived.generateToken(alice);
+        shortLived.extractAllClaims(token);
+        assertEquals(1, shortLived.cachedTokenCount());
+
+        // When
+        await(1_600);
+
+        // Then: önbellekteki kayıt exp anında düşer, süresi dolmuş token yeniden doğrulanıp reddedilir
+        assertEquals(0, shortLived.cachedTokenCount());
+        assertThrows(ExpiredJwtException.class, () -> shortLived.extractAllClaims(token));
+    }
+
+    private static void await(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static User user(String username) {
+        return new User(username, "secret", username + "@example.com", User.Role.USER);
+    }
+}
@@ -0,0 +1,98 @@
+package com.denizcan.moviedatabase.security;
+
+import com.denizcan.moviedatabase.MovieDatabaseApplication;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+// Giriş (BCrypt) yükü altında okuma isteklerinin gecikmesi. Uygulama gerçek bir HTTP portunda açılır:
+//   idle:  yalnızca GET /movies/top-rated?view=summary&size=20
+//   flood: aynı okuma, yanında 40 thread döngü halinde POST /auth/login (kuyruk dolunca 503 de sayılır)
+// SampleTime modu okuma için p50 / p99 yüzdeliklerini verir. Çalıştırmak için:
+//   mvn -q test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test \
+//       -Dexec.args="-cp %classpath com.denizcan.moviedatabase.security.LoginFloodBenchmark"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class LoginFloodBenchmark {
+
+    private static final String USERNAME = "flood";
+    private static final String PASSWORD = "flood-password";
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private URI readUri;
+    private HttpRequest loginRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, InterruptedException {
+        // data.sql yüklenir; istek başına SQL / istatistik logları ölçümü domine etmesin
+        context = new SpringApplicationBuilder(MovieDatabaseApplication.class)
+                .profiles("test")
+                .properties("spring.sql.init.mode=always",
+                        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN")
+                .run();
+        String base = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        client = HttpClient.newHttpClient();
+        readUri = URI.create(base + "/movies/top-rated?view=summary&size=20");
+        String credentials = "{\"username\":\"" + USERNAME + "\",\"password\":\"" + PASSWORD
+                + "\",\"email\":\"" + USERNAME + "@example.com\"}";
+        client.send(post(base + "/auth/register", credentials), HttpResponse.BodyHandlers.discarding());
+        loginRequest = post(base + "/auth/login", credentials);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int idle() throws IOException, InterruptedException {
+        return read();
+    }
+
+    @Benchmark
+    @Group("flood")
+    @GroupThreads(1)
+    public int floodRead() throws IOException, InterruptedException {
+        return read();
+    }
+
+    @Benchmark
+    @Group("flood")
+    @GroupThreads(40)
+    public int floodLogin() throws IOException, InterruptedException {
+        return client.send(loginRequest, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private int read() throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(readUri).GET().build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private static HttpRequest post(String uri, String json) {
+        return HttpRequest.newBuilder(URI.create(uri))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(LoginFloodBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,45 @@
+package com.denizcan.moviedatabase.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MovieCursorTest {
+
+    @Test
+    void testEncodeDecode_WithDoubleKey() {
+        // When
+        MovieCursor cursor = MovieCursor.decode(MovieCursor.encode(8.8, 42L));
+
+        // Then
+        assertEquals(8.8, cursor.keyAsDouble());
+        assertEquals(42L, cursor.getId());
+    }
+
+    @Test
+    void testEncodeDecode_WithIntKey() {
+        // When
+        MovieCursor cursor = MovieCursor.decode(MovieCursor.encode(2010, 7L));
+
+        // Then
+        assertEquals(2010, cursor.keyAsInt());
+        assertEquals(7L, cursor.getId());
+    }
+
+    @Test
+    void testEncodeDecode_WithoutKey() {
+        // When
+        MovieCursor cursor = MovieCursor.decode(MovieCursor.encode(null, 15L));
+
+        // Then
+        assertEquals(15L, cursor.getId());
+    }
+
+    @Test
+    void testDecode_WithInvalidCursor() {
+        assertThrows(IllegalArgumentException.class, () -> MovieCursor.decode("!!geçersiz!!"));
+        assertThrows(IllegalArgumentException.class, () -> MovieCursor.decode("YWJj"));
+        assertThrows(IllegalArgumentException.class,
+                () -> MovieCursor.decode(MovieCursor.encode("abc", 1L)).keyAsDouble());
+    }
+}
@@ -1,19 +1,45 @@
 package com.denizcan.moviedatabase.service;
 
+import com.denizcan.moviedatabase.dto.CursorPage;
+import com.denizcan.moviedatabase.dto.MovieFilter;
+import com.denizcan.moviedatabase.exception.ResourceNotFoundException;
 import com.denizcan.moviedatabase.model.Movie;
+import com.denizcan.moviedatabase.model.MovieGenre;
 import com.denizcan.moviedatabase.repository.MovieRepository;
+import com.denizcan.moviedatabase.search.MovieFacetIndex;
+import com.denizcan.moviedatabase.search.MovieFullTextIndex;
+import com.denizcan.moviedatabase.search.MovieIndex;
+import com.denizcan.moviedatabase.search.MovieLeaderboard;
+import com.denizcan.moviedatabase.search.MovieLeaderboard.Ranking;
+import com.denizcan.moviedatabase.search.MovieTitleTrie;
+import com.denizcan.moviedatabase.search.MovieTrigramIndex;
+import com.denizcan.moviedatabase.service.impl.MovieCounter;
 import com.denizcan.moviedatabase.service.impl.MovieServiceImpl;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -24,6 +50,30 @@ class MovieServiceTest {
     @Mock
     private MovieRepository movieRepository;
 
+    @Mock
+    private MovieFullTextIndex fullTextIndex;
+
+    @Mock
+    private MovieTrigramIndex trigramIndex;
+
+    @Mock
+    private MovieTitleTrie titleTrie;
+
+    @Mock
+    private MovieLeaderboard leaderboard;
+
+    @Mock
+    private MovieFacetIndex facetIndex;
+
+    @Mock
+    private MovieCounter movieCounter;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private ArrayList<MovieIndex> movieIndexes = new ArrayList<>();
+
     @InjectMocks
     private MovieServiceImpl movieService;
 
@@ -112,12 +162,263 @@ class MovieServiceTest {
     @Test
     void testDeleteById() {
         // Given
-        doNothing().when(movieRepository).deleteById(1L);
+        when(movieRepository.deleteMovieById(1L)).thenReturn(1);
 
         // When
         movieService.deleteById(1L);
 
         // Then
-        verify(movieRepository, times(1)).deleteById(1L);
+        verify(movieRepository, times(1)).deleteMovieById(1L);
+        verify(movieRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void testDeleteById_WhenNoRowDeleted() {
+        // Given
+        movieIndexes.add(fullTextIndex);
+        when(movieRepository.deleteMovieById(999L)).thenReturn(0);
+
+        // When & Then
+        assertThrows(ResourceNotFoundException.class, () -> movieService.deleteById(999L));
+        verify(fullTextIndex, never()).remove(anyLong());
+    }
+
+    @Test
+    void testFindAllByCursor_WithNextPage() {
+        // Given
+        Movie movie2 = new Movie();
+        movie2.setId(2L);
+        movie2.setImdbRating(8.0);
+        when(movieRepository.findTopRatedMoviesAfter(Double.MAX_VALUE, 0L, Limit.of(2)))
+                .thenReturn(Arrays.asList(testMovie, movie2));
+
+        // When
+        CursorPage<Movie> page = movieService.findTopRatedMovies(null, 1);
+
+        // Then
+        assertEquals(1, page.getContent().size());
+        assertFalse(page.isLast());
+        MovieCursor cursor = MovieCursor.decode(page.getNextCursor());
+        assertEquals(8.8, cursor.keyAsDouble());
+        assertEquals(1L, cursor.getId());
+    }
+
+    @Test
+    void testFindAllByCursor_LastPage() {
+        // Given
+        when(movieRepository.findAllAfter(1L, Limit.of(11))).thenReturn(List.of());
+
+        // When
+        CursorPage<Movie> page = movieService.findAll(MovieCursor.encode(null, 1L), 10);
+
+        // Then
+        assertTrue(page.getContent().isEmpty());
+        assertTrue(page.isLast());
+    }
+
+    @Test
+    void testFindAllByCursor_WithInvalidLimit() {
+        assertThrows(IllegalArgumentException.class, () -> movieService.findAll(null, 0));
+        assertThrows(IllegalArgumentException.class, () -> movieService.findAll(null, 101));
+    }
+
+    @Test
+    void testSaveAndDelete_UpdateIndexes() {
+        // Given
+        movieIndexes.add(fullTextIndex);
+        when(movieRepository.save(testMovie)).thenReturn(testMovie);
+        when(movieRepository.deleteMovieById(1L)).thenReturn(1);
+
+        // When
+        movieService.save(testMovie);
+        movieService.deleteById(1L);
+
+        // Then
+        verify(fullTextIndex, times(1)).index(testMovie);
+        verify(fullTextIndex, times(1)).remove(1L);
+    }
+
+    @Test
+    void testSearchFullText_KeepsIndexOrder() {
+        // Given
+        Movie movie2 = new Movie();
+        movie2.setId(2L);
+        movie2.setTitle("Titanic");
+        when(fullTextIndex.search("rüya", 10)).thenReturn(List.of(2L, 1L));
+        when(movieRepository.findAllById(List.of(2L, 1L))).thenReturn(new ArrayList<>(List.of(testMovie, movie2)));
+
+        // When
+        List<Movie> result = movieService.searchFullText("rüya", 10);
+
+        // Then
+        assertEquals(2L, result.get(0).getId());
+        assertEquals(1L, result.get(1).getId());
+    }
+
+    @Test
+    void testSearchFullText_RejectsLimitOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> movieService.searchFullText("rüya", 0));
+        assertThrows(IllegalArgumentException.class, () -> movieService.searchFullText("rüya", 101));
+        verifyNoInteractions(fullTextIndex);
+    }
+
+    @Test
+    void testFindByTitleFuzzy() {
+        // Given
+        when(trigramIndex.search("Incepsion", MovieTrigramIndex.DEFAULT_THRESHOLD, 5)).thenReturn(List.of(1L));
+        when(movieRepository.findAllById(List.of(1L))).thenReturn(new ArrayList<>(List.of(testMovie)));
+
+        // When
+        List<Movie> result = movieService.findByTitleFuzzy("Incepsion", 5);
+
+        // Then
+        assertEquals(1, result.size());
+        assertEquals("Inception", result.get(0).getTitle());
+    }
+
+    @Test
+    void testSuggestTitles_CapsLimit() {
+        // When
+        movieService.suggestTitles("inc", 50);
+
+        // Then
+        verify(titleTrie, times(1)).suggest("inc", MovieTitleTrie.MAX_SUGGESTIONS);
+        verifyNoInteractions(movieRepository);
+    }
+
+    @Test
+    void testFindTopRatedMovies_ServedFromLeaderboard() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 1);
+        when(leaderboard.page(Ranking.RATING, null, pageable))
+                .thenReturn(Optional.of(new PageImpl<>(List.of(1L), pageable, 42)));
+        when(movieRepository.findAllById(List.of(1L))).thenReturn(new ArrayList<>(List.of(testMovie)));
+
+        // When
+        Page<Movie> page = movieService.findTopRatedMovies(pageable);
+
+        // Then
+        assertEquals(List.of(testMovie), page.getContent());
+        assertEquals(42, page.getTotalElements());
+        verify(movieRepository, never()).findTopRatedMovies(any());
+    }
+
+    @Test
+    void testFindLatestMoviesByGenre_DeepPageFallsBackToDatabase() {
+        // Given
+        Pageable pageable = PageRequest.of(500, 10);
+        Page<Movie> dbPage = new PageImpl<>(List.of(testMovie), pageable, 5001);
+        when(leaderboard.page(Ranking.RECENCY, MovieGenre.DRAMA, pageable)).thenReturn(Optional.empty());
+        when(movieRepository.findLatestMoviesByGenre(MovieGenre.DRAMA, pageable)).thenReturn(dbPage);
+
+        // When
+        Page<Movie> page = movieService.findLatestMovies(MovieGenre.DRAMA, pageable);
+
+        // Then
+        assertSame(dbPage, page);
+    }
+
+    @Test
+    void testFindByGenres_PassesGenreMasks() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<Movie> dbPage = new PageImpl<>(List.of(testMovie), pageable, 1);
+        long all = MovieGenre.ACTION.bit() | MovieGenre.SCIENCE_FICTION.bit();
+        when(movieRepository.findByGenreMask(all, 0L, MovieGenre.HORROR.bit(), pageable)).thenReturn(dbPage);
+
+        // When
+        Page<Movie> page = movieService.findByGenres(Set.of(MovieGenre.ACTION, MovieGenre.SCIENCE_FICTION),
+                null, Set.of(MovieGenre.HORROR), pageable);
+
+        // Then
+        assertSame(dbPage, page);
+    }
+
+    @Test
+    void testFindMoviesWithFilters_UsesSpecification() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10, MovieFilter.sort("year", "desc"));
+        Page<Movie> dbPage = new PageImpl<>(List.of(testMovie), pageable, 1);
+        MovieFilter filter = MovieFilter.of(null, 2024, null);
+        when(movieRepository.findAll(ArgumentMatchers.<Specification<Movie>>any(), eq(pageable))).thenReturn(dbPage);
+
+        // When
+        Page<Movie> page = movieService.findMoviesWithFilters(filter, pageable);
+
+        // Then
+        assertSame(dbPage, page);
+    }
+
+    @Test
+    void testFilterSort_AllowsOnlyIndexedFields() {
+        // When
+        Sort sort = MovieFilter.sort("imdbRating", "desc");
+
+        // Then
+        assertEquals(Sort.by(Sort.Order.desc("imdbRating"), Sort.Order.asc("id")), sort);
+        assertEquals(Sort.by("id").descending(), MovieFilter.sort("id", "desc"));
+        assertThrows(IllegalArgumentException.class, () -> MovieFilter.sort("budget", "asc"));
+    }
+
+    @Test
+    void testFindTopRatedMovies_NoneCountReturnsSlice() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 1);
+        when(leaderboard.page(Ranking.RATING, null, pageable)).thenReturn(Optional.empty());
+        when(movieRepository.findTopRatedMovieSlice(pageable)).thenReturn(new SliceImpl<>(List.of(testMovie), pageable, true));
+
+        // When
+        Slice<Movie> slice = movieService.findTopRatedMovies(null, pageable, CountMode.NONE);
+
+        // Then
+        assertFalse(slice instanceof Page);
+        assertTrue(slice.hasNext());
+        verify(movieRepository, never()).findTopRatedMovies(any(Pageable.class));
+        verifyNoInteractions(movieCounter);
+    }
+
+    @Test
+    void testFindLatestMovies_ApproximateCountUsesTableStatistics() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 1);
+        when(leaderboard.page(Ranking.RECENCY, null, pageable)).thenReturn(Optional.empty());
+        when(movieRepository.findLatestMovieSlice(pageable)).thenReturn(new SliceImpl<>(List.of(testMovie), pageable, true));
+        when(movieCounter.estimateTotal()).thenReturn(500L);
+
+        // When
+        Page<Movie> page = (Page<Movie>) movieService.findLatestMovies(null, pageable, CountMode.APPROXIMATE);
+
+        // Then
+        assertEquals(500, page.getTotalElements());
+        verify(movieRepository, never()).count();
+    }
+
+    @Test
+    void testFindMoviesWithFilters_CachedCountKeyedByNormalizedFilter() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 1, MovieFilter.sort("title", "asc"));
+        when(movieRepository.findBy(ArgumentMatchers.<Specification<Movie>>any(), any())).thenReturn(new SliceImpl<>(List.of(testMovie), pageable, true));
+        when(movieCounter.cached(eq("filter:" + MovieFilter.of("test", 2024, null).cacheKey()), any())).thenReturn(42L);
+
+        // When
+        Page<Movie> page = (Page<Movie>) movieService.findMoviesWithFilters(MovieFilter.of("TEST", 2024, null), pageable, CountMode.CACHED);
+
+        // Then
+        assertEquals(42, page.getTotalElements());
+        verify(movieRepository, never()).count(ArgumentMatchers.<Specification<Movie>>any());
+    }
+
+    @Test
+    void testFindMoviesWithFilters_LastSliceNeedsNoCount() {
+        // Given
+        Pageable pageable = PageRequest.of(2, 10, MovieFilter.sort("title", "asc"));
+        when(movieRepository.findBy(ArgumentMatchers.<Specification<Movie>>any(), any())).thenReturn(new SliceImpl<>(List.of(testMovie), pageable, false));
+
+        // When
+        Page<Movie> page = (Page<Movie>) movieService.findMoviesWithFilters(new MovieFilter(), pageable, CountMode.CACHED);
+
+        // Then: toplam okunan satırlardan kesin olarak bilinir
+        assertEquals(21, page.getTotalElements());
+        verifyNoInteractions(movieCounter);
     }
-} 
\ No newline at end of file
+}
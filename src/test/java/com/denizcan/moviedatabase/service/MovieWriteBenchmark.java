@@ -0,0 +1,154 @@
+package com.denizcan.moviedatabase.service;
+
+import com.denizcan.moviedatabase.MovieDatabaseApplication;
+import com.denizcan.moviedatabase.dto.MovieDTO;
+import com.denizcan.moviedatabase.dto.MoviePatchDTO;
+import com.denizcan.moviedatabase.mapper.MovieMapper;
+import com.denizcan.moviedatabase.model.Movie;
+import com.denizcan.moviedatabase.model.MovieGenre;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+// Aynı filmleri düzenleyen eşzamanlı istemcilerde yazma throughput'u. Her düzenleme filmi okur (GET) ve
+// tek alanını yazar; sürüm çakışmasında güncel kaydı okuyup tekrar dener (conflicts sayacı).
+//   putMerge: PUT yolu -> toEntity + save (merge: satır yeniden SELECT, tüm kolonlar UPDATE)
+//   patch:    PATCH yolu -> tek UPDATE ... WHERE id = ? AND version = ?
+// hotMovies küçükken istemciler aynı satırlar için yarışır. imdbRating bellek içi indekslerde olduğundan
+// PATCH sonrası film yeniden okunur; duration indekslerde yoktur. Çalıştırmak için:
+//   mvn -q test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test \
+//       -Dexec.args="-cp %classpath com.denizcan.moviedatabase.service.MovieWriteBenchmark"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class MovieWriteBenchmark {
+
+    private static final int MOVIE_COUNT = 2_000;
+    private static final int ACTOR_COUNT = 500;
+
+    @Param({"8", "2000"})
+    public int hotMovies;
+
+    @Param({"imdbRating", "duration"})
+    public String field;
+
+    private ConfigurableApplicationContext context;
+    private MovieService movieService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Test profilindeki Hibernate istatistikleri her oturum için log yazar; ölçümü bu log domine etmesin
+        context = new SpringApplicationBuilder(MovieDatabaseApplication.class)
+                .profiles("test")
+                .properties("logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN")
+                .run();
+        movieService = context.getBean(MovieService.class);
+        loadDataset(context.getBean(JdbcTemplate.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Editor {
+        private final Random random = new Random();
+        public long conflicts;
+
+        long nextMovieId(int hotMovies) {
+            return 1L + random.nextInt(hotMovies);
+        }
+
+        double nextRating() {
+            return (10 + random.nextInt(91)) / 10.0;
+        }
+
+        int nextDuration() {
+            return 80 + random.nextInt(100);
+        }
+    }
+
+    @Benchmark
+    public Movie putMerge(Editor editor) {
+        long id = editor.nextMovieId(hotMovies);
+        while (true) {
+            Movie existing = movieService.findById(id).orElseThrow();
+            MovieDTO dto = MovieMapper.toDTO(existing);
+            if (field.equals("imdbRating")) {
+                dto.setImdbRating(editor.nextRating());
+            } else {
+                dto.setDuration(editor.nextDuration());
+            }
+            try {
+                return movieService.save(MovieMapper.toEntity(dto, existing));
+            } catch (OptimisticLockingFailureException e) {
+                editor.conflicts++;
+            }
+        }
+    }
+
+    @Benchmark
+    public long patch(Editor editor) {
+        long id = editor.nextMovieId(hotMovies);
+        while (true) {
+            MoviePatchDTO patch = new MoviePatchDTO();
+            patch.setVersion(movieService.findById(id).orElseThrow().getVersion());
+            if (field.equals("imdbRating")) {
+                patch.setImdbRating(editor.nextRating());
+            } else {
+                patch.setDuration(editor.nextDuration());
+            }
+            try {
+                return movieService.patch(id, patch);
+            } catch (OptimisticLockingFailureException e) {
+                editor.conflicts++;
+            }
+        }
+    }
+
+    private static void loadDataset(JdbcTemplate jdbcTemplate) {
+        Random random = new Random(42);
+        MovieGenre[] genres = MovieGenre.values();
+        List<Object[]> movies = new ArrayList<>();
+        List<Object[]> movieGenres = new ArrayList<>();
+        List<Object[]> movieActors = new ArrayList<>();
+        for (long id = 1; id <= MOVIE_COUNT; id++) {
+            MovieGenre genre = genres[random.nextInt(genres.length)];
+            movies.add(new Object[] {id, "Film " + id, 1920 + random.nextInt(105), (10 + random.nextInt(91)) / 10.0,
+                    80 + random.nextInt(100), BigDecimal.valueOf(1_000_000L + random.nextInt(200_000_000)),
+                    genre.bit()});
+            movieGenres.add(new Object[] {id, genre.name()});
+            movieActors.add(new Object[] {id, 1L + random.nextInt(ACTOR_COUNT)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO actor (id, name) VALUES (?, ?)",
+                IntStream.rangeClosed(1, ACTOR_COUNT).mapToObj(i -> new Object[] {i, "Oyuncu " + i}).toList());
+        jdbcTemplate.batchUpdate("INSERT INTO movie (id, title, release_year, imdb_rating, duration, budget, genre_mask) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?)", movies);
+        jdbcTemplate.batchUpdate("INSERT INTO movie_genres (movie_id, genre) VALUES (?, ?)", movieGenres);
+        jdbcTemplate.batchUpdate("INSERT INTO movie_actor (movie_id, actor_id) VALUES (?, ?)", movieActors);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MovieWriteBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
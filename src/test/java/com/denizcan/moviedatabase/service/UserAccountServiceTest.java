@@ -0,0 +1,130 @@
+package com.denizcan.moviedatabase.service;
+
+import com.denizcan.moviedatabase.exception.ResourceNotFoundException;
+import com.denizcan.moviedatabase.model.User;
+import com.denizcan.moviedatabase.repository.UserRepository;
+import com.denizcan.moviedatabase.security.TokenVersionRegistry;
+import com.denizcan.moviedatabase.security.UserIdentityFilter;
+import com.denizcan.moviedatabase.service.impl.UserAccountServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserAccountServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserIdentityFilter identityFilter;
+
+    private TokenVersionRegistry tokenVersions;
+    private UserAccountServiceImpl userAccountService;
+    private User alice;
+
+    @BeforeEach
+    void setUp() {
+        tokenVersions = new TokenVersionRegistry(userRepository);
+        userAccountService = new UserAccountServiceImpl(userRepository, tokenVersions, identityFilter);
+        alice = new User("alice", "secret", "alice@example.com", User.Role.USER);
+    }
+
+    @Test
+    void testChangeRole_RevokesExistingTokens() {
+        // Given
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(alice));
+        assertTrue(tokenVersions.isCurrent("alice", 0));
+
+        // When
+        User result = userAccountService.changeRole("alice", User.Role.ADMIN);
+
+        // Then
+        assertEquals(User.Role.ADMIN, result.getRole());
+        assertEquals(1, result.getTokenVersion());
+        assertFalse(tokenVersions.isCurrent("alice", 0));
+        assertTrue(tokenVersions.isCurrent("alice", 1));
+        assertTrue(tokenVersions.isCurrent("bob", 0));
+    }
+
+    @Test
+    void testRevokeTokens_UnknownUser() {
+        // Given
+        when(userRepository.findByUsername("ghost")).thenReturn(Optional.empty());
+
+        // Then
+        assertThrows(ResourceNotFoundException.class, () -> userAccountService.revokeTokens("ghost"));
+    }
+
+    @Test
+    void testRegistryLoad_RestoresBumpedVersions() {
+        // Given
+        alice.setTokenVersion(2);
+        when(userRepository.findByTokenVersionGreaterThan(0)).thenReturn(List.of(alice));
+
+        // When
+        tokenVersions.load();
+
+        // Then
+        assertFalse(tokenVersions.isCurrent("alice", 1));
+        assertTrue(tokenVersions.isCurrent("alice", 2));
+    }
+
+    @Test
+    void testFindConflict_SkipsDatabaseWhenFilterRulesOutBoth() {
+        // Given
+        when(identityFilter.mightContainUsername("new")).thenReturn(false);
+        when(identityFilter.mightContainEmail("new@example.com")).thenReturn(false);
+
+        // When
+        UserAccountService.Conflict conflict = userAccountService.findConflict("new", "new@example.com");
+
+        // Then
+        assertEquals(UserAccountService.Conflict.NONE, conflict);
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void testFindConflict_SingleQueryReportsUsernameFirst() {
+        // Given
+        when(identityFilter.mightContainUsername("alice")).thenReturn(true);
+        when(identityFilter.mightContainEmail("bob@example.com")).thenReturn(true);
+        when(userRepository.findUsernamesByUsernameOrEmail("alice", "bob@example.com"))
+                .thenReturn(List.of("bob", "alice"));
+
+        // Then
+        assertEquals(UserAccountService.Conflict.USERNAME, userAccountService.findConflict("alice", "bob@example.com"));
+        verify(userRepository, times(1)).findUsernamesByUsernameOrEmail(any(), any());
+    }
+
+    @Test
+    void testFindConflict_OnlyQueriesFieldsFilterCannotRuleOut() {
+        // Given: kullanıcı adı filtreye göre kesinlikle yok, email belki var
+        when(identityFilter.mightContainUsername("carol")).thenReturn(false);
+        when(identityFilter.mightContainEmail("alice@example.com")).thenReturn(true);
+        when(userRepository.findUsernamesByUsernameOrEmail(null, "alice@example.com")).thenReturn(List.of("alice"));
+
+        // Then
+        assertEquals(UserAccountService.Conflict.EMAIL, userAccountService.findConflict("carol", "alice@example.com"));
+    }
+
+    @Test
+    void testRegister_AddsToFilter() {
+        // Given
+        when(userRepository.save(alice)).thenReturn(alice);
+
+        // When
+        userAccountService.register(alice);
+
+        // Then
+        verify(identityFilter).add("alice", "alice@example.com");
+    }
+}